@@ -0,0 +1,61 @@
+package com.bizsync.backend.common.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA를 거치지 않는 쓰기(MyBatis 조건부 UPDATE 등)로 바뀐 엔티티의 2차 캐시 항목을 무효화하는 컴포넌트
+ *
+ * <p>Hibernate가 엔티티를 직접 수정할 때와 같은 방식으로, 쓰기 전에 캐시 항목을 잠그고(soft lock)
+ * 트랜잭션이 끝나면(커밋/롤백) 잠금을 풉니다. 잠금을 푼 시각 이전에 시작한 세션은 그 항목을 캐시에 다시 넣지 못하므로,
+ * 커밋 전에 옛 값을 읽은 다른 트랜잭션이 무효화 뒤에 옛 값을 캐시에 되돌려 놓지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 엔티티의 2차 캐시 항목을 현재 트랜잭션이 끝날 때까지 잠급니다. 트랜잭션 밖에서는 바로 제거합니다.
+     *
+     * @param entityClass 엔티티 클래스
+     * @param id          엔티티 ID
+     */
+    public void invalidate(Class<?> entityClass, Object id) {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getRuntimeMetamodels().getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            sessionFactory.getCache().evictEntityData(entityClass, id);
+            return;
+        }
+
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Object key = cacheAccess.generateCacheKey(id, persister, sessionFactory, session.getTenantIdentifier());
+        SoftLock lock = cacheAccess.lockItem(session, key, null);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cacheAccess.unlockItem(session, key, lock);
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.bizsync.backend.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 주기적으로 실행되는 정리 작업(@Scheduled)을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,68 @@
+package com.bizsync.backend.common.config;
+
+import com.bizsync.backend.common.datasource.StatementTimingDataSource;
+import com.bizsync.backend.common.filter.SqlStatsFilter;
+import com.bizsync.backend.common.sqlstats.SqlStatistics;
+import com.bizsync.backend.common.sqlstats.SqlStatsEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 실행 시간 계측 설정 ({@code app.sql-stats.enabled=false}로 끌 수 있음)
+ *
+ * <p>주 DataSource({@code dataSource})를 감싸 JPA와 MyBatis의 모든 SQL 문을 지문별로 집계하고,
+ * 요청마다 문장 수와 실행 시간 합계를 엔드포인트 태그가 붙은 지표로 남깁니다.
+ * 읽기 전용 복제본 라우팅을 켠 경우에도 라우팅 DataSource 바깥 한 곳만 감싸 같은 문장을 두 번 세지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public SqlStatistics sqlStatistics(@Value("${app.sql-stats.max-fingerprints:1000}") int maxFingerprints) {
+        return new SqlStatistics(maxFingerprints);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor(ObjectProvider<SqlStatistics> sqlStatistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementTimingDataSource(dataSource, sqlStatistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 보안 필터 체인보다 먼저 실행되도록 순서를 지정해 등록합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(SqlStatistics sqlStatistics,
+                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatsFilter(sqlStatistics, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlStatistics sqlStatistics) {
+        return new SqlStatsEndpoint(sqlStatistics);
+    }
+}
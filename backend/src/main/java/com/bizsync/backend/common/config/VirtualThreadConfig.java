@@ -0,0 +1,42 @@
+package com.bizsync.backend.common.config;
+
+import com.bizsync.backend.common.thread.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 설정 ({@code spring.threads.virtual.enabled=true}일 때만 적용)
+ *
+ * <p>Tomcat 요청 처리, MVC 비동기 요청, {@code @Async}, {@code @Scheduled}는 같은 설정으로 Spring Boot가 가상 스레드로 바꾸고,
+ * 자체 작업 풀(이벤트 아웃박스, 마감 알림, 엑셀 업로드)은 각 서비스가 같은 설정을 읽어 가상 스레드로 만듭니다.
+ * 여기서는 STOMP 수신/송신 채널을 메시지마다 가상 스레드에서 처리하도록 바꾸고, 고정(pinning) 감지를 켭니다.
+ *
+ * @author BizSync Team
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.threads.virtual.pinned-threshold-ms:20}") long pinnedThresholdMillis) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(pinnedThresholdMillis));
+    }
+}
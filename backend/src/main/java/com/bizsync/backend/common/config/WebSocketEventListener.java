@@ -43,6 +43,8 @@ public class WebSocketEventListener {
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        presenceService.notificationSessionClosed(event.getSessionId());
+
         Optional<Long> userIdOpt = SecurityUtil.getCurrentUserId();
 
         if (userIdOpt.isPresent()) {
@@ -71,8 +73,12 @@ public class WebSocketEventListener {
         }
         Long userId = userIdOpt.get();
 
+        // 개인 알림 구독: /sub/notification/{userId} (본인 채널만 접속 상태로 인정)
+        if (destination.equals("/sub/notification/" + userId)) {
+            presenceService.notificationSubscribed(headerAccessor.getSessionId(), userId);
+        }
         // 채팅방 메시지 구독: /topic/chat/room/{roomId}
-        if (destination.startsWith("/topic/chat/room/")) {
+        else if (destination.startsWith("/topic/chat/room/")) {
             String roomIdStr = destination.substring("/topic/chat/room/".length());
             try {
                 Long roomId = Long.parseLong(roomIdStr);
@@ -0,0 +1,11 @@
+package com.bizsync.backend.common.datasource;
+
+/**
+ * 커넥션을 가져올 DB 경로
+ *
+ * @author BizSync Team
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
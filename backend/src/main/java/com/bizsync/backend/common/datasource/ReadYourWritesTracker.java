@@ -0,0 +1,67 @@
+package com.bizsync.backend.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기억하여, 쓰기 직후의 읽기를 기본 DB로 고정하는 추적기
+ *
+ * <p>쓰기 트랜잭션이 커밋된 뒤 {@code sticky-window-ms} 동안은 같은 사용자의 읽기 전용 트랜잭션도
+ * 기본 DB에서 읽으므로, 복제본 반영이 늦어도 자신이 방금 저장한 내용은 항상 보입니다.
+ *
+ * @author BizSync Team
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyWindowMillis;
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    /**
+     * 사용자의 쓰기 커밋을 기록합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void recordWrite(Long userId) {
+        lastWriteAt.put(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 사용자가 고정 시간 안에 쓰기를 커밋했는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 기본 DB에서 읽어야 하면 true
+     */
+    public boolean isSticky(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < stickyWindowMillis) {
+            return true;
+        }
+        lastWriteAt.remove(userId, writtenAt);
+        return false;
+    }
+
+    /**
+     * 고정 시간이 지난 사용자를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.sticky-window-ms:5000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - stickyWindowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt <= threshold);
+    }
+
+    /**
+     * 고정 중인 사용자 수
+     */
+    public int size() {
+        return lastWriteAt.size();
+    }
+}
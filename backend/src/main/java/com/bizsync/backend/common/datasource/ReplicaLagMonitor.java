@@ -0,0 +1,120 @@
+package com.bizsync.backend.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 확인하는 모니터
+ *
+ * <p>{@code lag-query}의 결과에서 {@code Seconds_Behind_Master}(또는 {@code Seconds_Behind_Source}) 컬럼을,
+ * 없으면 첫 번째 컬럼을 지연 시간(초)으로 읽습니다. 지연이 {@code max-lag-seconds}를 넘거나,
+ * 복제가 멈췄거나(NULL), 조회에 실패하면 복제본을 사용할 수 없는 상태로 보고 읽기도 기본 DB로 보냅니다.
+ * 첫 확인 전에는 사용할 수 없는 상태로 시작합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Master", "Seconds_Behind_Source"};
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean checked;
+    private volatile boolean available;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(1);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 복제 지연을 확인하고 복제본 사용 가능 여부를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query(lagQuery, rs -> rs.next() ? readLag(rs) : null);
+        } catch (DataAccessException e) {
+            update(false, -1, "복제 지연 조회 실패: " + e.getMessage());
+            return;
+        }
+
+        if (lag == null) {
+            update(false, -1, "복제가 동작하지 않음");
+        } else if (lag > maxLagSeconds) {
+            update(false, lag, "복제 지연 " + lag + "초 > 허용 " + maxLagSeconds + "초");
+        } else {
+            update(true, lag, null);
+        }
+    }
+
+    /**
+     * 복제본에서 읽어도 되는지 여부
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연(초), 확인하지 못했으면 -1
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bizsync.datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("복제본 복제 지연(초), 확인하지 못했으면 -1")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("bizsync.datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 복제본으로 보내는 중이면 1")
+                .register(registry);
+    }
+
+    private void update(boolean available, long lagSeconds, String reason) {
+        this.lagSeconds = lagSeconds;
+        if (checked && this.available == available) {
+            return;
+        }
+        checked = true;
+        this.available = available;
+        if (available) {
+            log.info("복제본 읽기 재개 (복제 지연 {}초)", lagSeconds);
+        } else {
+            log.warn("복제본 읽기 중단, 기본 DB로 읽습니다: {}", reason);
+        }
+    }
+
+    private Long readLag(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int lagColumn = 1;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            for (String name : LAG_COLUMNS) {
+                if (name.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    lagColumn = i;
+                }
+            }
+        }
+        long lag = rs.getLong(lagColumn);
+        return rs.wasNull() ? null : lag;
+    }
+}
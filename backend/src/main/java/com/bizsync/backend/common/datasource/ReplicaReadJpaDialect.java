@@ -0,0 +1,50 @@
+package com.bizsync.backend.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션이 2차 캐시에 항목을 넣지 않도록 하는 JpaDialect
+ *
+ * <p>읽기 전용 트랜잭션은 복제본에서 읽을 수 있고, 복제 지연 중에 읽은 옛 값을 공유 캐시에 넣으면
+ * 기본 DB에 커밋된 새 값 대신 캐시 만료 때까지 옛 값이 보입니다. 그래서 읽기 전용 트랜잭션 동안에는
+ * 캐시를 읽기만 하고({@link CacheMode#GET}), 트랜잭션이 끝나면 원래 캐시 모드로 되돌립니다.
+ *
+ * @author BizSync Team
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(@Nullable Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {
+    }
+}
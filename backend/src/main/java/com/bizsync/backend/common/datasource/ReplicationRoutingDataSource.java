@@ -0,0 +1,100 @@
+package com.bizsync.backend.common.datasource;
+
+import com.bizsync.backend.common.util.SecurityUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로, 나머지를 기본 DB로 보내는 라우팅 DataSource
+ *
+ * <p>커넥션을 실제로 가져오는 시점에 경로를 정하므로 {@code LazyConnectionDataSourceProxy}로 감싸서 사용해야
+ * 트랜잭션의 readOnly 여부가 반영됩니다. 읽기 전용 트랜잭션이라도 다음 경우에는 기본 DB로 보냅니다.
+ * <ul>
+ *   <li>복제 지연이 허용치를 넘었거나 확인되지 않은 경우 ({@link ReplicaLagMonitor})</li>
+ *   <li>현재 사용자가 고정 시간 안에 쓰기를 커밋한 경우 ({@link ReadYourWritesTracker})</li>
+ * </ul>
+ *
+ * <p>경로별 선택 횟수는 {@code bizsync.datasource.route} 카운터(route, reason 태그)로 기록합니다.
+ *
+ * @author BizSync Team
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Map<Decision, Counter> counters = new EnumMap<>(Decision.class);
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker,
+                                        MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        for (Decision decision : Decision.values()) {
+            counters.put(decision, Counter.builder("bizsync.datasource.route")
+                    .description("트랜잭션 커넥션을 가져온 DB 경로")
+                    .tag("route", decision.route.name().toLowerCase())
+                    .tag("reason", decision.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Decision decision = decide();
+        counters.get(decision).increment();
+        return decision.route;
+    }
+
+    private Decision decide() {
+        Optional<Long> userId = SecurityUtil.getCurrentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            userId.ifPresent(this::recordWriteAfterCommit);
+            return Decision.WRITE;
+        }
+        if (!lagMonitor.isAvailable()) {
+            return Decision.REPLICA_LAG;
+        }
+        if (userId.isPresent() && readYourWritesTracker.isSticky(userId.get())) {
+            return Decision.RECENT_WRITE;
+        }
+        return Decision.READ_ONLY;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 시점부터 고정 시간을 잽니다. 트랜잭션 밖(지연 로딩 등)의 커넥션은 기록하지 않습니다.
+     */
+    private void recordWriteAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userId);
+            }
+        });
+    }
+
+    /**
+     * 경로 선택 사유
+     */
+    private enum Decision {
+        WRITE(DataSourceRoute.PRIMARY),
+        REPLICA_LAG(DataSourceRoute.PRIMARY),
+        RECENT_WRITE(DataSourceRoute.PRIMARY),
+        READ_ONLY(DataSourceRoute.REPLICA);
+
+        private final DataSourceRoute route;
+
+        Decision(DataSourceRoute route) {
+            this.route = route;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bizsync.backend.common.datasource;
+
+/**
+ * {@link StatementTimingDataSource}로 실행된 SQL 문을 전달받는 리스너
+ *
+ * @author BizSync Team
+ */
+@FunctionalInterface
+public interface StatementListener {
+
+    /**
+     * SQL 문 실행이 끝난 뒤(실패 포함) 호출됩니다.
+     *
+     * @param sql          실행한 SQL (PreparedStatement는 바인딩 전 문장, 배치는 {@code ; }로 이은 문장)
+     * @param elapsedNanos {@code execute*} 호출에 걸린 시간(나노초), 결과 집합을 읽는 시간은 제외
+     */
+    void statementExecuted(String sql, long elapsedNanos);
+}
@@ -37,9 +37,18 @@ public enum ErrorCode {
     KANBAN_TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 업무입니다."),
     KANBAN_TASK_NOT_FOUND_ALT(HttpStatus.NOT_FOUND, "업무를 찾을 수 없습니다."),
 
+    // Excel
+    EXCEL_IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "엑셀 업로드 작업을 찾을 수 없습니다."),
+    EXCEL_IMPORT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 엑셀 업로드 작업에 접근할 권한이 없습니다."),
+    EXCEL_IMPORT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기 중인 엑셀 업로드가 많습니다. 잠시 후 다시 시도해주세요."),
+    EXCEL_IMPORT_ALREADY_FINISHED(HttpStatus.CONFLICT, "이미 종료된 엑셀 업로드 작업입니다."),
+    EXCEL_IMPORT_ERROR_REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "오류 보고서가 없습니다."),
+    EXCEL_FILE_READ_FAILED(HttpStatus.BAD_REQUEST, "엑셀 파일 처리 중 오류가 발생했습니다."),
+
     // Budget
-    BUDGET_EXCEEDED(HttpStatus.BAD_REQUEST, "예산이 초과되었습니다."),
     BUDGET_INSUFFICIENT(HttpStatus.BAD_REQUEST, "프로젝트 예산이 부족합니다."),
+    BUDGET_REFUND_EXCEEDS_USED(HttpStatus.BAD_REQUEST, "환급 금액이 사용 예산보다 큽니다."),
+    BUDGET_ADJUSTMENT_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "보정 후 사용 예산은 0원 이상, 총 예산 이하여야 합니다."),
 
     // Approval
     APPROVAL_NOT_FOUND(HttpStatus.NOT_FOUND, "결재 문서를 찾을 수 없습니다."),
@@ -50,12 +59,17 @@ public enum ErrorCode {
     APPROVAL_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 결재입니다."),
     APPROVAL_SEQUENCE_VIOLATION(HttpStatus.BAD_REQUEST, "이전 결재자가 승인하지 않았습니다."),
     APPROVAL_APPROVER_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 결재자가 포함되어 있습니다."),
+    APPROVAL_DUPLICATE_APPROVER(HttpStatus.BAD_REQUEST, "같은 결재자를 결재선에 두 번 지정할 수 없습니다."),
     APPROVAL_ALREADY_APPROVED(HttpStatus.BAD_REQUEST, "이미 최종 승인된 결재는 취소할 수 없습니다."),
     APPROVAL_ALREADY_REJECTED(HttpStatus.BAD_REQUEST, "이미 반려된 결재는 취소할 수 없습니다."),
     APPROVAL_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "이미 취소된 결재입니다."),
     APPROVAL_REJECT_COMMENT_REQUIRED(HttpStatus.BAD_REQUEST, "반려 사유는 필수입니다."),
     APPROVAL_EXPENSE_PROJECT_REQUIRED(HttpStatus.BAD_REQUEST, "비용 결재는 프로젝트 ID가 필수입니다."),
     APPROVAL_EXPENSE_AMOUNT_REQUIRED(HttpStatus.BAD_REQUEST, "비용 결재는 유효한 금액이 필수입니다."),
+    APPROVAL_NOT_REFUNDABLE(HttpStatus.BAD_REQUEST, "최종 승인된 비용 결재만 환급할 수 있습니다."),
+
+    // Notification
+    NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "알림을 찾을 수 없습니다."),
 
     // Auth
     UNAUTHENTICATED(HttpStatus.UNAUTHORIZED, "인증된 사용자가 없습니다."),
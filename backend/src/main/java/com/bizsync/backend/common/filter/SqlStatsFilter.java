@@ -0,0 +1,72 @@
+package com.bizsync.backend.common.filter;
+
+import com.bizsync.backend.common.sqlstats.SqlStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 실행 시간 합계를 엔드포인트별 지표로 기록하는 필터
+ *
+ * <p>보안 필터보다 먼저 실행되어 JWT 인증의 사용자 조회까지 포함합니다.
+ * {@code bizsync.http.sql}(실행 시간 합계)과 {@code bizsync.http.sql.statements}(문장 수)에
+ * method와 uri(매핑된 URL 패턴) 태그를 붙여 기록하므로, {@code http.server.requests}와 비교해 DB 비중을 볼 수 있습니다.
+ *
+ * @author BizSync Team
+ */
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatistics sqlStatistics;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatsFilter(SqlStatistics sqlStatistics, MeterRegistry meterRegistry) {
+        this.sqlStatistics = sqlStatistics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatistics.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, sqlStatistics.endRequest());
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics.RequestTotals totals) {
+        if (totals == null) {
+            return;
+        }
+        String method = request.getMethod();
+        String uri = uri(request);
+        Timer.builder("bizsync.http.sql")
+                .description("요청 하나에서 실행한 SQL 문의 실행 시간 합계")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(totals.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("bizsync.http.sql.statements")
+                .description("요청 하나에서 실행한 SQL 문 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(totals.getStatements());
+    }
+
+    private static String uri(HttpServletRequest request) {
+        // 경로 변수를 그대로 태그로 쓰면 지표가 끝없이 늘어나므로 매핑된 패턴을 사용
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String value ? value : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bizsync.backend.common.sqlstats;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문을 값과 무관한 형태(지문)로 정규화하는 유틸리티
+ *
+ * <p>주석을 지우고 문자열/숫자 리터럴을 {@code ?}로 바꾼 뒤, 길이가 달라지는 {@code IN (?, ?, ...)} 목록과
+ * 여러 행 {@code VALUES (...), (...)}를 하나로 접고 공백과 대소문자를 맞춥니다.
+ * 같은 쿼리가 파라미터 개수나 인라인된 값만 달라도 같은 지문으로 묶입니다.
+ *
+ * @author BizSync Team
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\r\\n]*");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|''|\\\\.)*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin \\( ?\\?(?: ?, ?\\?)+ ?\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("(\\( ?\\?(?: ?, ?\\?)* ?\\))(?: ?, ?\\( ?\\?(?: ?, ?\\?)* ?\\))+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * SQL 문의 지문을 만듭니다.
+     *
+     * @param sql 실행한 SQL
+     * @return 정규화한 지문
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String normalized = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        normalized = LINE_COMMENT.matcher(normalized).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = ROW_LIST.matcher(normalized).replaceAll("$1");
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+}
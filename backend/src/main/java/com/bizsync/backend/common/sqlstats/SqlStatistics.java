@@ -0,0 +1,182 @@
+package com.bizsync.backend.common.sqlstats;
+
+import com.bizsync.backend.common.datasource.StatementListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행된 SQL 문을 지문별, 요청별로 집계하는 저장소
+ *
+ * <p>지문별 집계는 애플리케이션 시작부터 모든 스레드(요청, 스케줄러, 비동기 작업)의 문장을 모읍니다.
+ * 지문 수는 {@code maxFingerprints}로 제한하며, 가득 찬 뒤 처음 보는 지문은 {@value #OVERFLOW_FINGERPRINT} 하나로 합칩니다.
+ *
+ * <p>요청별 집계는 {@link #beginRequest()}와 {@link #endRequest()} 사이에 같은 스레드에서 실행된 문장만 셉니다.
+ * 다른 스레드로 넘긴 작업(스트리밍 응답, 커밋 후 비동기 전송 등)의 쿼리는 요청 합계에 들어가지 않습니다.
+ *
+ * @author BizSync Team
+ */
+public class SqlStatistics implements StatementListener {
+
+    static final String OVERFLOW_FINGERPRINT = "(other)";
+
+    private final int maxFingerprints;
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+    private final Map<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestTotals> currentRequest = new ThreadLocal<>();
+
+    public SqlStatistics(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    @Override
+    public void statementExecuted(String sql, long elapsedNanos) {
+        RequestTotals request = currentRequest.get();
+        if (request != null) {
+            request.add(elapsedNanos);
+        }
+        statsFor(fingerprint(sql)).add(elapsedNanos);
+    }
+
+    /**
+     * 현재 스레드에서 요청 단위 집계를 시작합니다.
+     */
+    public void beginRequest() {
+        currentRequest.set(new RequestTotals());
+    }
+
+    /**
+     * 현재 스레드의 요청 집계 (진행 중인 값)
+     *
+     * @return 요청 집계, 시작하지 않았으면 null
+     */
+    public RequestTotals currentRequest() {
+        return currentRequest.get();
+    }
+
+    /**
+     * 현재 스레드의 요청 집계를 끝내고 결과를 돌려줍니다.
+     *
+     * @return 요청 집계, 시작하지 않았으면 null
+     */
+    public RequestTotals endRequest() {
+        RequestTotals request = currentRequest.get();
+        currentRequest.remove();
+        return request;
+    }
+
+    /**
+     * 시작 이후 총 실행 시간이 긴 순서로 지문별 집계를 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return 지문별 집계 목록
+     */
+    public List<FingerprintSummary> top(int limit) {
+        return fingerprints.entrySet().stream()
+                .map(entry -> entry.getValue().summarize(entry.getKey()))
+                .sorted(Comparator.comparingDouble(FingerprintSummary::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 지금까지 모은 지문 수
+     */
+    public int fingerprintCount() {
+        return fingerprints.size();
+    }
+
+    private String fingerprint(String sql) {
+        String cached = fingerprintCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        // 리터럴을 인라인한 SQL은 종류가 끝없이 늘 수 있어 캐시 크기도 지문 수 제한에 맞춤
+        if (fingerprintCache.size() < maxFingerprints) {
+            fingerprintCache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private FingerprintStats statsFor(String fingerprint) {
+        FingerprintStats stats = fingerprints.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        String key = fingerprints.size() < maxFingerprints ? fingerprint : OVERFLOW_FINGERPRINT;
+        return fingerprints.computeIfAbsent(key, k -> new FingerprintStats());
+    }
+
+    /**
+     * 요청 하나에서 실행된 SQL 문 수와 실행 시간 합계
+     */
+    public static final class RequestTotals {
+
+        private int statements;
+        private long elapsedNanos;
+
+        void add(long nanos) {
+            statements++;
+            elapsedNanos += nanos;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * 디버그 헤더 값 (예: {@code statements=3; time=4.210ms})
+         */
+        public String toHeaderValue() {
+            return String.format(Locale.ROOT, "statements=%d; time=%.3fms", statements, elapsedNanos / 1_000_000.0);
+        }
+    }
+
+    /**
+     * 지문 하나의 누적 집계
+     *
+     * @param fingerprint 정규화한 SQL
+     * @param count       실행 횟수
+     * @param totalMillis 총 실행 시간(밀리초)
+     * @param meanMillis  평균 실행 시간(밀리초)
+     * @param maxMillis   최대 실행 시간(밀리초)
+     */
+    public record FingerprintSummary(String fingerprint, long count, double totalMillis, double meanMillis,
+                                     double maxMillis) {
+    }
+
+    private static final class FingerprintStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        FingerprintSummary summarize(String fingerprint) {
+            long executions = count.sum();
+            double total = toMillis(totalNanos.sum());
+            return new FingerprintSummary(fingerprint, executions, total,
+                    executions == 0 ? 0 : total / executions, toMillis(maxNanos.get()));
+        }
+
+        private static double toMillis(long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
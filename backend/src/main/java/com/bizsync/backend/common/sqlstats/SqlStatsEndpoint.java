@@ -0,0 +1,37 @@
+package com.bizsync.backend.common.sqlstats;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 시작 이후 총 실행 시간이 긴 SQL 지문을 보여주는 actuator 엔드포인트 ({@code /actuator/sqlstats?limit=20})
+ *
+ * @author BizSync Team
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatistics sqlStatistics;
+
+    public SqlStatsEndpoint(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @ReadOperation
+    public SqlStatsReport topFingerprints(@Nullable Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        return new SqlStatsReport(sqlStatistics.fingerprintCount(), sqlStatistics.top(size));
+    }
+
+    /**
+     * @param fingerprints 지금까지 모은 지문 수
+     * @param top          총 실행 시간 상위 지문
+     */
+    public record SqlStatsReport(int fingerprints, List<SqlStatistics.FingerprintSummary> top) {
+    }
+}
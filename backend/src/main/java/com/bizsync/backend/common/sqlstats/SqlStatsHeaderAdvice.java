@@ -0,0 +1,49 @@
+package com.bizsync.backend.common.sqlstats;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전까지 실행된 SQL 수와 시간을 {@value #HEADER_NAME} 헤더로 돌려주는 디버그용 어드바이스
+ *
+ * <p>직렬화를 시작하기 전에 값을 찍으므로, 전체 응답 시간과 비교하면 DB와 직렬화 중 어디가 느린지 가를 수 있습니다.
+ * {@code app.sql-stats.debug-header=true}일 때만 등록되며, 계측({@code app.sql-stats.enabled})이 꺼져
+ * {@link SqlStatistics} 빈이 없으면 헤더를 보내지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "debug-header", havingValue = "true")
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-SQL-Stats";
+
+    private final SqlStatistics sqlStatistics;
+
+    public SqlStatsHeaderAdvice(ObjectProvider<SqlStatistics> sqlStatistics) {
+        this.sqlStatistics = sqlStatistics.getIfAvailable();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlStatistics != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatistics.RequestTotals totals = sqlStatistics.currentRequest();
+        if (totals != null) {
+            response.getHeaders().set(HEADER_NAME, totals.toHeaderValue());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,104 @@
+package com.bizsync.backend.common.thread;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 것을 감지하는 모니터
+ *
+ * <p>JFR {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 받아, 임계값 이상 고정된 횟수와 시간을
+ * {@code bizsync.threads.virtual.pinned}, {@code bizsync.threads.virtual.pinned.time} 지표로 노출합니다.
+ * synchronized 블록 안에서 DB를 기다리는 코드(드라이버 내부 포함)나 비관적 락 대기가 캐리어를 붙잡으면
+ * 다른 가상 스레드가 실행되지 못하므로, 처음 보는 호출 위치는 스택과 함께 경고 로그로 남깁니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements MeterBinder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 20;
+    private static final int MAX_REPORTED_SITES = 100;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+        } catch (RuntimeException e) {
+            // JFR을 쓸 수 없는 런타임에서도 애플리케이션은 그대로 시작
+            log.warn("가상 스레드 고정 감지를 시작하지 못했습니다: {}", e.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bizsync.threads.virtual.pinned", pinnedCount, LongAdder::sum)
+                .description("임계값 이상 캐리어 스레드에 고정된 가상 스레드 횟수")
+                .register(registry);
+        FunctionCounter.builder("bizsync.threads.virtual.pinned.time", pinnedNanos,
+                        adder -> (double) adder.sum() / TimeUnit.SECONDS.toNanos(1))
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간 합계")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedCount.increment();
+        pinnedNanos.add(duration.toNanos());
+
+        List<String> frames = event.getStackTrace() == null ? List.of()
+                : event.getStackTrace().getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .toList();
+        String site = frames.isEmpty() ? "(unknown)" : String.join("|", frames);
+        // 같은 위치의 고정은 지표로만 집계하고 로그는 처음 한 번만 남김
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("가상 스레드가 캐리어 스레드에 {}ms 동안 고정됨\n\tat {}", duration.toMillis(),
+                    frames.stream().collect(Collectors.joining("\n\tat ")));
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
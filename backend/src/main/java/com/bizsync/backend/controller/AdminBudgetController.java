@@ -0,0 +1,65 @@
+package com.bizsync.backend.controller;
+
+import com.bizsync.backend.common.util.SecurityUtil;
+import com.bizsync.backend.dto.request.BudgetAdjustmentRequestDTO;
+import com.bizsync.backend.dto.request.BudgetRefundRequestDTO;
+import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.service.ApprovalService;
+import com.bizsync.backend.service.BudgetLedgerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자용 프로젝트 예산 관리 REST API 컨트롤러
+ *
+ * <p>승인된 비용 결재의 환급과 사용 예산 보정 API를 제공하며, 모두 예산 원장에 기록됩니다.
+ * ADMIN 권한이 필요합니다.
+ *
+ * @author BizSync Team
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminBudgetController {
+
+    private final ApprovalService approvalService;
+    private final BudgetLedgerService budgetLedgerService;
+
+    /**
+     * 최종 승인된 비용 결재를 취소하고 사용한 예산을 환급합니다.
+     *
+     * @param documentId 비용 결재 문서 ID
+     * @param dto        환급 요청 DTO (환급 사유)
+     * @return 성공 응답
+     */
+    @PostMapping("/approvals/{documentId}/refund")
+    public ResponseEntity<ApiResponse<Void>> refundApprovedExpense(
+            @PathVariable Long documentId,
+            @Valid @RequestBody BudgetRefundRequestDTO dto
+    ) {
+        Long adminId = SecurityUtil.getCurrentUserIdOrThrow();
+        approvalService.refundApprovedExpense(adminId, documentId, dto.reason());
+        return ResponseEntity.ok(ApiResponse.success("비용 결재가 취소되고 예산이 환급되었습니다."));
+    }
+
+    /**
+     * 프로젝트 사용 예산을 보정합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param dto       보정 요청 DTO (변동액, 보정 사유)
+     * @return 성공 응답
+     */
+    @PostMapping("/projects/{projectId}/budget-adjustments")
+    public ResponseEntity<ApiResponse<Void>> adjustUsedBudget(
+            @PathVariable Long projectId,
+            @Valid @RequestBody BudgetAdjustmentRequestDTO dto
+    ) {
+        Long adminId = SecurityUtil.getCurrentUserIdOrThrow();
+        budgetLedgerService.adjust(projectId, dto.delta(), adminId, dto.memo());
+        return ResponseEntity.ok(ApiResponse.success("사용 예산이 보정되었습니다."));
+    }
+}
@@ -1,19 +1,25 @@
 package com.bizsync.backend.controller;
 
 import com.bizsync.backend.dto.response.AdminDashboardStatisticsDTO;
+import com.bizsync.backend.dto.response.AdminMetricSeriesDTO;
 import com.bizsync.backend.dto.response.ApiResponse;
 import com.bizsync.backend.service.AdminDashboardService;
+import com.bizsync.backend.service.AdminMetricsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 /**
  * 관리자 대시보드 REST API 컨트롤러
  *
- * <p>관리자 대시보드 통계 정보 조회 API를 제공합니다.
+ * <p>관리자 대시보드 통계 정보 및 일별 지표 시계열 조회 API를 제공합니다.
  * ADMIN 권한이 필요합니다.
  *
  * @author BizSync Team
@@ -25,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminDashboardController {
 
     private final AdminDashboardService adminDashboardService;
+    private final AdminMetricsService adminMetricsService;
 
     /**
      * 관리자 대시보드 통계 정보를 조회합니다.
@@ -35,4 +42,19 @@ public class AdminDashboardController {
     public ResponseEntity<ApiResponse<AdminDashboardStatisticsDTO>> getDashboardStatistics() {
         return ResponseEntity.ok(ApiResponse.success(adminDashboardService.getDashboardStatistics()));
     }
+
+    /**
+     * 일별 지표 시계열을 조회합니다.
+     *
+     * @param from 시작일 (yyyy-MM-dd, 생략 시 최근 30일)
+     * @param to   종료일 (yyyy-MM-dd, 생략 시 어제)
+     * @return 지표 시계열
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<AdminMetricSeriesDTO>> getMetricSeries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(adminMetricsService.getSeries(from, to)));
+    }
 }
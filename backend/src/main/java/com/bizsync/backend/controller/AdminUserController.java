@@ -6,6 +6,7 @@ import com.bizsync.backend.domain.entity.Role;
 import com.bizsync.backend.dto.request.PasswordResetRequestDTO;
 import com.bizsync.backend.dto.request.UserPositionUpdateRequestDTO;
 import com.bizsync.backend.dto.request.UserRoleUpdateRequestDTO;
+import com.bizsync.backend.dto.response.AdminUserPageDTO;
 import com.bizsync.backend.dto.response.AdminUserStatisticsDTO;
 import com.bizsync.backend.dto.response.ApiResponse;
 import com.bizsync.backend.dto.response.UserDetailResponseDTO;
@@ -58,6 +59,32 @@ public class AdminUserController {
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    /**
+     * 사용자 목록을 최신순 커서 기반으로 조회합니다 (필터링 및 검색 지원).
+     *
+     * <p>페이지 깊이와 관계없이 같은 비용으로 조회하며, 전체 인원은 통계 스냅샷 기준입니다.
+     *
+     * @param status   계정 상태 필터
+     * @param role     사용자 권한 필터
+     * @param position 사용자 직급 필터
+     * @param keyword  검색 키워드
+     * @param cursor   이전 페이지의 마지막 사용자 ID (없으면 처음부터)
+     * @param size     조회할 사용자 수
+     * @return 사용자 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<AdminUserPageDTO>> getUserPage(
+            @RequestParam(required = false) AccountStatus status,
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Position position,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                adminUserService.getUserPage(status, role, position, keyword, cursor, size)));
+    }
+
     /**
      * 사용자 상세 정보를 조회합니다.
      *
@@ -2,10 +2,12 @@ package com.bizsync.backend.controller;
 
 
 import com.bizsync.backend.common.util.SecurityUtil;
+import com.bizsync.backend.dto.request.ApprovalBulkProcessRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalCreateRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalProcessRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalSummaryDTO;
 import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.dto.response.ApprovalBulkResultDTO;
 import com.bizsync.backend.dto.response.ApprovalDetailDTO;
 import com.bizsync.backend.service.ApprovalService;
 import jakarta.validation.Valid;
@@ -19,6 +21,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 결재 관련 REST API 컨트롤러
  *
@@ -81,6 +85,25 @@ public class ApprovalController {
         return ResponseEntity.ok(ApiResponse.success("결재가 정상적으로 처리되었습니다."));
     }
 
+    /**
+     * 여러 결재 문서를 한 번에 승인하거나 반려 처리합니다.
+     *
+     * <p>처리할 수 없는 문서(차례가 아님, 이미 처리됨, 예산 부족 등)가 있어도 나머지 문서는 처리되며, 문서별 결과를 반환합니다.
+     *
+     * @param dto 일괄 결재 처리 요청 DTO
+     * @return 문서별 처리 결과
+     */
+    @PostMapping("/bulk-process")
+    public ResponseEntity<ApiResponse<List<ApprovalBulkResultDTO>>> processApprovals(
+            @Valid @RequestBody ApprovalBulkProcessRequestDTO dto
+    ) {
+        Long approverId = SecurityUtil.getCurrentUserIdOrThrow();
+        List<ApprovalBulkResultDTO> results = approvalService.processApprovals(approverId, dto);
+        long processed = results.stream().filter(ApprovalBulkResultDTO::success).count();
+        return ResponseEntity.ok(ApiResponse.success(results,
+                String.format("%d건 중 %d건이 처리되었습니다.", results.size(), processed)));
+    }
+
     /**
      * 결재 문서 상세 정보를 조회합니다.
      *
@@ -117,7 +140,7 @@ public class ApprovalController {
     @GetMapping("/my-pending")
     public ResponseEntity<ApiResponse<Page<ApprovalSummaryDTO>>> getMyPending(
             @ParameterObject
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 10, sort = "documentId", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         Long userId = SecurityUtil.getCurrentUserIdOrThrow();
         return ResponseEntity.ok(ApiResponse.success(approvalService.getMyPendingApprovals(userId, pageable)));
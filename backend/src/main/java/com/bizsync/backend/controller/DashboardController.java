@@ -1,25 +1,18 @@
 package com.bizsync.backend.controller;
 
 import com.bizsync.backend.common.util.SecurityUtil;
-import com.bizsync.backend.domain.entity.ApprovalStatus;
-import com.bizsync.backend.domain.entity.ColumnType;
-import com.bizsync.backend.domain.entity.ProjectStatus;
-import com.bizsync.backend.domain.repository.ApprovalLineRepository;
-import com.bizsync.backend.domain.repository.ProjectMemberRepository;
-import com.bizsync.backend.domain.repository.TaskRepository;
 import com.bizsync.backend.dto.response.ApiResponse;
 import com.bizsync.backend.dto.response.DashboardStatsDTO;
-import com.bizsync.backend.dto.response.DashboardTaskDTO;
+import com.bizsync.backend.dto.response.DashboardTaskPageDTO;
+import com.bizsync.backend.service.DashboardCounterService;
+import com.bizsync.backend.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * 대시보드 관련 REST API 컨트롤러
  *
@@ -32,9 +25,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final ProjectMemberRepository projectMemberRepository;
-    private final TaskRepository taskRepository;
-    private final ApprovalLineRepository approvalLineRepository;
+    private final DashboardService dashboardService;
+    private final DashboardCounterService dashboardCounterService;
 
     /**
      * 사용자 대시보드 통계 정보를 조회합니다.
@@ -44,41 +36,27 @@ public class DashboardController {
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<DashboardStatsDTO>> getDashboardStats() {
         Long userId = SecurityUtil.getCurrentUserIdOrThrow();
-
-        long projectCount = projectMemberRepository.countByUser_UserIdAndProject_Status(userId,
-                ProjectStatus.IN_PROGRESS);
-
-        long taskCount = taskRepository.countByWorkerIdAndColumnTypeNot(userId, ColumnType.DONE);
-
-        long pendingApprovalCount = approvalLineRepository.countByApprover_UserIdAndStatus(
-                userId,
-                ApprovalStatus.PENDING);
-
-        return ResponseEntity.ok(ApiResponse.success(
-                DashboardStatsDTO.from(projectCount, taskCount, pendingApprovalCount)
-        ));
+        return ResponseEntity.ok(ApiResponse.success(dashboardCounterService.getStats(userId)));
     }
 
     /**
      * 사용자의 미완료 업무 목록을 조회합니다.
      *
-     * <p>마감일이 가까운 순서로 정렬하여 반환합니다.
+     * <p>마감일이 가까운 순서로 정렬하여 반환하며, 마감일이 없는 업무는 마지막에 반환합니다.
+     * 커서 기반 페이지네이션을 사용합니다.
+     * - 최초 로딩: cursor 파라미터 없이 호출
+     * - 다음 페이지: cursor 파라미터에 이전 응답의 nextCursor 값을 전달
      *
-     * @return 미완료 업무 목록
+     * @param cursor 커서 (선택적)
+     * @param size   조회할 업무 개수 (기본값: 20, 최대 100)
+     * @return 미완료 업무 페이지 (업무 목록, hasMore, nextCursor)
      */
     @GetMapping("/my-tasks")
-    public ResponseEntity<ApiResponse<List<DashboardTaskDTO>>> getMyTasks() {
+    public ResponseEntity<ApiResponse<DashboardTaskPageDTO>> getMyTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         Long userId = SecurityUtil.getCurrentUserIdOrThrow();
-
-        List<DashboardTaskDTO> taskList = taskRepository.findByWorker_UserId(userId).stream()
-                .filter(task -> task.getColumn().getColumnType() != ColumnType.DONE)
-                .map(DashboardTaskDTO::from)
-                .sorted(Comparator.comparing(
-                        DashboardTaskDTO::daysLeft,
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                ))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(ApiResponse.success(taskList));
+        return ResponseEntity.ok(ApiResponse.success(dashboardService.getMyTasks(userId, cursor, size)));
     }
 }
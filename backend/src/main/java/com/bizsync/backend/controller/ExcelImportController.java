@@ -0,0 +1,79 @@
+package com.bizsync.backend.controller;
+
+import com.bizsync.backend.common.util.SecurityUtil;
+import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.dto.response.ExcelImportJobDTO;
+import com.bizsync.backend.service.ExcelImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * 엑셀 업로드 작업 관련 REST API 컨트롤러
+ *
+ * <p>업로드 작업 상태 조회, 취소, 오류 보고서 다운로드 API를 제공합니다.
+ * 작업 등록은 {@code POST /api/projects/{projectId}/excel}에서 합니다.
+ *
+ * @author BizSync Team
+ */
+@RestController
+@RequestMapping("/api/excel-imports")
+@RequiredArgsConstructor
+public class ExcelImportController {
+
+    private final ExcelImportJobService excelImportJobService;
+
+    /**
+     * 업로드 작업 상태를 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExcelImportJobDTO>> getJob(@PathVariable String jobId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ResponseEntity.ok(ApiResponse.success(
+                ExcelImportJobDTO.from(excelImportJobService.getJob(jobId, userId))));
+    }
+
+    /**
+     * 업로드 작업을 취소합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청 후 작업 상태
+     */
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<ApiResponse<ExcelImportJobDTO>> cancelJob(@PathVariable String jobId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        ExcelImportJobDTO job = ExcelImportJobDTO.from(excelImportJobService.cancel(jobId, userId));
+        return ResponseEntity.ok(ApiResponse.success(job, "업로드 취소를 요청했습니다."));
+    }
+
+    /**
+     * 실패한 행을 모은 오류 보고서 엑셀 파일을 다운로드합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 오류 보고서 엑셀 파일
+     */
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<Resource> downloadErrorReport(@PathVariable String jobId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        Path reportFile = excelImportJobService.getErrorReport(jobId, userId);
+
+        String filename = "import_errors_" + jobId + ".xlsx";
+        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFilename + "\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(reportFile));
+    }
+}
@@ -1,24 +1,27 @@
 package com.bizsync.backend.controller;
 
+import com.bizsync.backend.common.util.SecurityUtil;
 import com.bizsync.backend.dto.request.ColumnCreateRequestDTO;
 import com.bizsync.backend.dto.request.TaskCreateRequestDTO;
 import com.bizsync.backend.dto.request.TaskMoveRequestDTO;
 import com.bizsync.backend.dto.request.TaskUpdateRequestDTO;
 import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.dto.response.ExcelImportJobDTO;
 import com.bizsync.backend.dto.response.TaskDetailResponseDTO;
+import com.bizsync.backend.service.ExcelImportJobService;
 import com.bizsync.backend.service.ExcelService;
 import com.bizsync.backend.service.KanbanService;
+import com.bizsync.backend.service.excel.ExcelImportJob;
+import com.bizsync.backend.service.excel.TaskExportFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
@@ -35,8 +38,8 @@ import java.nio.charset.StandardCharsets;
 public class KanbanController {
 
     private final KanbanService kanbanService;
-    private final SimpMessagingTemplate messagingTemplate;
     private final ExcelService excelService;
+    private final ExcelImportJobService excelImportJobService;
 
     /**
      * 칸반 컬럼을 생성합니다.
@@ -126,7 +129,7 @@ public class KanbanController {
     /**
      * 업무를 다른 컬럼으로 이동하거나 순서를 변경합니다.
      *
-     * <p>이동 완료 후 WebSocket을 통해 보드 업데이트 알림을 전송합니다.
+     * <p>이동이 커밋된 후 WebSocket을 통해 보드 업데이트 알림을 전송합니다.
      *
      * @param taskId 이동할 업무 ID
      * @param dto    업무 이동 요청 DTO
@@ -138,54 +141,61 @@ public class KanbanController {
             @RequestBody TaskMoveRequestDTO dto
     ) {
         kanbanService.moveTask(taskId, dto.targetColumnId(), dto.newSequence());
-
-        Long projectId = kanbanService.getProjectIdByTaskId(taskId);
-        messagingTemplate.convertAndSend("/topic/projects/" + projectId, "BOARD_UPDATE");
-
         return ResponseEntity.ok(ApiResponse.success("이동 완료"));
     }
 
     /**
-     * 엑셀 파일을 업로드하여 업무를 대량 등록합니다.
+     * 엑셀 파일을 업로드하여 업무 대량 등록 작업을 등록합니다.
+     *
+     * <p>등록은 백그라운드에서 진행되며, 진행 상황은 WebSocket(/sub/excel-import/{userId})으로 전달되고
+     * {@code GET /api/excel-imports/{jobId}}로도 조회할 수 있습니다.
      *
      * @param projectId 프로젝트 ID
      * @param file      엑셀 파일
-     * @return 등록된 업무 수
+     * @return 등록된 업로드 작업
      */
     @PostMapping("/projects/{projectId}/excel")
-    public ResponseEntity<ApiResponse<Integer>> uploadTasksExcel(
+    public ResponseEntity<ApiResponse<ExcelImportJobDTO>> uploadTasksExcel(
             @PathVariable Long projectId,
             @RequestParam("file") MultipartFile file
     ) {
-        try {
-            int count = excelService.uploadTasksFromExcel(projectId, file);
-            return ResponseEntity.ok(ApiResponse.success(count, count + "개의 업무가 등록되었습니다."));
-        } catch (IOException e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("엑셀 파일 처리 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        ExcelImportJob job = excelImportJobService.submit(projectId, userId, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(ExcelImportJobDTO.from(job), "엑셀 업로드 작업이 등록되었습니다."));
     }
 
     /**
-     * 프로젝트의 모든 업무를 엑셀 파일로 다운로드합니다.
+     * 프로젝트의 모든 업무를 파일로 다운로드합니다.
+     *
+     * <p>Accept 헤더로 형식을 고릅니다. {@code text/csv}이면 CSV, {@code application/x-ndjson}이면 NDJSON,
+     * 그 외에는 엑셀(xlsx) 파일을 내려줍니다. 파일 전체를 메모리에 만들지 않고 응답 스트림으로 바로 씁니다.
      *
      * @param projectId 프로젝트 ID
-     * @return 엑셀 파일 (바이트 배열)
+     * @param accept    Accept 헤더
+     * @return 업무 목록 파일 (스트리밍)
      */
     @GetMapping("/projects/{projectId}/excel")
-    public ResponseEntity<byte[]> downloadTasksExcel(@PathVariable Long projectId) {
-        try {
-            byte[] excelData = excelService.downloadTasksAsExcel(projectId);
-
-            String filename = "tasks_" + projectId + ".xlsx";
-            String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFilename + "\"")
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(excelData);
-        } catch (IOException e) {
-            return ResponseEntity.internalServerError().build();
-        }
+    public ResponseEntity<StreamingResponseBody> downloadTasksExcel(
+            @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        excelService.validateProjectExists(projectId);
+        TaskExportFormat format = TaskExportFormat.fromAcceptHeader(accept);
+
+        String filename = "tasks_" + projectId + "." + format.getExtension();
+        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+        StreamingResponseBody body = outputStream -> {
+            // 헤더를 먼저 내보내서 파일 작성 중에도 다운로드가 바로 시작되도록 함
+            outputStream.flush();
+            excelService.writeTasks(projectId, format, outputStream);
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFilename + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .body(body);
     }
 }
@@ -0,0 +1,91 @@
+package com.bizsync.backend.controller;
+
+import com.bizsync.backend.common.util.SecurityUtil;
+import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.dto.response.NotificationPageDTO;
+import com.bizsync.backend.service.NotificationInboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 알림함 관련 REST API 컨트롤러
+ *
+ * <p>알림함 조회, 안 읽은 알림 수 조회, 읽음 처리, 삭제 API를 제공합니다.
+ * 변경 API는 처리 후 안 읽은 알림 수를 반환합니다.
+ *
+ * @author BizSync Team
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationInboxService notificationInboxService;
+
+    /**
+     * 내 알림함을 최신순으로 조회합니다.
+     *
+     * <p>커서 기반 페이지네이션을 사용합니다.
+     * - 최초 로딩: cursor 파라미터 없이 호출
+     * - 다음 페이지: cursor 파라미터에 이전 응답의 nextCursor 값을 전달
+     *
+     * @param cursor 커서 (선택적)
+     * @param size   조회할 알림 개수 (기본값: 20, 최대 50)
+     * @return 알림 페이지 (알림 목록, hasMore, nextCursor, 안 읽은 알림 수)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<NotificationPageDTO>> getNotifications(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ResponseEntity.ok(ApiResponse.success(notificationInboxService.getInbox(userId, cursor, size)));
+    }
+
+    /**
+     * 안 읽은 알림 수를 조회합니다.
+     *
+     * @return 안 읽은 알림 수
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount() {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ResponseEntity.ok(ApiResponse.success(notificationInboxService.getUnreadCount(userId)));
+    }
+
+    /**
+     * 알림을 읽음 처리합니다.
+     *
+     * @param notificationId 알림 ID
+     * @return 안 읽은 알림 수
+     */
+    @PatchMapping("/{notificationId}/read")
+    public ResponseEntity<ApiResponse<Long>> markAsRead(@PathVariable Long notificationId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ResponseEntity.ok(ApiResponse.success(notificationInboxService.markAsRead(userId, notificationId)));
+    }
+
+    /**
+     * 내 알림을 모두 읽음 처리합니다.
+     *
+     * @return 안 읽은 알림 수
+     */
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResponse<Long>> markAllAsRead() {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ResponseEntity.ok(ApiResponse.success(notificationInboxService.markAllAsRead(userId)));
+    }
+
+    /**
+     * 알림을 삭제합니다.
+     *
+     * @param notificationId 알림 ID
+     * @return 안 읽은 알림 수
+     */
+    @DeleteMapping("/{notificationId}")
+    public ResponseEntity<ApiResponse<Long>> deleteNotification(@PathVariable Long notificationId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ResponseEntity.ok(ApiResponse.success(notificationInboxService.delete(userId, notificationId)));
+    }
+}
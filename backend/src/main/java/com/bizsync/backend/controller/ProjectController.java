@@ -5,9 +5,11 @@ import com.bizsync.backend.dto.request.MemberInviteRequestDTO;
 import com.bizsync.backend.dto.request.ProjectCreateRequestDTO;
 import com.bizsync.backend.dto.request.ProjectUpdateRequestDTO;
 import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.dto.response.BudgetLedgerPageDTO;
 import com.bizsync.backend.dto.response.ProjectListResponseDTO;
 import com.bizsync.backend.dto.response.ProjectMemberResponseDTO;
 import com.bizsync.backend.dto.response.kanban.ProjectBoardDTO;
+import com.bizsync.backend.service.BudgetLedgerService;
 import com.bizsync.backend.service.ProjectMemberService;
 import com.bizsync.backend.service.ProjectService;
 import jakarta.validation.Valid;
@@ -33,6 +35,7 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final ProjectMemberService projectMemberService;
+    private final BudgetLedgerService budgetLedgerService;
 
     /**
      * 새로운 프로젝트를 생성합니다.
@@ -153,6 +156,23 @@ public class ProjectController {
         return ResponseEntity.ok(ApiResponse.success("프로젝트가 삭제되었습니다."));
     }
 
+    /**
+     * 프로젝트 예산 원장을 최신순으로 조회합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param cursor    이전 페이지의 마지막 항목 ID (없으면 처음부터)
+     * @param size      조회할 항목 개수
+     * @return 예산 원장 페이지 (원장 기준 사용 예산 포함)
+     */
+    @GetMapping("/{projectId}/budget-ledger")
+    public ResponseEntity<ApiResponse<BudgetLedgerPageDTO>> getBudgetLedger(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(budgetLedgerService.getLedger(projectId, cursor, size)));
+    }
+
     /**
      * 프로젝트 멤버 목록을 조회합니다.
      *
@@ -1,9 +1,9 @@
 package com.bizsync.backend.controller;
 
-import com.bizsync.backend.domain.entity.User;
-import com.bizsync.backend.domain.repository.UserRepository;
 import com.bizsync.backend.dto.response.ApiResponse;
+import com.bizsync.backend.dto.response.UserDirectoryPageDTO;
 import com.bizsync.backend.dto.response.UserSummaryDTO;
+import com.bizsync.backend.service.UserDirectoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,7 +16,7 @@ import java.util.List;
 /**
  * 사용자 관련 REST API 컨트롤러
  *
- * <p>사용자 목록 조회 및 검색 API를 제공합니다.
+ * <p>사용자 목록 조회 및 검색 API를 제공합니다. 모든 조회는 메모리의 사용자 디렉터리 색인으로 처리합니다.
  *
  * @author BizSync Team
  */
@@ -25,7 +25,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController {
 
-    private final UserRepository userRepository;
+    private final UserDirectoryService userDirectoryService;
 
     /**
      * 전체 사용자 목록을 조회합니다.
@@ -34,27 +34,38 @@ public class UserController {
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<UserSummaryDTO>>> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        List<UserSummaryDTO> userList = users.stream()
-                .map(UserSummaryDTO::from)
-                .toList();
+        return ResponseEntity.ok(ApiResponse.success(userDirectoryService.getAllUsers()));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(userList));
+    /**
+     * 사용자 목록을 커서 기반으로 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 사용자 ID (없으면 처음부터)
+     * @param size   조회할 사용자 수
+     * @return 사용자 페이지
+     */
+    @GetMapping("/directory")
+    public ResponseEntity<ApiResponse<UserDirectoryPageDTO>> getUserPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(userDirectoryService.getPage(cursor, size)));
     }
 
     /**
-     * 키워드로 사용자를 검색합니다.
+     * 키워드로 사용자를 검색합니다 (자동완성).
+     *
+     * <p>이름, 이메일, 부서를 검색하며 한글 초성("ㅎㄱㄷ")과 입력 중인 음절("홍기")도 일치합니다.
      *
-     * @param keyword 검색 키워드 (이름 또는 이메일)
-     * @return 검색된 사용자 목록
+     * @param keyword 검색 키워드
+     * @param limit   최대 결과 수
+     * @return 일치도 순으로 정렬된 사용자 목록
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<UserSummaryDTO>>> searchUsers(@RequestParam String keyword) {
-        List<User> users = userRepository.findByNameContainingOrEmailContaining(keyword, keyword);
-        List<UserSummaryDTO> userList = users.stream()
-                .map(UserSummaryDTO::from)
-                .toList();
-
-        return ResponseEntity.ok(ApiResponse.success(userList));
+    public ResponseEntity<ApiResponse<List<UserSummaryDTO>>> searchUsers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(userDirectoryService.search(keyword, limit)));
     }
 }
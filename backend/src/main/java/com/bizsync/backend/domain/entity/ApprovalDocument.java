@@ -7,7 +7,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "approval_document")
+@Table(name = "approval_document", indexes = {
+        @Index(name = "idx_drafter_created", columnList = "drafter_id, created_at"),
+        @Index(name = "idx_current_approver", columnList = "current_approver_id"),
+        @Index(name = "idx_created_at", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -50,22 +54,46 @@ public class ApprovalDocument extends BaseEntity {
 
     private LocalDateTime completedAt;
 
+    // 현재 결재 차례 (결재선 순서와 결재자), 진행 중인 문서만 값이 있고 완료/반려/취소되면 비움
+    @Column(name = "current_sequence")
+    private Integer currentSequence;
+
+    @Column(name = "current_approver_id")
+    private Long currentApproverId;
+
     @PrePersist
     public void prePersist() {
         if (this.status == null)
             this.status = ApprovalStatus.PENDING;
     }
 
+    /**
+     * 현재 결재 차례인지 확인
+     */
+    public boolean isCurrentApprover(Long approverId) {
+        return this.status == ApprovalStatus.PENDING && approverId.equals(this.currentApproverId);
+    }
+
+    /**
+     * 결재 차례를 다음 결재선으로 넘김
+     */
+    public void advanceTo(ApprovalLine nextLine) {
+        this.currentSequence = nextLine.getSequence();
+        this.currentApproverId = nextLine.getApprover().getUserId();
+    }
+
     // 승인
     public void approve() {
         this.status = ApprovalStatus.APPROVED;
         this.completedAt = LocalDateTime.now();
+        clearCurrentStep();
     }
 
     // 반려
     public void reject() {
         this.status = ApprovalStatus.REJECTED;
         this.completedAt = LocalDateTime.now();
+        clearCurrentStep();
     }
 
     /**
@@ -74,6 +102,7 @@ public class ApprovalDocument extends BaseEntity {
     public void cancel() {
         this.status = ApprovalStatus.CANCELLED;
         this.completedAt = LocalDateTime.now();
+        clearCurrentStep();
     }
 
     /**
@@ -83,4 +112,9 @@ public class ApprovalDocument extends BaseEntity {
         return this.type == ApprovalType.EXPENSE;
     }
 
+    private void clearCurrentStep() {
+        this.currentSequence = null;
+        this.currentApproverId = null;
+    }
+
 }
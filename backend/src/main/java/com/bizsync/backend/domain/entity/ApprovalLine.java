@@ -8,7 +8,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "approval_line")
+@Table(name = "approval_line", indexes = {
+        @Index(name = "idx_approver_status", columnList = "approver_id, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
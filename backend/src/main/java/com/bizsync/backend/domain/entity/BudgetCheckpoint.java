@@ -0,0 +1,38 @@
+package com.bizsync.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 예산 원장 체크포인트 엔티티
+ *
+ * <p>lastEntryId까지의 원장 항목 합계와 항목 수를 담으며, 사용 예산은 체크포인트 + 이후 항목(꼬리) 합계로 계산합니다.
+ * 주기적인 압축(BudgetLedgerMapper.compactCheckpoints)으로만 갱신하며, 엔티티는 스키마 정의용으로만 사용합니다.
+ */
+@Entity
+@Table(name = "budget_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BudgetCheckpoint {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    @Column(name = "used_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal usedAmount;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount; // 합친 항목 수 (늦게 커밋되어 압축에서 빠진 항목 점검용)
+
+    @Column(name = "compacted_at", nullable = false)
+    private LocalDateTime compactedAt;
+}
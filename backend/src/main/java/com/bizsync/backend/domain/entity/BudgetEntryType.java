@@ -0,0 +1,10 @@
+package com.bizsync.backend.domain.entity;
+
+/**
+ * 예산 원장 항목 유형
+ */
+public enum BudgetEntryType {
+    EXPENSE,    // 비용 결재 최종 승인으로 사용 (양수)
+    REFUND,     // 사용한 예산 환급 (음수)
+    ADJUSTMENT  // 관리자 보정, 원장 도입 전 사용 예산 이월 등 (부호 그대로)
+}
@@ -0,0 +1,52 @@
+package com.bizsync.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 예산 원장 항목 엔티티
+ *
+ * <p>예산 사용/환급/보정을 한 행씩 추가만 하고 수정하거나 삭제하지 않습니다.
+ * 저장은 BudgetLedgerMapper의 INSERT로 처리하며, 엔티티는 스키마 정의와 조회용으로만 사용합니다.
+ */
+@Entity
+@Table(name = "budget_ledger", indexes = {
+        @Index(name = "idx_budget_ledger_project", columnList = "project_id, entry_id"),
+        @Index(name = "idx_budget_ledger_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BudgetLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "document_id")
+    private Long documentId; // 비용 결재로 생긴 항목이면 결재 문서 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private BudgetEntryType entryType;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount; // 사용 예산 변동액 (사용은 양수, 환급은 음수)
+
+    @Column(length = 255)
+    private String memo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+}
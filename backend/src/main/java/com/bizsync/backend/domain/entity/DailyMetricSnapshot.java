@@ -0,0 +1,90 @@
+package com.bizsync.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 지표 일별 스냅샷 엔티티
+ *
+ * <p>하루에 한 행만 추가하고 수정하지 않습니다(append-only).
+ * 지표마다 컬럼을 두고 날짜를 기본 키로 사용하므로, 기간 조회는 기본 키 범위 스캔 한 번으로 끝나고
+ * 1년치도 365행에 불과합니다.
+ *
+ * <p>날짜를 직접 지정하는 키라 {@code save()}가 병합(UPDATE)으로 처리하지 않도록, 저장하거나 조회하기 전까지는 새 엔티티로 취급합니다.
+ * 같은 날짜를 다시 기록하면 기본 키 충돌로 실패하며 기존 행은 바뀌지 않습니다.
+ */
+@Entity
+@Table(name = "daily_metric_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyMetricSnapshot implements Persistable<LocalDate> {
+
+    @Id
+    @Column(name = "metric_date")
+    private LocalDate metricDate; // 집계 기준일 (해당 일자 종료 시점의 값)
+
+    @Column(name = "total_users", nullable = false)
+    private long totalUsers;
+
+    @Column(name = "active_users", nullable = false)
+    private long activeUsers;
+
+    @Column(name = "pending_users", nullable = false)
+    private long pendingUsers;
+
+    @Column(name = "total_projects", nullable = false)
+    private long totalProjects;
+
+    @Column(name = "planning_projects", nullable = false)
+    private long planningProjects;
+
+    @Column(name = "in_progress_projects", nullable = false)
+    private long inProgressProjects;
+
+    @Column(name = "completed_projects", nullable = false)
+    private long completedProjects;
+
+    @Column(name = "on_hold_projects", nullable = false)
+    private long onHoldProjects;
+
+    @Column(name = "cancelled_projects", nullable = false)
+    private long cancelledProjects;
+
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+
+    @Column(name = "total_approvals", nullable = false)
+    private long totalApprovals; // 누적 결재 문서 수
+
+    @Column(name = "new_approvals", nullable = false)
+    private long newApprovals; // 집계 기준일 하루 동안 기안된 결재 문서 수
+
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt; // 스냅샷을 기록한 시각
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted; // 저장 또는 조회된 엔티티 여부 (삭제는 새 엔티티가 아닐 때만 실행됨)
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Override
+    public LocalDate getId() {
+        return metricDate;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
@@ -2,9 +2,13 @@ package com.bizsync.backend.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "kanbanColumn")
 @Table(name = "kanban_column")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
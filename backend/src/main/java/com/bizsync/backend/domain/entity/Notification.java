@@ -0,0 +1,50 @@
+package com.bizsync.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림함 엔티티
+ *
+ * <p>알림은 NotificationInboxService가 모아 두었다가 NotificationMapper의 multi-row INSERT로 한 번에 저장하고,
+ * 읽음 처리와 삭제도 매퍼의 단건 UPDATE/DELETE로 처리합니다. 엔티티는 스키마 정의와 조회용으로만 사용합니다.
+ */
+@Entity
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_user", columnList = "user_id, notification_id"),
+        @Index(name = "idx_notification_unread", columnList = "user_id, is_read")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 수신자 ID
+
+    @Column(nullable = false, length = 20)
+    private String type; // 알림 유형 (APPROVAL, BOARD 등)
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "target_id")
+    private Long targetId; // 클릭 시 이동할 문서/프로젝트 ID
+
+    @Column(name = "merged_count", nullable = false)
+    private int mergedCount; // 짧은 시간 안에 같은 대상으로 들어와 한 행으로 합쳐진 알림 수
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,14 +1,16 @@
 package com.bizsync.backend.domain.entity;
 
-import com.bizsync.backend.common.exception.BusinessException;
-import com.bizsync.backend.common.exception.ErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 @Table(name = "project")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -36,7 +38,9 @@ public class Project extends BaseEntity {
     @Column(name = "total_budget", precision = 19, scale = 2)
     private BigDecimal totalBudget;
 
-    @Column(name = "used_budget", precision = 19, scale = 2)
+    // 예산 차감은 ProjectMapper.spendBudget의 조건부 UPDATE로만 반영 (엔티티 저장이 동시 차감분을 덮어쓰지 않도록 UPDATE에서 제외)
+    // 이 UPDATE는 2차 캐시를 거치지 않으므로 BudgetLedgerService가 EntityCacheInvalidator로 캐시 항목을 무효화함
+    @Column(name = "used_budget", precision = 19, scale = 2, updatable = false)
     @Builder.Default
     private BigDecimal usedBudget = BigDecimal.ZERO;
 
@@ -53,15 +57,6 @@ public class Project extends BaseEntity {
             this.status = ProjectStatus.PLANNING;
     }
 
-    public void spendBudget(BigDecimal amount) {
-        BigDecimal expectedUsage = this.usedBudget.add(amount);
-
-        if (this.totalBudget.compareTo(expectedUsage) < 0) {
-            throw new BusinessException(ErrorCode.BUDGET_EXCEEDED);
-        }
-        this.usedBudget = expectedUsage;
-    }
-
     /**
      * 프로젝트를 완료 상태로 변경
      */
@@ -2,8 +2,12 @@ package com.bizsync.backend.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projectMember")
 @Table(name = "project_member")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
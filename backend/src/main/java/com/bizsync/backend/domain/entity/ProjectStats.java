@@ -0,0 +1,44 @@
+package com.bizsync.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 진행 현황 요약 엔티티
+ *
+ * <p>컬럼 타입별 업무 수, 미배정 업무 수, 마감일이 지난 미완료 업무 수를 프로젝트당 한 행으로 보관합니다.
+ * 값은 칸반 변경 시 ProjectStatsMapper의 증감 UPSERT와 주기적인 재집계로만 갱신하며,
+ * 엔티티는 스키마 정의와 조회용으로만 사용합니다.
+ */
+@Entity
+@Table(name = "project_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProjectStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "todo_tasks", nullable = false)
+    private long todoTasks;
+
+    @Column(name = "in_progress_tasks", nullable = false)
+    private long inProgressTasks;
+
+    @Column(name = "done_tasks", nullable = false)
+    private long doneTasks;
+
+    @Column(name = "unassigned_tasks", nullable = false)
+    private long unassignedTasks; // 담당자가 없는 업무 수 (완료 포함)
+
+    @Column(name = "overdue_tasks", nullable = false)
+    private long overdueTasks; // 마감일이 지난 미완료 업무 수
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -7,7 +7,10 @@ import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_worker_deadline", columnList = "worker_id, deadline"),
+        @Index(name = "idx_deadline", columnList = "deadline")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -77,4 +80,9 @@ public class Task extends BaseEntity {
         return col.getProject().getProjectId();
     }
 
+    // 편의 메서드: 담당자 ID를 반환 (미배정이면 null)
+    public Long getWorkerId() {
+        return this.worker != null ? this.worker.getUserId() : null;
+    }
+
 }
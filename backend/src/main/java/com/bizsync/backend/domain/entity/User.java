@@ -3,10 +3,22 @@ package com.bizsync.backend.domain.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "userNaturalId")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_status_user", columnList = "status, user_id"),
+        @Index(name = "idx_role_user", columnList = "role, user_id"),
+        @Index(name = "idx_position_user", columnList = "position, user_id"),
+        @Index(name = "idx_status_role_position_user", columnList = "status, role, position, user_id")
+})
 @Getter
 @ToString(exclude = "password")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,6 +31,8 @@ public class User extends BaseTimeEntity {
     @Column(name = "user_id")
     private Long userId;
 
+    // 로그인/멤버 초대 시 이메일 조회는 자연 키 캐시(이메일 → ID)를 거쳐 엔티티 캐시에서 읽음
+    @NaturalId
     @Column(nullable = false, unique = true, length = 50)
     private String email;
 
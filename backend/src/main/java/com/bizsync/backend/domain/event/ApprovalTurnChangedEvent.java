@@ -0,0 +1,17 @@
+package com.bizsync.backend.domain.event;
+
+/**
+ * 결재 문서의 현재 결재 차례(결재자) 변경을 알리는 도메인 이벤트
+ *
+ * <p>기안으로 첫 결재자에게 차례가 오거나, 승인으로 다음 결재자에게 넘어가거나, 최종 승인/반려/취소로 차례가 없어질 때 발행합니다.
+ *
+ * @param documentId         결재 문서 ID
+ * @param previousApproverId 변경 전 현재 결재자 ID (기안이면 null)
+ * @param currentApproverId  변경 후 현재 결재자 ID (결재가 끝났으면 null)
+ */
+public record ApprovalTurnChangedEvent(
+        Long documentId,
+        Long previousApproverId,
+        Long currentApproverId
+) {
+}
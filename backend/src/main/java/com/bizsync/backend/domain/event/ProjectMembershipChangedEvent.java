@@ -0,0 +1,19 @@
+package com.bizsync.backend.domain.event;
+
+import com.bizsync.backend.domain.entity.ProjectStatus;
+
+/**
+ * 프로젝트 멤버 추가/제거를 알리는 도메인 이벤트
+ *
+ * @param projectId     프로젝트 ID
+ * @param userId        추가/제거된 사용자 ID
+ * @param projectStatus 변경 시점의 프로젝트 상태
+ * @param joined        추가면 true, 제거면 false
+ */
+public record ProjectMembershipChangedEvent(
+        Long projectId,
+        Long userId,
+        ProjectStatus projectStatus,
+        boolean joined
+) {
+}
@@ -0,0 +1,21 @@
+package com.bizsync.backend.domain.event;
+
+import com.bizsync.backend.domain.entity.ProjectStatus;
+
+import java.util.List;
+
+/**
+ * 프로젝트 상태 변경을 알리는 도메인 이벤트
+ *
+ * @param projectId      프로젝트 ID
+ * @param previousStatus 변경 전 상태
+ * @param status         변경 후 상태
+ * @param memberUserIds  변경 시점의 프로젝트 멤버 사용자 ID 목록
+ */
+public record ProjectStatusChangedEvent(
+        Long projectId,
+        ProjectStatus previousStatus,
+        ProjectStatus status,
+        List<Long> memberUserIds
+) {
+}
@@ -0,0 +1,60 @@
+package com.bizsync.backend.domain.event;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.entity.Task;
+
+import java.time.LocalDate;
+
+/**
+ * 업무의 생성/삭제와 담당자, 컬럼 타입, 마감일 변경을 알리는 도메인 이벤트
+ *
+ * <p>before가 null이면 생성, after가 null이면 삭제입니다.
+ * 같은 타입 컬럼 안에서의 순서 변경처럼 집계 대상 상태가 그대로인 수정은 발행하지 않습니다.
+ *
+ * @param projectId 업무가 속한 프로젝트 ID
+ * @param taskId    업무 ID
+ * @param before    변경 전 상태 (생성이면 null)
+ * @param after     변경 후 상태 (삭제면 null)
+ */
+public record TaskChangedEvent(Long projectId, Long taskId, TaskState before, TaskState after) {
+
+    /**
+     * 통계 집계에 필요한 업무 상태
+     *
+     * @param workerId   담당자 ID (미배정이면 null)
+     * @param columnType 업무가 속한 컬럼 타입
+     * @param deadline   마감일 (없으면 null)
+     */
+    public record TaskState(Long workerId, ColumnType columnType, LocalDate deadline) {
+
+        public static TaskState of(Task task) {
+            return new TaskState(task.getWorkerId(), task.getColumn().getColumnType(), task.getDeadline());
+        }
+
+        /**
+         * 완료(DONE) 컬럼에 있는지 여부
+         */
+        public boolean done() {
+            return columnType == ColumnType.DONE;
+        }
+
+        /**
+         * 기준일 현재 마감일이 지난 미완료 업무인지 여부
+         */
+        public boolean overdue(LocalDate today) {
+            return !done() && deadline != null && deadline.isBefore(today);
+        }
+    }
+
+    public static TaskChangedEvent created(Long projectId, Long taskId, TaskState after) {
+        return new TaskChangedEvent(projectId, taskId, null, after);
+    }
+
+    public static TaskChangedEvent deleted(Long projectId, Long taskId, TaskState before) {
+        return new TaskChangedEvent(projectId, taskId, before, null);
+    }
+
+    public static TaskChangedEvent changed(Long projectId, Long taskId, TaskState before, TaskState after) {
+        return new TaskChangedEvent(projectId, taskId, before, after);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bizsync.backend.domain.event;
+
+/**
+ * 사용자 계정의 가입, 상태, 권한, 직급 변경을 알리는 도메인 이벤트
+ *
+ * @param userId 사용자 ID
+ */
+public record UserAccountChangedEvent(Long userId) {
+}
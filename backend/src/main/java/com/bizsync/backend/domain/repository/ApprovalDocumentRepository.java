@@ -3,21 +3,81 @@ package com.bizsync.backend.domain.repository;
 import com.bizsync.backend.common.exception.ErrorCode;
 import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.domain.entity.ApprovalDocument;
+import com.bizsync.backend.dto.request.ApprovalSummaryDTO;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocument, Long> {
-    // 내 기안함
-    Page<ApprovalDocument> findByDrafter_UserId(Long userId, Pageable pageable);
+    /**
+     * 내 기안함 : 기안자가 나인 문서 요약 조회
+     * 문서와 기안자를 한 번에 조인해 목록 행만 가져오며, 개수는 idx_drafter_created 범위만 셈
+     */
+    @Query(value = "SELECT new com.bizsync.backend.dto.request.ApprovalSummaryDTO(" +
+            "d.documentId, d.title, u.name, d.status, d.createdAt) " +
+            "FROM ApprovalDocument d JOIN d.drafter u " +
+            "WHERE u.userId = :userId",
+            countQuery = "SELECT COUNT(d) FROM ApprovalDocument d WHERE d.drafter.userId = :userId")
+    Page<ApprovalSummaryDTO> findSummariesByDrafter(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 결재 대기함 : 현재 결재 차례가 나인 진행 중 문서 요약 조회
+     * 앞 결재자가 아직 처리하지 않은 문서는 제외되며, idx_current_approver 범위만 읽음
+     */
+    @Query(value = "SELECT new com.bizsync.backend.dto.request.ApprovalSummaryDTO(" +
+            "d.documentId, d.title, u.name, d.status, d.createdAt) " +
+            "FROM ApprovalDocument d JOIN d.drafter u " +
+            "WHERE d.currentApproverId = :userId",
+            countQuery = "SELECT COUNT(d) FROM ApprovalDocument d WHERE d.currentApproverId = :userId")
+    Page<ApprovalSummaryDTO> findSummariesByCurrentApprover(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 결재 대기함 문서 수 (대시보드 카운터용, 결재 대기함 목록과 같은 기준)
+     */
+    long countByCurrentApproverId(Long userId);
+
+    /**
+     * 여러 사용자의 결재 대기함 문서 수를 한 번에 조회 (대기 문서가 없는 사용자는 결과에 없음)
+     */
+    @Query("SELECT d.currentApproverId AS userId, COUNT(d) AS count FROM ApprovalDocument d " +
+            "WHERE d.currentApproverId IN :userIds " +
+            "GROUP BY d.currentApproverId")
+    List<UserCount> countByCurrentApproverIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 기간 내 기안된 결재 문서 수 (일별 지표 스냅샷용, idx_created_at 범위만 셈)
+     */
+    long countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(LocalDateTime from, LocalDateTime to);
 
     // 프로젝트에 속한 결재 문서 조회
     List<ApprovalDocument> findByProject_ProjectId(Long projectId);
 
+    /**
+     * 비관적 락을 사용한 결재 문서 조회 (결재 차례를 넘기는 동안 같은 문서의 동시 처리를 막음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.documentId = :id")
+    Optional<ApprovalDocument> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 비관적 락을 사용한 결재 문서 일괄 조회 (일괄 결재 처리용)
+     * 동시에 실행되는 일괄 처리끼리 교착되지 않도록 항상 문서 ID 순서로 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM ApprovalDocument d WHERE d.documentId IN :ids ORDER BY d.documentId")
+    List<ApprovalDocument> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     /**
      * ID로 결재 문서 조회 (없으면 예외 발생)
      */
@@ -25,4 +85,12 @@ public interface ApprovalDocumentRepository extends JpaRepository<ApprovalDocume
         return findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.APPROVAL_NOT_FOUND_ALT));
     }
+
+    /**
+     * 비관적 락을 사용한 결재 문서 조회 (없으면 예외 발생)
+     */
+    default ApprovalDocument findByIdForUpdateOrThrow(Long documentId) {
+        return findByIdForUpdate(documentId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.APPROVAL_NOT_FOUND_ALT));
+    }
 }
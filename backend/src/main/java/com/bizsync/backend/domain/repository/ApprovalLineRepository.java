@@ -3,6 +3,7 @@ package com.bizsync.backend.domain.repository;
 import com.bizsync.backend.domain.entity.ApprovalDocument;
 import com.bizsync.backend.domain.entity.ApprovalLine;
 import com.bizsync.backend.domain.entity.ApprovalStatus;
+import com.bizsync.backend.dto.request.ApprovalSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,25 +41,41 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, Long
     @Query("SELECT COALESCE(MAX(al.sequence), 0) FROM ApprovalLine al WHERE al.document.documentId = :documentId")
     Integer findMaxSequence(@Param("documentId") Long documentId);
 
-    // 3. 내 앞 순서(currentSequence - 1) 중 아직 승인 안 된(APPROVED가 아닌) 사람이 있는지 확인
-    // 즉, 이게 true면 "아직 네 차례 아님"
-    boolean existsByDocument_DocumentIdAndSequenceLessThanAndStatusNot(
-            Long documentId, Integer sequence, ApprovalStatus status);
-
-    // 결재 대기함 : 결재자가 나이고 내 상태가 PENDING인 것 조회
-    Page<ApprovalLine> findByApprover_UserIdAndStatus(Long userId, ApprovalStatus status, Pageable pageable);
+    /**
+     * 문서의 특정 순서 결재선 조회 (idx_sequence 단건 조회)
+     */
+    Optional<ApprovalLine> findByDocument_DocumentIdAndSequence(Long documentId, Integer sequence);
 
-    // 결재 완료함 : 결재자가 나이고 내 상태가 APPROVED 또는 REJECTED인 것 조회
-    Page<ApprovalLine> findByApprover_UserIdAndStatusIn(Long userId, List<ApprovalStatus> statuses, Pageable pageable);
+    /**
+     * 결재 완료함 : 결재자가 나이고 내 결재선 상태가 statuses 중 하나인 문서 요약 조회
+     * 결재선-문서-기안자를 한 번에 조인해 목록 행만 가져오며, 개수는 idx_approver_status 범위만 셈
+     */
+    @Query(value = "SELECT new com.bizsync.backend.dto.request.ApprovalSummaryDTO(" +
+            "d.documentId, d.title, u.name, d.status, d.createdAt) " +
+            "FROM ApprovalLine al JOIN al.document d JOIN d.drafter u " +
+            "WHERE al.approver.userId = :userId AND al.status IN :statuses",
+            countQuery = "SELECT COUNT(al) FROM ApprovalLine al " +
+                    "WHERE al.approver.userId = :userId AND al.status IN :statuses")
+    Page<ApprovalSummaryDTO> findSummariesByApproverAndStatusIn(@Param("userId") Long userId,
+                                                                 @Param("statuses") Collection<ApprovalStatus> statuses,
+                                                                 Pageable pageable);
 
-    // 특정 문서의 모든 결재선을 순서대로 조회
-    @Query("SELECT al FROM ApprovalLine al " +
+    // 특정 문서의 모든 결재선을 순서대로 조회 (상세 화면에서 결재자 이름을 쓰므로 결재자를 함께 조회)
+    @Query("SELECT al FROM ApprovalLine al JOIN FETCH al.approver " +
             "WHERE al.document = :document " +
             "ORDER BY al.sequence ASC")
     List<ApprovalLine> findByDocumentOrderBySequence(
             @Param("document") ApprovalDocument document
     );
 
+    /**
+     * 여러 문서의 결재선을 문서별 순서대로 한 번에 조회 (일괄 결재 처리에서 차례 검증과 다음 결재선 확인에 사용)
+     */
+    @Query("SELECT al FROM ApprovalLine al " +
+            "WHERE al.document.documentId IN :documentIds " +
+            "ORDER BY al.document.documentId, al.sequence")
+    List<ApprovalLine> findByDocumentIdsOrderBySequence(@Param("documentIds") Collection<Long> documentIds);
+
     /**
      * 상세 조회 권한: 기안자 또는 결재선에 포함된 경우에만 조회 허용
      */
@@ -66,6 +84,4 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, Long
             @Param("documentId") Long documentId,
             @Param("userId") Long userId
     );
-
-    long countByApprover_UserIdAndStatus(Long userId, ApprovalStatus status);
 }
@@ -0,0 +1,29 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.BudgetLedgerEntry;
+import com.bizsync.backend.dto.response.BudgetLedgerEntryDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BudgetLedgerRepository extends JpaRepository<BudgetLedgerEntry, Long> {
+
+    /**
+     * 프로젝트 예산 원장을 최신순으로 조회 (키셋 페이지네이션)
+     * idx_budget_ledger_project (project_id, entry_id) 인덱스를 역순으로 읽으므로 정렬 없이 pageable 크기만큼만 읽음
+     * cursorId가 null이면 처음부터 조회
+     */
+    @Query("SELECT new com.bizsync.backend.dto.response.BudgetLedgerEntryDTO(" +
+            "e.entryId, e.entryType, e.amount, e.documentId, e.memo, e.createdAt, e.createdBy) " +
+            "FROM BudgetLedgerEntry e " +
+            "WHERE e.projectId = :projectId AND (:cursorId IS NULL OR e.entryId < :cursorId) " +
+            "ORDER BY e.entryId DESC")
+    List<BudgetLedgerEntryDTO> findLedgerPage(@Param("projectId") Long projectId,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+}
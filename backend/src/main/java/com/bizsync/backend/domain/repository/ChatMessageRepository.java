@@ -31,24 +31,24 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     Page<ChatMessage> findByRoomId(Long roomId, Pageable pageable);
 
     /**
-     * 최초 로딩: 가장 최근 N개 메시지 조회 (시간순 오름차순으로 반환)
+     * 최초 로딩: 가장 최근 N개 메시지 조회 (시간순 오름차순으로 반환, 보낸 사람 함께 조회)
      *
      * @param roomId 채팅방 ID (프로젝트 ID)
      * @param limit  조회할 메시지 개수
      * @return 메시지 목록 (오래된 것부터 최신순, 오름차순)
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.roomId = :roomId ORDER BY m.sentAt DESC")
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.roomId = :roomId ORDER BY m.sentAt DESC")
     List<ChatMessage> findLatestMessages(@Param("roomId") Long roomId, Pageable pageable);
 
     /**
-     * 이전 메시지 로딩: 특정 시점 이전 N개 메시지 조회 (시간순 오름차순으로 반환)
+     * 이전 메시지 로딩: 특정 시점 이전 N개 메시지 조회 (시간순 오름차순으로 반환, 보낸 사람 함께 조회)
      *
      * @param roomId 채팅방 ID (프로젝트 ID)
      * @param cursor 커서 (이 시점 이전의 메시지 조회)
      * @param limit  조회할 메시지 개수
      * @return 메시지 목록 (오래된 것부터 최신순, 오름차순)
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.roomId = :roomId AND m.sentAt < :cursor ORDER BY m.sentAt DESC")
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.roomId = :roomId AND m.sentAt < :cursor ORDER BY m.sentAt DESC")
     List<ChatMessage> findMessagesBefore(@Param("roomId") Long roomId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
 
     /**
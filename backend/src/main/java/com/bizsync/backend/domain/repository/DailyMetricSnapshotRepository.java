@@ -0,0 +1,17 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.DailyMetricSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyMetricSnapshotRepository extends JpaRepository<DailyMetricSnapshot, LocalDate> {
+
+    /**
+     * 기간 내 일별 스냅샷을 날짜순으로 조회 (기본 키 범위 스캔)
+     */
+    List<DailyMetricSnapshot> findByMetricDateBetweenOrderByMetricDateAsc(LocalDate from, LocalDate to);
+}
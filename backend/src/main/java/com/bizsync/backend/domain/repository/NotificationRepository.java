@@ -0,0 +1,41 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.Notification;
+import com.bizsync.backend.dto.response.NotificationItemDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * 사용자의 알림을 최신순으로 조회 (키셋 페이지네이션)
+     * idx_notification_user (user_id, notification_id) 인덱스를 역순으로 읽으므로 정렬 없이 pageable 크기만큼만 읽음
+     * cursorId가 null이면 처음부터 조회
+     */
+    @Query("SELECT new com.bizsync.backend.dto.response.NotificationItemDTO(" +
+            "n.notificationId, n.type, n.message, n.targetId, n.mergedCount, n.read, n.createdAt) " +
+            "FROM Notification n " +
+            "WHERE n.userId = :userId AND (:cursorId IS NULL OR n.notificationId < :cursorId) " +
+            "ORDER BY n.notificationId DESC")
+    List<NotificationItemDTO> findInboxPage(@Param("userId") Long userId,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
+    /**
+     * 사용자의 안 읽은 알림 수
+     */
+    long countByUserIdAndReadFalse(Long userId);
+
+    /**
+     * 사용자 알림의 읽음 여부 (없거나 다른 사용자의 알림이면 빈 값)
+     */
+    @Query("SELECT n.read FROM Notification n WHERE n.notificationId = :notificationId AND n.userId = :userId")
+    Optional<Boolean> findReadFlag(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+}
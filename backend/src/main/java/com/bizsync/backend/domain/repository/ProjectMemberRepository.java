@@ -5,10 +5,14 @@ import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.domain.entity.ProjectMember;
 import com.bizsync.backend.domain.entity.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,8 +20,9 @@ import java.util.Optional;
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
 
     /**
-     * 프로젝트 ID와 사용자 ID로 프로젝트 멤버 조회
+     * 프로젝트 ID와 사용자 ID로 프로젝트 멤버 조회 (쿼리 캐시, 멤버 추가/삭제/역할 변경 시 무효화)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT pm FROM ProjectMember pm WHERE pm.project.projectId = :projectId AND pm.user.userId = :userId")
     Optional<ProjectMember> findByProjectAndUser(
             @Param("projectId") Long projectId,
@@ -25,8 +30,9 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     );
 
     /**
-     * 프로젝트에 특정 유저가 멤버로 있는지 확인
+     * 프로젝트에 특정 유저가 멤버로 있는지 확인 (요청마다 호출되는 권한 검사용 쿼리 캐시)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT COUNT(pm) > 0 FROM ProjectMember pm WHERE pm.project.projectId = :projectId AND pm.user.userId = :userId")
     boolean existsByProjectAndUser(
             @Param("projectId") Long projectId,
@@ -43,6 +49,21 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     // 내 프로젝트 수 (특정 상태)
     long countByUser_UserIdAndProject_Status(Long userId, ProjectStatus status);
 
+    /**
+     * 여러 사용자의 특정 상태 프로젝트 수를 한 번에 조회 (프로젝트가 없는 사용자는 결과에 없음)
+     */
+    @Query("SELECT pm.user.userId AS userId, COUNT(pm) AS count FROM ProjectMember pm " +
+            "WHERE pm.user.userId IN :userIds AND pm.project.status = :status " +
+            "GROUP BY pm.user.userId")
+    List<UserCount> countByUserIdsAndProjectStatus(@Param("userIds") Collection<Long> userIds,
+                                                   @Param("status") ProjectStatus status);
+
+    /**
+     * 프로젝트 멤버의 사용자 ID 목록 조회
+     */
+    @Query("SELECT pm.user.userId FROM ProjectMember pm WHERE pm.project.projectId = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
     // 특정 프로젝트의 모든 멤버 조회
     @Query("SELECT pm FROM ProjectMember pm JOIN FETCH pm.user WHERE pm.project.projectId = :projectId")
     List<ProjectMember> findAllByProject_ProjectId(@Param("projectId") Long projectId);
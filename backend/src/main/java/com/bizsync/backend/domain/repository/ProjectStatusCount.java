@@ -0,0 +1,12 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.ProjectStatus;
+
+/**
+ * 프로젝트 상태별 건수 집계 프로젝션
+ */
+public interface ProjectStatusCount {
+    ProjectStatus getStatus();
+
+    Long getCount();
+}
@@ -4,11 +4,15 @@ import com.bizsync.backend.common.exception.ErrorCode;
 import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.domain.entity.ColumnType;
 import com.bizsync.backend.domain.entity.Task;
+import com.bizsync.backend.dto.response.DashboardTaskDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,10 +25,12 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Integer findMaxSequence(@Param("columnId") Long columnId);
 
     /**
-     * 특정 컬럼의 최대 시퀀스 조회
+     * 프로젝트의 컬럼별 최대 시퀀스를 한 번에 조회 (업무가 없는 컬럼은 결과에 없음)
      */
-    @Query("SELECT MAX(t.sequence) FROM Task t WHERE t.column.columnId = :columnId")
-    Optional<Integer> findMaxSequenceByColumnId(@Param("columnId") Long columnId);
+    @Query("SELECT t.column.columnId AS columnId, MAX(t.sequence) AS maxSequence " +
+            "FROM Task t WHERE t.column.project.projectId = :projectId " +
+            "GROUP BY t.column.columnId")
+    List<ColumnMaxSequence> findMaxSequencesByProjectId(@Param("projectId") Long projectId);
 
     // 내 업무 수 (전체)
     long countByWorker_UserId(Long userId);
@@ -36,10 +42,68 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     long countByWorkerIdAndColumnTypeNot(@Param("userId") Long userId, @Param("columnType") ColumnType columnType);
 
     /**
-     * 특정 사용자의 모든 업무 조회 (프로젝트, 컬럼 정보 포함)
+     * 여러 사용자의 완료되지 않은 업무 수를 한 번에 조회 (업무가 없는 사용자는 결과에 없음)
      */
-    @Query("SELECT t FROM Task t JOIN FETCH t.column c JOIN FETCH c.project WHERE t.worker.userId = :userId")
-    List<Task> findByWorker_UserId(@Param("userId") Long userId);
+    @Query("SELECT t.worker.userId AS userId, COUNT(t) AS count FROM Task t " +
+            "WHERE t.worker.userId IN :userIds AND t.column.columnType != :columnType " +
+            "GROUP BY t.worker.userId")
+    List<UserCount> countByWorkerIdsAndColumnTypeNot(@Param("userIds") Collection<Long> userIds,
+                                                     @Param("columnType") ColumnType columnType);
+
+    /**
+     * 컬럼에 속한 업무들의 ID, 담당자 ID, 마감일 (엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT t.taskId AS taskId, w.userId AS workerId, t.deadline AS deadline FROM Task t LEFT JOIN t.worker w " +
+            "WHERE t.column.columnId = :columnId")
+    List<TaskStateRow> findStateRowsByColumnId(@Param("columnId") Long columnId);
+
+    /**
+     * 내 미완료 업무 중 마감일이 있는 업무를 마감일, ID 순으로 조회 (키셋 페이지네이션)
+     * idx_worker_deadline (worker_id, deadline) 인덱스 순서대로 읽으므로 정렬 없이 pageable 크기만큼만 읽음
+     * cursorDeadline이 null이면 처음부터 조회
+     */
+    @Query("SELECT new com.bizsync.backend.dto.response.DashboardTaskDTO(t.taskId, t.title, p.name, c.name, t.deadline) " +
+            "FROM Task t JOIN t.column c JOIN c.project p " +
+            "WHERE t.worker.userId = :userId AND c.columnType <> :doneType AND t.deadline IS NOT NULL " +
+            "AND (:cursorDeadline IS NULL OR t.deadline > :cursorDeadline " +
+            "OR (t.deadline = :cursorDeadline AND t.taskId > :cursorTaskId)) " +
+            "ORDER BY t.deadline ASC, t.taskId ASC")
+    List<DashboardTaskDTO> findOpenTasksWithDeadlineByWorker(@Param("userId") Long userId,
+                                                             @Param("doneType") ColumnType doneType,
+                                                             @Param("cursorDeadline") LocalDate cursorDeadline,
+                                                             @Param("cursorTaskId") Long cursorTaskId,
+                                                             Pageable pageable);
+
+    /**
+     * 내 미완료 업무 중 마감일이 없는 업무를 ID 순으로 조회 (키셋 페이지네이션)
+     * 마감일이 있는 업무를 모두 보여준 뒤에 이어서 조회
+     */
+    @Query("SELECT new com.bizsync.backend.dto.response.DashboardTaskDTO(t.taskId, t.title, p.name, c.name, t.deadline) " +
+            "FROM Task t JOIN t.column c JOIN c.project p " +
+            "WHERE t.worker.userId = :userId AND c.columnType <> :doneType AND t.deadline IS NULL " +
+            "AND t.taskId > :cursorTaskId " +
+            "ORDER BY t.taskId ASC")
+    List<DashboardTaskDTO> findOpenTasksWithoutDeadlineByWorker(@Param("userId") Long userId,
+                                                                @Param("doneType") ColumnType doneType,
+                                                                @Param("cursorTaskId") Long cursorTaskId,
+                                                                Pageable pageable);
+
+    /**
+     * 마감일이 기간 안에 있는 담당자 지정 미완료 업무 (마감 알림 적재용, idx_deadline 범위 조회)
+     */
+    @Query("SELECT t.taskId AS taskId, t.worker.userId AS workerId, t.deadline AS deadline FROM Task t " +
+            "WHERE t.deadline BETWEEN :from AND :to AND t.worker IS NOT NULL AND t.column.columnType <> :doneType")
+    List<TaskStateRow> findOpenTaskRowsByDeadlineBetween(@Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to,
+                                                         @Param("doneType") ColumnType doneType);
+
+    /**
+     * 마감 알림 발송 직전에 확인하는 업무 현재 상태 (없으면 삭제된 업무)
+     */
+    @Query("SELECT t.taskId AS taskId, t.title AS title, c.project.projectId AS projectId, " +
+            "w.userId AS workerId, c.columnType AS columnType, t.deadline AS deadline " +
+            "FROM Task t JOIN t.column c LEFT JOIN t.worker w WHERE t.taskId = :taskId")
+    Optional<TaskReminderRow> findReminderRowById(@Param("taskId") Long taskId);
 
     /**
      * 프로젝트의 모든 업무 삭제
@@ -53,4 +117,41 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         return findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.KANBAN_TASK_NOT_FOUND));
     }
+
+    /**
+     * 업무 ID/담당자/마감일 프로젝션
+     */
+    interface TaskStateRow {
+        Long getTaskId();
+
+        Long getWorkerId();
+
+        LocalDate getDeadline();
+    }
+
+    /**
+     * 마감 알림 발송용 업무 프로젝션
+     */
+    interface TaskReminderRow {
+        Long getTaskId();
+
+        String getTitle();
+
+        Long getProjectId();
+
+        Long getWorkerId();
+
+        ColumnType getColumnType();
+
+        LocalDate getDeadline();
+    }
+
+    /**
+     * 컬럼별 최대 시퀀스 프로젝션
+     */
+    interface ColumnMaxSequence {
+        Long getColumnId();
+
+        Integer getMaxSequence();
+    }
 }
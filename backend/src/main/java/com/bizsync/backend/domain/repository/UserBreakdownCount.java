@@ -0,0 +1,18 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.AccountStatus;
+import com.bizsync.backend.domain.entity.Position;
+import com.bizsync.backend.domain.entity.Role;
+
+/**
+ * 사용자 상태/권한/직급 조합별 인원 집계 프로젝션
+ */
+public interface UserBreakdownCount {
+    AccountStatus getStatus();
+
+    Role getRole();
+
+    Position getPosition();
+
+    Long getCount();
+}
@@ -0,0 +1,10 @@
+package com.bizsync.backend.domain.repository;
+
+/**
+ * 사용자별 건수 집계 프로젝션 (GROUP BY 사용자 ID)
+ */
+public interface UserCount {
+    Long getUserId();
+
+    Long getCount();
+}
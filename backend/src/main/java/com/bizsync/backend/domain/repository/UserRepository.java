@@ -13,17 +13,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    Optional<User> findByEmail(String email);
+    List<User> findByEmailIn(Collection<String> emails);
 
     boolean existsByEmpNo(String empNo);
 
-    List<User> findByNameContainingOrEmailContaining(String name, String email);
+    long countByUserIdIn(Collection<Long> userIds);
 
     Page<User> findByStatus(AccountStatus status, Pageable pageable);
 
@@ -40,11 +40,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
             Pageable pageable
     );
 
-    long countByRole(Role role);
-
-    long countByStatus(AccountStatus status);
-
-    long countByPosition(Position position);
+    /**
+     * 상태/권한/직급 조합별 인원을 한 번의 GROUP BY로 집계
+     */
+    @Query("SELECT u.status AS status, u.role AS role, u.position AS position, COUNT(u) AS count " +
+            "FROM User u GROUP BY u.status, u.role, u.position")
+    List<UserBreakdownCount> countGroupByStatusAndRoleAndPosition();
 
     default User findByIdOrThrow(Long userId) {
         return findById(userId)
@@ -0,0 +1,19 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 쿼리 메서드로 표현할 수 없는 사용자 조회
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 이메일(자연 키)로 사용자 조회
+     *
+     * <p>자연 키 캐시에서 이메일에 해당하는 사용자 ID를 찾고 엔티티 캐시에서 사용자를 읽으므로,
+     * 캐시에 있으면 쿼리를 실행하지 않습니다.
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,20 @@
+package com.bizsync.backend.dto.request;
+
+import com.bizsync.backend.domain.entity.ApprovalStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ApprovalBulkProcessRequestDTO(
+        @NotEmpty(message = "처리할 결재 문서를 1건 이상 선택해야 합니다.")
+        @Size(max = 100, message = "한 번에 최대 100건까지 처리할 수 있습니다.")
+        List<@NotNull Long> documentIds,
+
+        @NotNull(message = "결재 상태는 필수 입니다.")
+        ApprovalStatus status,
+
+        String comment  // 모든 문서에 같은 코멘트 적용 (반려 시 필수)
+) {
+}
@@ -1,11 +1,14 @@
 package com.bizsync.backend.dto.request;
 
-import com.bizsync.backend.domain.entity.ApprovalDocument;
-import com.bizsync.backend.domain.entity.ApprovalLine;
 import com.bizsync.backend.domain.entity.ApprovalStatus;
 
 import java.time.LocalDateTime;
 
+/**
+ * 결재 목록(기안함/대기함/완료함) 한 행
+ *
+ * <p>엔티티를 읽어 변환하지 않고 조회 쿼리의 생성자 프로젝션으로 바로 만듭니다.
+ */
 public record ApprovalSummaryDTO(
         Long documentId,
         String title,
@@ -13,18 +16,4 @@ public record ApprovalSummaryDTO(
         ApprovalStatus docStatus,
         LocalDateTime createdAt
 ) {
-    public static ApprovalSummaryDTO from(ApprovalDocument doc) {
-        return new ApprovalSummaryDTO(
-                doc.getDocumentId(),
-                doc.getTitle(),
-                doc.getDrafter().getName(),
-                doc.getStatus(),
-                doc.getCreatedAt()
-        );
-    }
-
-    // -> 결재선(Line)을 통해 원본 문서(Document) 정보를 가져옴
-    public static ApprovalSummaryDTO from(ApprovalLine line) {
-        return ApprovalSummaryDTO.from(line.getDocument());
-    }
 }
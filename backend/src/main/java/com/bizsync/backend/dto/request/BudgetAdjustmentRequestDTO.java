@@ -0,0 +1,15 @@
+package com.bizsync.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record BudgetAdjustmentRequestDTO(
+        @NotNull(message = "보정 금액은 필수입니다.")
+        BigDecimal delta,
+
+        @NotBlank(message = "보정 사유는 필수입니다.")
+        String memo
+) {
+}
@@ -0,0 +1,9 @@
+package com.bizsync.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record BudgetRefundRequestDTO(
+        @NotBlank(message = "환급 사유는 필수입니다.")
+        String reason
+) {
+}
@@ -1,5 +1,7 @@
 package com.bizsync.backend.dto.response;
 
+import java.time.LocalDateTime;
+
 public record AdminDashboardStatisticsDTO(
         long totalUsers,
         long pendingUsers,
@@ -23,10 +25,13 @@ public record AdminDashboardStatisticsDTO(
         long deputyGeneralManagerUsers,
         long generalManagerUsers,
         long directorUsers,
-        long executiveUsers
+        long executiveUsers,
+        LocalDateTime refreshedAt
 ) {
     /**
      * 통계 값들로부터 AdminDashboardStatisticsDTO 생성
+     *
+     * <p>refreshedAt은 통계 스냅샷을 집계한 시각입니다.
      */
     public static AdminDashboardStatisticsDTO from(
             long totalUsers,
@@ -51,7 +56,8 @@ public record AdminDashboardStatisticsDTO(
             long deputyGeneralManagerUsers,
             long generalManagerUsers,
             long directorUsers,
-            long executiveUsers
+            long executiveUsers,
+            LocalDateTime refreshedAt
     ) {
         return new AdminDashboardStatisticsDTO(
                 totalUsers,
@@ -76,7 +82,8 @@ public record AdminDashboardStatisticsDTO(
                 deputyGeneralManagerUsers,
                 generalManagerUsers,
                 directorUsers,
-                executiveUsers
+                executiveUsers,
+                refreshedAt
         );
     }
 }
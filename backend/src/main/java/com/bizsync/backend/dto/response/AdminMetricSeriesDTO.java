@@ -0,0 +1,53 @@
+package com.bizsync.backend.dto.response;
+
+import com.bizsync.backend.domain.entity.DailyMetricSnapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자 지표 시계열 DTO
+ *
+ * <p>지표별로 값 배열을 두는 열 방향 형식이며, 모든 배열의 i번째 값은 dates의 i번째 날짜에 해당합니다.
+ * 스냅샷이 없는 날짜는 포함하지 않습니다.
+ */
+public record AdminMetricSeriesDTO(
+        LocalDate from,
+        LocalDate to,
+        List<LocalDate> dates,
+        List<Long> totalUsers,
+        List<Long> activeUsers,
+        List<Long> pendingUsers,
+        List<Long> totalProjects,
+        List<Long> planningProjects,
+        List<Long> inProgressProjects,
+        List<Long> completedProjects,
+        List<Long> onHoldProjects,
+        List<Long> cancelledProjects,
+        List<Long> totalTasks,
+        List<Long> totalApprovals,
+        List<Long> newApprovals
+) {
+    /**
+     * 날짜순 일별 스냅샷 목록으로부터 AdminMetricSeriesDTO 생성
+     */
+    public static AdminMetricSeriesDTO from(LocalDate from, LocalDate to, List<DailyMetricSnapshot> snapshots) {
+        return new AdminMetricSeriesDTO(
+                from,
+                to,
+                snapshots.stream().map(DailyMetricSnapshot::getMetricDate).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getTotalUsers).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getActiveUsers).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getPendingUsers).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getTotalProjects).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getPlanningProjects).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getInProgressProjects).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getCompletedProjects).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getOnHoldProjects).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getCancelledProjects).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getTotalTasks).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getTotalApprovals).toList(),
+                snapshots.stream().map(DailyMetricSnapshot::getNewApprovals).toList()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.bizsync.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록 페이지 응답 DTO
+ *
+ * <p>최신순(사용자 ID 내림차순) 커서 기반 페이지네이션을 위한 응답 형식입니다.
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
+ * totalCount는 관리자 통계 스냅샷 기준 인원이며, 키워드 검색 시에는 세지 않으므로 null입니다.
+ */
+public record AdminUserPageDTO(
+        List<UserDetailResponseDTO> users,
+        boolean hasMore,
+        Long nextCursor,
+        Long totalCount
+) {
+}
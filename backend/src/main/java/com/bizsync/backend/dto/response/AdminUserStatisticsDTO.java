@@ -1,5 +1,7 @@
 package com.bizsync.backend.dto.response;
 
+import java.time.LocalDateTime;
+
 public record AdminUserStatisticsDTO(
         long totalUsers,
         long pendingUsers,
@@ -8,30 +10,23 @@ public record AdminUserStatisticsDTO(
         long deletedUsers,
         long adminUsers,
         long managerUsers,
-        long memberUsers
+        long memberUsers,
+        LocalDateTime refreshedAt
 ) {
     /**
-     * 통계 값들로부터 AdminUserStatisticsDTO 생성
+     * 관리자 대시보드 통계 스냅샷에서 사용자 통계만 추려 AdminUserStatisticsDTO 생성
      */
-    public static AdminUserStatisticsDTO from(
-            long totalUsers,
-            long pendingUsers,
-            long activeUsers,
-            long suspendedUsers,
-            long deletedUsers,
-            long adminUsers,
-            long managerUsers,
-            long memberUsers
-    ) {
+    public static AdminUserStatisticsDTO from(AdminDashboardStatisticsDTO statistics) {
         return new AdminUserStatisticsDTO(
-                totalUsers,
-                pendingUsers,
-                activeUsers,
-                suspendedUsers,
-                deletedUsers,
-                adminUsers,
-                managerUsers,
-                memberUsers
+                statistics.totalUsers(),
+                statistics.pendingUsers(),
+                statistics.activeUsers(),
+                statistics.suspendedUsers(),
+                statistics.deletedUsers(),
+                statistics.adminUsers(),
+                statistics.managerUsers(),
+                statistics.memberUsers(),
+                statistics.refreshedAt()
         );
     }
 }
@@ -0,0 +1,23 @@
+package com.bizsync.backend.dto.response;
+
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.domain.entity.ApprovalStatus;
+
+/**
+ * 일괄 결재 처리의 문서별 결과
+ */
+public record ApprovalBulkResultDTO(
+        Long documentId,
+        boolean success,
+        ApprovalStatus documentStatus, // 처리 후 문서 상태 (다음 결재자로 넘어가면 PENDING, 실패 시 null)
+        ErrorCode errorCode,           // 실패 사유 코드 (성공 시 null)
+        String message
+) {
+    public static ApprovalBulkResultDTO success(Long documentId, ApprovalStatus documentStatus) {
+        return new ApprovalBulkResultDTO(documentId, true, documentStatus, null, null);
+    }
+
+    public static ApprovalBulkResultDTO failure(Long documentId, ErrorCode errorCode) {
+        return new ApprovalBulkResultDTO(documentId, false, null, errorCode, errorCode.getMessage());
+    }
+}
@@ -0,0 +1,20 @@
+package com.bizsync.backend.dto.response;
+
+import com.bizsync.backend.domain.entity.BudgetEntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예산 원장 항목 DTO
+ */
+public record BudgetLedgerEntryDTO(
+        Long entryId,
+        BudgetEntryType entryType,
+        BigDecimal amount,      // 사용 예산 변동액 (사용은 양수, 환급은 음수)
+        Long documentId,
+        String memo,
+        LocalDateTime createdAt,
+        Long createdBy
+) {
+}
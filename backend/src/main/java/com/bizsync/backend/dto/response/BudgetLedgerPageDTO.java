@@ -0,0 +1,19 @@
+package com.bizsync.backend.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 예산 원장 페이지 응답 DTO
+ *
+ * <p>최신순 커서 기반 페이지네이션을 위한 응답 형식입니다.
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
+ * usedBudget은 원장 기준 사용 예산(체크포인트 + 이후 항목 합계)입니다.
+ */
+public record BudgetLedgerPageDTO(
+        List<BudgetLedgerEntryDTO> entries,
+        boolean hasMore,
+        Long nextCursor,
+        BigDecimal usedBudget
+) {
+}
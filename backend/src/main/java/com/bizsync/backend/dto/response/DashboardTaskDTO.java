@@ -1,7 +1,5 @@
 package com.bizsync.backend.dto.response;
 
-import com.bizsync.backend.domain.entity.Task;
-
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
@@ -17,22 +15,16 @@ public record DashboardTaskDTO(
         Long daysLeft
 ) {
     /**
-     * Task Entity -> DashboardTaskDTO 변환
+     * 프로젝션 쿼리 결과 -> DashboardTaskDTO 변환 (JPQL constructor expression에서 사용)
      */
-    public static DashboardTaskDTO from(Task task) {
-        LocalDate deadline = task.getDeadline();
-        Long daysLeft = null;
-        if (deadline != null) {
-            daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), deadline);
-        }
-
-        return new DashboardTaskDTO(
-                task.getTaskId(),
-                task.getTitle(),
-                task.getColumn().getProject().getName(),
-                task.getColumn().getName(),
+    public DashboardTaskDTO(Long taskId, String title, String projectName, String columnName, LocalDate deadline) {
+        this(
+                taskId,
+                title,
+                projectName,
+                columnName,
                 deadline != null ? deadline.toString() : null,
-                daysLeft
+                deadline != null ? ChronoUnit.DAYS.between(LocalDate.now(), deadline) : null
         );
     }
 }
@@ -0,0 +1,16 @@
+package com.bizsync.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * 대시보드 내 업무 목록 페이지 응답 DTO
+ *
+ * <p>커서 기반 페이지네이션을 위한 응답 형식입니다.
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
+ */
+public record DashboardTaskPageDTO(
+        List<DashboardTaskDTO> tasks,
+        boolean hasMore,
+        String nextCursor
+) {
+}
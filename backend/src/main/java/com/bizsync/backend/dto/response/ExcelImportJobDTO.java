@@ -0,0 +1,42 @@
+package com.bizsync.backend.dto.response;
+
+import com.bizsync.backend.service.excel.ExcelImportJob;
+import com.bizsync.backend.service.excel.ExcelImportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 업로드 작업 조회 응답 DTO
+ */
+public record ExcelImportJobDTO(
+        String jobId,
+        Long projectId,
+        String fileName,
+        ExcelImportStatus status,
+        int processedRows,
+        int importedCount,
+        int errorCount,
+        boolean hasErrorReport, // true면 /api/excel-imports/{jobId}/errors 로 오류 보고서 다운로드 가능
+        String message,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+    /**
+     * ExcelImportJob -> ExcelImportJobDTO 변환
+     */
+    public static ExcelImportJobDTO from(ExcelImportJob job) {
+        return new ExcelImportJobDTO(
+                job.getJobId(),
+                job.getProjectId(),
+                job.getFileName(),
+                job.getStatus(),
+                job.getProcessedRows(),
+                job.getImportedCount(),
+                job.getErrorCount(),
+                job.getErrorReportFile() != null,
+                job.getMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
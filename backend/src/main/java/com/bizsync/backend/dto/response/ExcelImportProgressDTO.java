@@ -0,0 +1,38 @@
+package com.bizsync.backend.dto.response;
+
+import com.bizsync.backend.service.excel.ExcelImportJob;
+import com.bizsync.backend.service.excel.ExcelImportStatus;
+
+import java.util.List;
+
+/**
+ * 엑셀 업로드 진행 상황 WebSocket 메시지 (/sub/excel-import/{userId})
+ *
+ * <p>errors에는 직전 메시지 이후 새로 실패한 행만 담깁니다.
+ */
+public record ExcelImportProgressDTO(
+        String jobId,
+        Long projectId,
+        ExcelImportStatus status,
+        int processedRows,
+        int importedCount,
+        int errorCount,
+        String message,
+        List<ExcelImportRowErrorDTO> errors
+) {
+    /**
+     * 작업의 현재 상태와 새로 발생한 실패 행으로 진행 메시지 생성
+     */
+    public static ExcelImportProgressDTO from(ExcelImportJob job, List<ExcelImportRowErrorDTO> errors) {
+        return new ExcelImportProgressDTO(
+                job.getJobId(),
+                job.getProjectId(),
+                job.getStatus(),
+                job.getProcessedRows(),
+                job.getImportedCount(),
+                job.getErrorCount(),
+                job.getMessage(),
+                errors
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.bizsync.backend.dto.response;
+
+/**
+ * 엑셀 업로드 실패 행 정보
+ */
+public record ExcelImportRowErrorDTO(
+        int rowNumber,  // 엑셀 행 번호 (헤더가 1행)
+        String message  // 실패 사유
+) {
+}
@@ -1,14 +1,20 @@
 package com.bizsync.backend.dto.response;
 
+import java.time.LocalDateTime;
+
 public record NotificationDTO(
-        String type,    // 알림 유형 (예: APPROVAL, TASK, SYSTEM)
-        String message, // 알림 내용 (예: "휴가 신청서가 승인되었습니다.")
-        Long targetId   // 클릭 시 이동할 ID (예: 문서 ID, 업무 ID)
+        String type,      // 알림 유형 (예: APPROVAL, BOARD, SYSTEM)
+        String message,   // 알림 내용 (예: "휴가 신청서가 승인되었습니다.")
+        Long targetId,    // 클릭 시 이동할 ID (예: 문서 ID, 프로젝트 ID)
+        int count,        // 합쳐진 알림 수 (같은 대상으로 짧은 시간에 여러 건이 오면 1보다 큼)
+        long unreadCount, // 수신자의 안 읽은 알림 수 (배지 표시용)
+        LocalDateTime createdAt
 ) {
     /**
      * 알림 정보로부터 NotificationDTO 생성
      */
-    public static NotificationDTO from(String type, String message, Long targetId) {
-        return new NotificationDTO(type, message, targetId);
+    public static NotificationDTO from(String type, String message, Long targetId, int count,
+                                       long unreadCount, LocalDateTime createdAt) {
+        return new NotificationDTO(type, message, targetId, count, unreadCount, createdAt);
     }
-}
\ No newline at end of file
+}
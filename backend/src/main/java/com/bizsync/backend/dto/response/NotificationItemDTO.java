@@ -0,0 +1,17 @@
+package com.bizsync.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림함 항목 DTO
+ */
+public record NotificationItemDTO(
+        Long notificationId,
+        String type,
+        String message,
+        Long targetId,
+        int count,      // 합쳐진 알림 수 (1이면 단건)
+        boolean read,
+        LocalDateTime createdAt
+) {
+}
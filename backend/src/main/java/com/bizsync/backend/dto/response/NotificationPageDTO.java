@@ -0,0 +1,17 @@
+package com.bizsync.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * 알림함 페이지 응답 DTO
+ *
+ * <p>최신순 커서 기반 페이지네이션을 위한 응답 형식입니다.
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
+ */
+public record NotificationPageDTO(
+        List<NotificationItemDTO> notifications,
+        boolean hasMore,
+        Long nextCursor,
+        long unreadCount
+) {
+}
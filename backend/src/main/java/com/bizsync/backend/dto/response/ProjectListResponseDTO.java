@@ -1,10 +1,14 @@
 package com.bizsync.backend.dto.response;
 
-import com.bizsync.backend.domain.entity.Project;
-
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * 프로젝트 목록 항목 DTO
+ *
+ * <p>업무 수 필드는 project_stats 요약 테이블의 값입니다.
+ * 예산 사용률은 totalBudget, usedBudget으로 계산합니다.
+ */
 public record ProjectListResponseDTO(
         Long projectId,
         String name,
@@ -13,21 +17,11 @@ public record ProjectListResponseDTO(
         LocalDate endDate,
         String status,
         BigDecimal totalBudget,
-        BigDecimal usedBudget
+        BigDecimal usedBudget,
+        Long todoTasks,
+        Long inProgressTasks,
+        Long doneTasks,
+        Long unassignedTasks,
+        Long overdueTasks
 ) {
-    /**
-     * Project 엔티티에서 DTO로 변환
-     */
-    public static ProjectListResponseDTO from(Project project) {
-        return new ProjectListResponseDTO(
-                project.getProjectId(),
-                project.getName(),
-                project.getDescription(),
-                project.getStartDate(),
-                project.getEndDate(),
-                project.getStatus().name(),
-                project.getTotalBudget(),
-                project.getUsedBudget()
-        );
-    }
 }
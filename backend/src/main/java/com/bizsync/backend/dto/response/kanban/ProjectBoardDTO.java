@@ -21,6 +21,11 @@ public class ProjectBoardDTO {
     private LocalDate startDate;
     private LocalDate endDate;
     private String status; // 프로젝트 상태
+    private Long todoTasks; // 진행 현황 요약 (project_stats)
+    private Long inProgressTasks;
+    private Long doneTasks;
+    private Long unassignedTasks;
+    private Long overdueTasks;
     private String myRole; // 현재 사용자의 프로젝트 내 역할 (PL, MEMBER)
     private List<KanbanColumnDTO> columns; // 1 : N
 }
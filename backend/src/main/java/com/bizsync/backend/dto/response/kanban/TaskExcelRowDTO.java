@@ -0,0 +1,21 @@
+package com.bizsync.backend.dto.response.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 업무 엑셀 다운로드 행 (엑셀 업로드 양식과 같은 열 구성)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskExcelRowDTO {
+    private String columnName;
+    private String title;
+    private String workerEmail;
+    private LocalDate deadline;
+    private String content;
+}
@@ -0,0 +1,16 @@
+package com.bizsync.backend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface ApprovalLineMapper {
+
+    /**
+     * 결재선 일괄 등록 (multi-row INSERT 한 번으로 저장)
+     * 결재 순서는 목록 순서대로 1부터 매기며, 모든 결재선은 PENDING 상태로 등록
+     */
+    int insertApprovalLines(@Param("documentId") Long documentId, @Param("approverIds") List<Long> approverIds);
+}
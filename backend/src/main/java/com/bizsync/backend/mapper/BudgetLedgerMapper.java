@@ -0,0 +1,57 @@
+package com.bizsync.backend.mapper;
+
+import com.bizsync.backend.domain.entity.BudgetLedgerEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Mapper
+public interface BudgetLedgerMapper {
+
+    /**
+     * 원장 항목 추가 (프로젝트 행을 건드리지 않는 단순 INSERT)
+     */
+    int insertEntry(@Param("entry") BudgetLedgerEntry entry);
+
+    /**
+     * 원장 항목 일괄 추가 (multi-row INSERT 한 번으로 저장)
+     */
+    int insertEntries(@Param("entries") List<BudgetLedgerEntry> entries);
+
+    /**
+     * 원장 기준 사용 예산 (체크포인트 + 체크포인트 이후 항목 합계)
+     */
+    BigDecimal selectUsedBudget(@Param("projectId") Long projectId);
+
+    /**
+     * 압축해도 되는 마지막 항목 ID (최근 lagSeconds 안에 추가된 항목 직전까지, 원장이 비어 있으면 null)
+     * 이보다 작은 ID를 받은 트랜잭션은 lagSeconds 이상 열려 있지 않은 한 모두 커밋되어 있음
+     */
+    Long selectCompactionBound(@Param("lagSeconds") long lagSeconds);
+
+    /**
+     * 이미 체크포인트에 합친 마지막 항목 ID (이 ID 이하 항목은 모두 압축됨)
+     */
+    long selectCompactedEntryId();
+
+    /**
+     * fromEntryId 초과 ~ upToEntryId 이하 항목을 프로젝트별로 체크포인트에 합침 (INSERT ... SELECT 한 문장)
+     *
+     * @return 추가/갱신된 체크포인트 행 수 (MariaDB 기준 갱신은 2로 셈)
+     */
+    int compactCheckpoints(@Param("fromEntryId") long fromEntryId, @Param("upToEntryId") long upToEntryId);
+
+    /**
+     * 체크포인트 이하 항목 수가 체크포인트에 합친 항목 수와 다른 프로젝트 ID (압축 이후 늦게 커밋된 항목이 있음)
+     */
+    List<Long> selectStaleCheckpointProjectIds();
+
+    /**
+     * 체크포인트 이하 항목 전체로 합계와 항목 수를 다시 계산
+     *
+     * @return 갱신된 체크포인트 행 수
+     */
+    int rebuildCheckpoint(@Param("projectId") Long projectId);
+}
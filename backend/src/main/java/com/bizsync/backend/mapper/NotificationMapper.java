@@ -0,0 +1,40 @@
+package com.bizsync.backend.mapper;
+
+import com.bizsync.backend.domain.entity.Notification;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface NotificationMapper {
+
+    /**
+     * 알림 일괄 저장 (multi-row INSERT 한 번으로 저장)
+     */
+    int insertNotifications(@Param("notifications") List<Notification> notifications);
+
+    /**
+     * 안 읽은 알림 1건을 읽음 처리
+     *
+     * @return 읽음 처리된 행 수 (이미 읽었거나 다른 사용자의 알림이면 0)
+     */
+    int markAsRead(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+
+    /**
+     * 사용자의 안 읽은 알림을 모두 읽음 처리
+     *
+     * @return 읽음 처리된 행 수
+     */
+    int markAllAsRead(@Param("userId") Long userId);
+
+    /**
+     * 알림 1건 삭제
+     *
+     * @param read 삭제할 알림의 읽음 여부 (조회 후 바뀌었으면 삭제하지 않음)
+     * @return 삭제된 행 수
+     */
+    int deleteNotification(@Param("userId") Long userId,
+                           @Param("notificationId") Long notificationId,
+                           @Param("read") boolean read);
+}
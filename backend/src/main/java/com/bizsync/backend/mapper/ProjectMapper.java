@@ -5,6 +5,7 @@ import com.bizsync.backend.dto.response.kanban.ProjectBoardDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +25,31 @@ public interface ProjectMapper {
      */
     List<ProjectListResponseDTO> selectMyProjects(@Param("userId") Long userId);
 
+    /**
+     * 예산 차감 (잔액이 충분할 때만 UPDATE 한 문장으로 차감)
+     * 행을 미리 잠그지 않으므로 같은 프로젝트의 결재가 차감 직전까지 직렬화되지 않음
+     *
+     * @return 차감된 행 수 (잔액 부족이거나 프로젝트가 없으면 0)
+     */
+    int spendBudget(@Param("projectId") Long projectId, @Param("amount") BigDecimal amount);
+
+    /**
+     * 예산 환급 (사용 예산이 환급 금액 이상일 때만 UPDATE 한 문장으로 환급)
+     *
+     * @return 환급된 행 수 (사용 예산보다 크거나 프로젝트가 없으면 0)
+     */
+    int refundBudget(@Param("projectId") Long projectId, @Param("amount") BigDecimal amount);
+
+    /**
+     * 사용 예산 보정 (보정 후 값이 0 이상, 총 예산 이하일 때만 UPDATE 한 문장으로 증감)
+     *
+     * @return 보정된 행 수 (범위를 벗어나거나 프로젝트가 없으면 0)
+     */
+    int adjustUsedBudget(@Param("projectId") Long projectId, @Param("delta") BigDecimal delta);
+
+    /**
+     * 프로젝트 예산 잔액 조회 (총 예산 - 사용 예산)
+     */
+    Optional<BigDecimal> selectRemainingBudget(@Param("projectId") Long projectId);
+
 }
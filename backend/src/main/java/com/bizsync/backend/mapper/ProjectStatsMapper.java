@@ -0,0 +1,27 @@
+package com.bizsync.backend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+
+@Mapper
+public interface ProjectStatsMapper {
+
+    /**
+     * 프로젝트 진행 현황에 증감분을 더함 (행이 없으면 증감분으로 생성)
+     */
+    int applyDelta(@Param("projectId") Long projectId,
+                   @Param("todoTasks") long todoTasks,
+                   @Param("inProgressTasks") long inProgressTasks,
+                   @Param("doneTasks") long doneTasks,
+                   @Param("unassignedTasks") long unassignedTasks,
+                   @Param("overdueTasks") long overdueTasks);
+
+    /**
+     * 모든 프로젝트의 진행 현황을 업무 테이블 기준으로 다시 집계해 덮어씀
+     *
+     * @param today 마감 초과 판단 기준일
+     */
+    int recalculateAll(@Param("today") LocalDate today);
+}
@@ -1,8 +1,10 @@
 package com.bizsync.backend.mapper;
 
 import com.bizsync.backend.domain.entity.Task;
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -10,7 +12,15 @@ import java.util.List;
 public interface TaskMapper {
 
     /**
-     * 프로젝트의 모든 업무 조회 (컬럼 순서, 태스크 순서대로 정렬)
+     * 프로젝트의 모든 업무를 엑셀 행으로 조회 (컬럼 순서, 태스크 순서대로 정렬)
+     * 결과를 한 번에 메모리에 올리지 않도록 Cursor로 반환하며, 트랜잭션 안에서 순회해야 함
      */
-    List<Task> selectTasksByProjectIdOrderByColumnSequenceAndTaskSequence(@Param("projectId") Long projectId);
+    Cursor<TaskExcelRowDTO> selectTaskExcelRowsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * 업무 일괄 등록 (multi-row INSERT 한 번으로 저장)
+     * IDENTITY 전략의 JPA saveAll은 행마다 INSERT를 보내므로 대량 등록에는 이 메서드를 사용
+     * 생성된 업무 ID는 전달한 각 Task의 taskId에 채워짐
+     */
+    int insertTasks(@Param("tasks") List<Task> tasks, @Param("createdBy") Long createdBy);
 }
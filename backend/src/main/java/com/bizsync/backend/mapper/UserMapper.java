@@ -0,0 +1,24 @@
+package com.bizsync.backend.mapper;
+
+import com.bizsync.backend.domain.entity.AccountStatus;
+import com.bizsync.backend.domain.entity.Position;
+import com.bizsync.backend.domain.entity.Role;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface UserMapper {
+
+    /**
+     * 관리자 사용자 목록 키셋 조회 : 필터에 맞는 사용자 ID를 최신순(user_id 내림차순)으로 cursor 다음부터 limit개 조회
+     * 지정한 필터만 WHERE에 넣어 (필터, user_id) 복합 인덱스를 순서대로 읽고 limit개를 찾으면 멈춤
+     */
+    List<Long> selectUserIdsForAdmin(@Param("status") AccountStatus status,
+                                     @Param("role") Role role,
+                                     @Param("position") Position position,
+                                     @Param("keyword") String keyword,
+                                     @Param("cursor") Long cursor,
+                                     @Param("limit") int limit);
+}
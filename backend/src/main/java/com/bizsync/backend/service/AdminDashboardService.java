@@ -4,25 +4,41 @@ import com.bizsync.backend.domain.entity.AccountStatus;
 import com.bizsync.backend.domain.entity.Position;
 import com.bizsync.backend.domain.entity.ProjectStatus;
 import com.bizsync.backend.domain.entity.Role;
+import com.bizsync.backend.domain.event.ProjectStatusChangedEvent;
+import com.bizsync.backend.domain.event.UserAccountChangedEvent;
 import com.bizsync.backend.domain.repository.ApprovalDocumentRepository;
 import com.bizsync.backend.domain.repository.ProjectRepository;
+import com.bizsync.backend.domain.repository.ProjectStatusCount;
 import com.bizsync.backend.domain.repository.TaskRepository;
+import com.bizsync.backend.domain.repository.UserBreakdownCount;
 import com.bizsync.backend.domain.repository.UserRepository;
 import com.bizsync.backend.dto.response.AdminDashboardStatisticsDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 관리자 대시보드 통계 관련 비즈니스 로직을 처리하는 서비스
  *
  * <p>사용자, 프로젝트, 업무, 결재 등의 통계 정보를 제공합니다.
+ * 통계는 사용자 GROUP BY 1회, 프로젝트 GROUP BY 1회, 전체 건수 2회로 집계한 스냅샷을 메모리에 두고 반환하며,
+ * 스냅샷은 주기적으로 다시 집계합니다. 계정 또는 프로젝트 상태가 바뀌면 스냅샷을 만료시켜
+ * 다음 조회 때 새로 집계합니다.
  *
  * @author BizSync Team
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AdminDashboardService {
 
     private final UserRepository userRepository;
@@ -30,64 +46,160 @@ public class AdminDashboardService {
     private final TaskRepository taskRepository;
     private final ApprovalDocumentRepository approvalDocumentRepository;
 
+    // 집계 쿼리가 끝날 때까지 쥐는 잠금 (모니터를 쥔 채 DB를 기다리면 가상 스레드가 캐리어에 묶이므로 synchronized 대신 사용)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile AdminDashboardStatisticsDTO snapshot;
+    private volatile boolean stale = true;
+
+    /**
+     * 스냅샷을 집계할 때 함께 보관하는 상태/권한/직급 조합별 인원
+     */
+    private volatile List<UserBreakdown> userBreakdown = List.of();
+
     /**
      * 관리자 대시보드 통계 정보를 조회합니다.
      *
-     * @return 대시보드 통계 DTO (사용자, 프로젝트, 업무, 결재 통계 포함)
+     * <p>스냅샷이 없거나 만료된 경우에만 DB에서 다시 집계합니다.
+     *
+     * @return 대시보드 통계 DTO (사용자, 프로젝트, 업무, 결재 통계 및 집계 시각 포함)
      */
     public AdminDashboardStatisticsDTO getDashboardStatistics() {
-        long totalUsers = userRepository.count();
-        long pendingUsers = userRepository.countByStatus(AccountStatus.PENDING);
-        long activeUsers = userRepository.countByStatus(AccountStatus.ACTIVE);
-        long suspendedUsers = userRepository.countByStatus(AccountStatus.SUSPENDED);
-        long deletedUsers = userRepository.countByStatus(AccountStatus.DELETED);
-        long adminUsers = userRepository.countByRole(Role.ADMIN);
-        long managerUsers = userRepository.countByRole(Role.MANAGER);
-        long memberUsers = userRepository.countByRole(Role.MEMBER);
-
-        long totalProjects = projectRepository.count();
-        long planningProjects = projectRepository.countByStatus(ProjectStatus.PLANNING);
-        long inProgressProjects = projectRepository.countByStatus(ProjectStatus.IN_PROGRESS);
-        long completedProjects = projectRepository.countByStatus(ProjectStatus.COMPLETED);
-        long onHoldProjects = projectRepository.countByStatus(ProjectStatus.ON_HOLD);
-        long cancelledProjects = projectRepository.countByStatus(ProjectStatus.CANCELLED);
+        AdminDashboardStatisticsDTO current = snapshot;
+        if (current == null || stale) {
+            current = refreshIfStale();
+        }
+        return current;
+    }
+
+    /**
+     * 통계 스냅샷을 다시 집계합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.statistics.refresh-interval-ms:60000}")
+    public void refreshSnapshot() {
+        refreshLock.lock();
+        try {
+            // 집계 중에 들어온 만료 요청은 유지되도록 집계 전에 플래그를 내림
+            stale = false;
+            try {
+                snapshot = aggregate();
+            } catch (RuntimeException e) {
+                stale = true;
+                throw e;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 상태/권한/직급 필터에 해당하는 사용자 수를 통계 스냅샷의 조합별 인원으로 계산합니다.
+     *
+     * <p>COUNT 쿼리 없이 스냅샷으로 계산하며, 스냅샷이 없거나 만료된 경우에만 다시 집계합니다.
+     *
+     * @param status   계정 상태 (null이면 전체)
+     * @param role     사용자 권한 (null이면 전체)
+     * @param position 사용자 직급 (null이면 전체)
+     * @return 사용자 수
+     */
+    public long countUsers(AccountStatus status, Role role, Position position) {
+        getDashboardStatistics();
+        return userBreakdown.stream()
+                .filter(row -> status == null || row.status() == status)
+                .filter(row -> role == null || row.role() == role)
+                .filter(row -> position == null || row.position() == position)
+                .mapToLong(UserBreakdown::count)
+                .sum();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        stale = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectStatusChanged(ProjectStatusChangedEvent event) {
+        stale = true;
+    }
+
+    private AdminDashboardStatisticsDTO refreshIfStale() {
+        refreshLock.lock();
+        try {
+            // 동시에 만료를 확인한 요청 중 하나만 집계
+            if (snapshot == null || stale) {
+                refreshSnapshot();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private AdminDashboardStatisticsDTO aggregate() {
+        long start = System.currentTimeMillis();
+
+        Map<AccountStatus, Long> byStatus = new EnumMap<>(AccountStatus.class);
+        Map<Role, Long> byRole = new EnumMap<>(Role.class);
+        Map<Position, Long> byPosition = new EnumMap<>(Position.class);
+        long totalUsers = 0;
+        List<UserBreakdown> breakdown = new ArrayList<>();
+        for (UserBreakdownCount row : userRepository.countGroupByStatusAndRoleAndPosition()) {
+            long count = row.getCount();
+            breakdown.add(new UserBreakdown(row.getStatus(), row.getRole(), row.getPosition(), count));
+            totalUsers += count;
+            byStatus.merge(row.getStatus(), count, Long::sum);
+            byRole.merge(row.getRole(), count, Long::sum);
+            // 직급 미지정 사용자는 전체 인원에만 포함
+            if (row.getPosition() != null) {
+                byPosition.merge(row.getPosition(), count, Long::sum);
+            }
+        }
+
+        Map<ProjectStatus, Long> byProjectStatus = new EnumMap<>(ProjectStatus.class);
+        long totalProjects = 0;
+        for (ProjectStatusCount row : projectRepository.countGroupByStatus()) {
+            totalProjects += row.getCount();
+            byProjectStatus.merge(row.getStatus(), row.getCount(), Long::sum);
+        }
+
+        userBreakdown = List.copyOf(breakdown);
 
         long totalTasks = taskRepository.count();
         long totalApprovals = approvalDocumentRepository.count();
 
-        // 직급별 통계
-        long staffUsers = userRepository.countByPosition(Position.STAFF);
-        long seniorUsers = userRepository.countByPosition(Position.SENIOR);
-        long assistantManagerUsers = userRepository.countByPosition(Position.ASSISTANT_MANAGER);
-        long deputyGeneralManagerUsers = userRepository.countByPosition(Position.DEPUTY_GENERAL_MANAGER);
-        long generalManagerUsers = userRepository.countByPosition(Position.GENERAL_MANAGER);
-        long directorUsers = userRepository.countByPosition(Position.DIRECTOR);
-        long executiveUsers = userRepository.countByPosition(Position.EXECUTIVE);
+        log.debug("관리자 대시보드 통계 집계 완료 - {}ms", System.currentTimeMillis() - start);
 
         return AdminDashboardStatisticsDTO.from(
                 totalUsers,
-                pendingUsers,
-                activeUsers,
-                suspendedUsers,
-                deletedUsers,
-                adminUsers,
-                managerUsers,
-                memberUsers,
+                byStatus.getOrDefault(AccountStatus.PENDING, 0L),
+                byStatus.getOrDefault(AccountStatus.ACTIVE, 0L),
+                byStatus.getOrDefault(AccountStatus.SUSPENDED, 0L),
+                byStatus.getOrDefault(AccountStatus.DELETED, 0L),
+                byRole.getOrDefault(Role.ADMIN, 0L),
+                byRole.getOrDefault(Role.MANAGER, 0L),
+                byRole.getOrDefault(Role.MEMBER, 0L),
                 totalProjects,
-                planningProjects,
-                inProgressProjects,
-                completedProjects,
-                onHoldProjects,
-                cancelledProjects,
+                byProjectStatus.getOrDefault(ProjectStatus.PLANNING, 0L),
+                byProjectStatus.getOrDefault(ProjectStatus.IN_PROGRESS, 0L),
+                byProjectStatus.getOrDefault(ProjectStatus.COMPLETED, 0L),
+                byProjectStatus.getOrDefault(ProjectStatus.ON_HOLD, 0L),
+                byProjectStatus.getOrDefault(ProjectStatus.CANCELLED, 0L),
                 totalTasks,
                 totalApprovals,
-                staffUsers,
-                seniorUsers,
-                assistantManagerUsers,
-                deputyGeneralManagerUsers,
-                generalManagerUsers,
-                directorUsers,
-                executiveUsers
+                byPosition.getOrDefault(Position.STAFF, 0L),
+                byPosition.getOrDefault(Position.SENIOR, 0L),
+                byPosition.getOrDefault(Position.ASSISTANT_MANAGER, 0L),
+                byPosition.getOrDefault(Position.DEPUTY_GENERAL_MANAGER, 0L),
+                byPosition.getOrDefault(Position.GENERAL_MANAGER, 0L),
+                byPosition.getOrDefault(Position.DIRECTOR, 0L),
+                byPosition.getOrDefault(Position.EXECUTIVE, 0L),
+                LocalDateTime.now()
         );
     }
+
+    /**
+     * 상태/권한/직급 조합별 인원
+     */
+    private record UserBreakdown(AccountStatus status, Role role, Position position, long count) {
+    }
 }
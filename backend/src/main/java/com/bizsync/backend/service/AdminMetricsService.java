@@ -0,0 +1,109 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.domain.entity.DailyMetricSnapshot;
+import com.bizsync.backend.domain.repository.ApprovalDocumentRepository;
+import com.bizsync.backend.domain.repository.DailyMetricSnapshotRepository;
+import com.bizsync.backend.dto.response.AdminDashboardStatisticsDTO;
+import com.bizsync.backend.dto.response.AdminMetricSeriesDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 관리자 지표 시계열 관련 비즈니스 로직을 처리하는 서비스
+ *
+ * <p>매일 자정 직후 관리자 대시보드 통계를 새로 집계해 전날 날짜의 스냅샷으로 한 행씩 기록하고,
+ * 기간을 지정한 시계열 조회 기능을 제공합니다. 과거 이력 테이블을 다시 집계하지 않고 스냅샷만 읽습니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminMetricsService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final DailyMetricSnapshotRepository dailyMetricSnapshotRepository;
+    private final AdminDashboardService adminDashboardService;
+    private final ApprovalDocumentRepository approvalDocumentRepository;
+
+    /**
+     * 전날 날짜의 지표 스냅샷을 기록합니다.
+     *
+     * <p>이미 기록된 날짜는 건너뛰므로 여러 번 실행되어도 하루 한 행만 남습니다.
+     * 확인과 기록 사이에 다른 인스턴스가 먼저 기록했다면 기본 키 충돌로 저장이 실패하고 먼저 기록된 행을 유지합니다.
+     */
+    @Scheduled(cron = "${app.admin.metrics.snapshot-cron:0 5 0 * * *}")
+    public void recordDailySnapshot() {
+        LocalDate metricDate = LocalDate.now().minusDays(1);
+        if (dailyMetricSnapshotRepository.existsById(metricDate)) {
+            return;
+        }
+
+        adminDashboardService.refreshSnapshot();
+        AdminDashboardStatisticsDTO statistics = adminDashboardService.getDashboardStatistics();
+        long newApprovals = approvalDocumentRepository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                metricDate.atStartOfDay(), metricDate.plusDays(1).atStartOfDay());
+
+        DailyMetricSnapshot snapshot = DailyMetricSnapshot.builder()
+                .metricDate(metricDate)
+                .totalUsers(statistics.totalUsers())
+                .activeUsers(statistics.activeUsers())
+                .pendingUsers(statistics.pendingUsers())
+                .totalProjects(statistics.totalProjects())
+                .planningProjects(statistics.planningProjects())
+                .inProgressProjects(statistics.inProgressProjects())
+                .completedProjects(statistics.completedProjects())
+                .onHoldProjects(statistics.onHoldProjects())
+                .cancelledProjects(statistics.cancelledProjects())
+                .totalTasks(statistics.totalTasks())
+                .totalApprovals(statistics.totalApprovals())
+                .newApprovals(newApprovals)
+                .recordedAt(LocalDateTime.now())
+                .build();
+
+        try {
+            dailyMetricSnapshotRepository.save(snapshot);
+            log.info("관리자 지표 스냅샷 기록: date={}", metricDate);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 날짜를 먼저 기록한 경우
+            log.info("관리자 지표 스냅샷이 이미 기록되어 있습니다: date={}", metricDate);
+        }
+    }
+
+    /**
+     * 기간 내 일별 지표 시계열을 조회합니다.
+     *
+     * @param from 시작일 (null이면 종료일 기준 최근 {@value #DEFAULT_RANGE_DAYS}일)
+     * @param to   종료일 (null이면 어제)
+     * @return 지표 시계열 DTO
+     * @throws BusinessException 시작일이 종료일보다 늦거나 기간이 {@value #MAX_RANGE_DAYS}일을 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public AdminMetricSeriesDTO getSeries(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now().minusDays(1);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) + 1 > MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    String.format("조회 기간은 최대 %d일입니다.", MAX_RANGE_DAYS));
+        }
+
+        return AdminMetricSeriesDTO.from(start, end,
+                dailyMetricSnapshotRepository.findByMetricDateBetweenOrderByMetricDateAsc(start, end));
+    }
+}
@@ -7,19 +7,31 @@ import com.bizsync.backend.domain.entity.AccountStatus;
 import com.bizsync.backend.domain.entity.Position;
 import com.bizsync.backend.domain.entity.Role;
 import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.domain.event.UserAccountChangedEvent;
 import com.bizsync.backend.domain.repository.UserRepository;
 import com.bizsync.backend.dto.request.PasswordResetRequestDTO;
 import com.bizsync.backend.dto.request.UserPositionUpdateRequestDTO;
 import com.bizsync.backend.dto.request.UserRoleUpdateRequestDTO;
+import com.bizsync.backend.dto.response.AdminUserPageDTO;
 import com.bizsync.backend.dto.response.AdminUserStatisticsDTO;
+import com.bizsync.backend.dto.response.UserDetailResponseDTO;
+import com.bizsync.backend.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 관리자용 사용자 관리 비즈니스 로직을 처리하는 서비스
  *
@@ -33,8 +45,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AdminUserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final AdminDashboardService adminDashboardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 자기 자신인지 확인하고 예외를 발생시킵니다.
@@ -64,6 +81,45 @@ public class AdminUserService {
         return userRepository.findByStatusAndRoleAndPositionAndKeyword(status, role, position, keyword, pageable);
     }
 
+    /**
+     * 사용자 목록을 최신순 커서 기반으로 조회합니다 (필터링 및 검색 지원).
+     *
+     * <p>필터에 맞는 사용자 ID를 (필터, user_id) 인덱스에서 cursor 다음부터 size + 1개만 읽고 해당 사용자만 조회하므로,
+     * 페이지 깊이와 관계없이 비용이 같습니다. 전체 인원은 COUNT 쿼리 대신 관리자 통계 스냅샷으로 계산하며,
+     * 키워드 검색 시에는 세지 않습니다.
+     *
+     * @param status   계정 상태 필터 (null이면 전체)
+     * @param role     사용자 권한 필터 (null이면 전체)
+     * @param position 사용자 직급 필터 (null이면 전체)
+     * @param keyword  검색 키워드 (이름, 이메일 검색)
+     * @param cursor   이전 페이지의 마지막 사용자 ID (null이면 처음부터)
+     * @param size     조회할 사용자 수 (최대 100)
+     * @return 사용자 페이지 (사용자 목록, hasMore, nextCursor, 전체 인원)
+     */
+    @Transactional(readOnly = true)
+    public AdminUserPageDTO getUserPage(AccountStatus status, Role role, Position position, String keyword,
+                                        Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String trimmedKeyword = keyword != null && !keyword.isBlank() ? keyword.trim() : null;
+
+        // pageSize + 1개 조회 (hasMore 판단용)
+        List<Long> ids = userMapper.selectUserIdsForAdmin(status, role, position, trimmedKeyword, cursor, pageSize + 1);
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        Long nextCursor = hasMore ? pageIds.get(pageIds.size() - 1) : null;
+
+        Map<Long, User> usersById = userRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        List<UserDetailResponseDTO> users = pageIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(UserDetailResponseDTO::from)
+                .toList();
+
+        Long totalCount = trimmedKeyword == null ? adminDashboardService.countUsers(status, role, position) : null;
+        return new AdminUserPageDTO(users, hasMore, nextCursor, totalCount);
+    }
+
     /**
      * 사용자 상세 정보를 조회합니다.
      *
@@ -89,6 +145,7 @@ public class AdminUserService {
             throw new BusinessException(ErrorCode.ACCOUNT_ALREADY_ACTIVE);
         }
         user.approve();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 승인: userId={}, email={}", userId, user.getEmail());
     }
 
@@ -103,6 +160,7 @@ public class AdminUserService {
 
         User user = userRepository.findByIdOrThrow(userId);
         user.reject();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 거부: userId={}, email={}", userId, user.getEmail());
     }
 
@@ -117,6 +175,7 @@ public class AdminUserService {
 
         User user = userRepository.findByIdOrThrow(userId);
         user.suspend();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 정지: userId={}, email={}", userId, user.getEmail());
     }
 
@@ -131,6 +190,7 @@ public class AdminUserService {
 
         User user = userRepository.findByIdOrThrow(userId);
         user.activate();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 활성화: userId={}, email={}", userId, user.getEmail());
     }
 
@@ -146,6 +206,7 @@ public class AdminUserService {
 
         User user = userRepository.findByIdOrThrow(userId);
         user.changeRole(dto.role());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 권한 변경: userId={}, newRole={}", userId, dto.role());
     }
 
@@ -158,6 +219,7 @@ public class AdminUserService {
     public void changeUserPosition(Long userId, UserPositionUpdateRequestDTO dto) {
         User user = userRepository.findByIdOrThrow(userId);
         user.changePosition(dto.position());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 직급 변경: userId={}, newPosition={}", userId, dto.position());
     }
 
@@ -185,34 +247,19 @@ public class AdminUserService {
 
         User user = userRepository.findByIdOrThrow(userId);
         user.reject(); // 상태를 DELETED로 변경 (소프트 삭제)
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
         log.info("사용자 삭제 (소프트 삭제): userId={}, email={}", userId, user.getEmail());
     }
 
     /**
      * 사용자 통계 정보를 조회합니다.
      *
-     * @return 사용자 통계 DTO
+     * <p>관리자 대시보드 통계 스냅샷을 사용하므로 스냅샷이 유효하면 DB를 조회하지 않습니다.
+     *
+     * @return 사용자 통계 DTO (집계 시각 포함)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminUserStatisticsDTO getStatistics() {
-        long totalUsers = userRepository.count();
-        long pendingUsers = userRepository.countByStatus(AccountStatus.PENDING);
-        long activeUsers = userRepository.countByStatus(AccountStatus.ACTIVE);
-        long suspendedUsers = userRepository.countByStatus(AccountStatus.SUSPENDED);
-        long deletedUsers = userRepository.countByStatus(AccountStatus.DELETED);
-        long adminUsers = userRepository.countByRole(Role.ADMIN);
-        long managerUsers = userRepository.countByRole(Role.MANAGER);
-        long memberUsers = userRepository.countByRole(Role.MEMBER);
-
-        return AdminUserStatisticsDTO.from(
-                totalUsers,
-                pendingUsers,
-                activeUsers,
-                suspendedUsers,
-                deletedUsers,
-                adminUsers,
-                managerUsers,
-                memberUsers
-        );
+        return AdminUserStatisticsDTO.from(adminDashboardService.getDashboardStatistics());
     }
 }
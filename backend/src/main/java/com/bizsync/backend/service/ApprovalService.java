@@ -5,20 +5,24 @@ import com.bizsync.backend.common.exception.ErrorCode;
 import com.bizsync.backend.common.exception.ForbiddenException;
 import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.domain.entity.*;
+import com.bizsync.backend.domain.event.ApprovalTurnChangedEvent;
 import com.bizsync.backend.domain.repository.*;
+import com.bizsync.backend.dto.request.ApprovalBulkProcessRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalCreateRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalProcessRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalSummaryDTO;
+import com.bizsync.backend.dto.response.ApprovalBulkResultDTO;
 import com.bizsync.backend.dto.response.ApprovalDetailDTO;
+import com.bizsync.backend.mapper.ApprovalLineMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -36,10 +40,13 @@ public class ApprovalService {
 
     private final ApprovalDocumentRepository approvalDocumentRepository;
     private final ApprovalLineRepository approvalLineRepository;
+    private final ApprovalLineMapper approvalLineMapper;
+    private final BudgetLedgerService budgetLedgerService;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 결재 문서를 생성하고 결재선을 설정합니다.
@@ -83,44 +90,34 @@ public class ApprovalService {
                 .title(dto.title())
                 .content(dto.content())
                 .status(ApprovalStatus.PENDING)
+                .currentSequence(1)
+                .currentApproverId(dto.approverIds().get(0))
                 .build();
     }
 
+    /**
+     * 결재선을 한 번에 등록합니다.
+     *
+     * <p>결재자 수와 관계없이 결재자 검증 COUNT 1회와 multi-row INSERT 1회로 처리하며,
+     * 결재 요청 알림은 커밋 후 작업 하나로 넘깁니다.
+     */
     private void createApprovalLines(ApprovalDocument document, List<Long> approverIds) {
-        List<User> approvers = userRepository.findAllById(approverIds);
+        validateApprovers(approverIds);
 
-        if (approvers.size() != approverIds.size()) {
-            throw new ResourceNotFoundException(ErrorCode.APPROVAL_APPROVER_NOT_FOUND);
-        }
-
-        Map<Long, User> approverMap = approvers.stream()
-                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        approvalLineMapper.insertApprovalLines(document.getDocumentId(), approverIds);
+        publishTurnChanged(document, null);
 
-        int sequence = 1;
-        for (Long approverId : approverIds) {
-            User approver = approverMap.get(approverId);
-            ApprovalLine line = createApprovalLine(document, approver, sequence++);
-            approvalLineRepository.save(line);
-            sendApprovalRequestNotification(document, approver, line.getSequence());
-        }
+        notificationService.sendApprovalRequestNotifications(document, approverIds);
     }
 
-    private ApprovalLine createApprovalLine(ApprovalDocument document, User approver, int sequence) {
-        return ApprovalLine.builder()
-                .document(document)
-                .approver(approver)
-                .sequence(sequence)
-                .status(ApprovalStatus.PENDING)
-                .build();
-    }
-
-    private void sendApprovalRequestNotification(ApprovalDocument document, User approver, Integer sequence) {
-        notificationService.sendApprovalRequestNotification(
-                document,
-                approver.getUserId(),
-                approver.getName(),
-                sequence
-        );
+    private void validateApprovers(List<Long> approverIds) {
+        Set<Long> distinctIds = new HashSet<>(approverIds);
+        if (distinctIds.size() != approverIds.size()) {
+            throw new BusinessException(ErrorCode.APPROVAL_DUPLICATE_APPROVER);
+        }
+        if (userRepository.countByUserIdIn(distinctIds) != distinctIds.size()) {
+            throw new ResourceNotFoundException(ErrorCode.APPROVAL_APPROVER_NOT_FOUND);
+        }
     }
 
     /**
@@ -139,10 +136,34 @@ public class ApprovalService {
         validateDrafterPermission(userId, document);
         validateCancellableStatus(document);
 
+        Long previousApproverId = document.getCurrentApproverId();
         document.cancel();
+        publishTurnChanged(document, previousApproverId);
         cancelAllApprovalLines(document);
     }
 
+    /**
+     * 최종 승인된 비용 결재를 취소하고 사용한 예산을 환급합니다 (관리자).
+     *
+     * <p>문서 행을 잠근 채 상태를 확인하므로 같은 문서를 두 번 환급하지 않으며, 문서는 취소 상태가 됩니다.
+     *
+     * @param adminId    처리자(관리자) ID
+     * @param documentId 비용 결재 문서 ID
+     * @param reason     환급 사유
+     * @throws BusinessException 최종 승인된 비용 결재가 아니거나 환급 금액이 사용 예산보다 큰 경우
+     */
+    public void refundApprovedExpense(Long adminId, Long documentId, String reason) {
+        ApprovalDocument document = approvalDocumentRepository.findByIdForUpdateOrThrow(documentId);
+        if (document.getStatus() != ApprovalStatus.APPROVED || !document.isExpenseApproval()
+                || document.getProject() == null) {
+            throw new BusinessException(ErrorCode.APPROVAL_NOT_REFUNDABLE);
+        }
+
+        budgetLedgerService.refund(document.getProject().getProjectId(), documentId, document.getAmount(),
+                adminId, reason);
+        document.cancel();
+    }
+
     private void validateDrafterPermission(Long userId, ApprovalDocument document) {
         if (!document.getDrafter().getUserId().equals(userId)) {
             throw new ForbiddenException(ErrorCode.APPROVAL_DRAFTER_ONLY);
@@ -164,14 +185,16 @@ public class ApprovalService {
 
     private void cancelAllApprovalLines(ApprovalDocument document) {
         List<ApprovalLine> lines = approvalLineRepository.findByDocumentOrderBySequence(document);
-        lines.forEach(ApprovalLine::cancel);
+        for (ApprovalLine line : lines) {
+            line.cancel();
+        }
     }
 
     /**
      * 결재를 승인하거나 반려 처리합니다.
      *
-     * <p>이전 결재자가 모두 승인한 경우에만 처리할 수 있으며,
-     * 모든 결재자가 승인하면 문서가 최종 승인됩니다.
+     * <p>문서의 현재 결재 차례인 결재자만 처리할 수 있습니다. 문서 행을 잠근 채 현재 결재선과 다음 결재선만 조회하므로
+     * 결재선 길이와 관계없이 일정한 쿼리로 처리되며, 승인하면 다음 결재선으로 차례를 넘기고 다음 결재선이 없으면 최종 승인됩니다.
      *
      * @param approverId 결재자 ID
      * @param documentId 결재 문서 ID
@@ -180,11 +203,8 @@ public class ApprovalService {
      * @throws BusinessException  이미 처리된 결재이거나 이전 결재자가 미승인인 경우
      */
     public void processApproval(Long approverId, Long documentId, ApprovalProcessRequestDTO dto) {
-        ApprovalDocument document = approvalDocumentRepository.findByIdOrThrow(documentId);
-        ApprovalLine myLine = getApprovalLine(document, approverId);
-
-        validateApprovalLineStatus(myLine);
-        validatePreviousApprovals(documentId, myLine);
+        ApprovalDocument document = approvalDocumentRepository.findByIdForUpdateOrThrow(documentId);
+        ApprovalLine myLine = getCurrentApprovalLine(document, approverId);
 
         if (dto.status() == ApprovalStatus.APPROVED) {
             processApprovalAction(document, myLine, dto.comment());
@@ -205,42 +225,220 @@ public class ApprovalService {
         }
     }
 
-    private void validatePreviousApprovals(Long documentId, ApprovalLine myLine) {
-        boolean hasUnapprovedPrevious = approvalLineRepository
-                .existsByDocument_DocumentIdAndSequenceLessThanAndStatusNot(
-                        documentId,
-                        myLine.getSequence(),
-                        ApprovalStatus.APPROVED);
-
-        if (hasUnapprovedPrevious) {
+    /**
+     * 현재 결재 차례의 결재선을 조회합니다.
+     *
+     * <p>차례가 아니면 결재선에 없는 경우 권한 없음, 이미 처리한 경우 처리 완료, 앞 결재자가 남은 경우 순서 위반으로 거부합니다.
+     */
+    private ApprovalLine getCurrentApprovalLine(ApprovalDocument document, Long approverId) {
+        if (!document.isCurrentApprover(approverId)) {
+            ApprovalLine myLine = getApprovalLine(document, approverId);
+            validateApprovalLineStatus(myLine);
             throw new BusinessException(ErrorCode.APPROVAL_SEQUENCE_VIOLATION);
         }
+
+        ApprovalLine line = approvalLineRepository
+                .findByDocument_DocumentIdAndSequence(document.getDocumentId(), document.getCurrentSequence())
+                .orElseThrow(() -> new ForbiddenException(ErrorCode.APPROVAL_NO_PERMISSION));
+        validateApprovalLineStatus(line);
+        return line;
     }
 
     private void processApprovalAction(ApprovalDocument document, ApprovalLine line, String comment) {
-        line.approve(comment);
+        Optional<ApprovalLine> nextLine = approvalLineRepository
+                .findByDocument_DocumentIdAndSequence(document.getDocumentId(), line.getSequence() + 1);
+        if (nextLine.isEmpty() && document.isExpenseApproval()) {
+            deductBudget(document, line.getApprover().getUserId());
+        }
 
-        if (isAllApproved(document)) {
-            document.approve();
+        applyApproval(document, line, nextLine.orElse(null), comment);
+    }
 
-            if (document.isExpenseApproval()) {
-                deductBudget(document);
-            }
+    /**
+     * 결재선을 승인하고 다음 결재선으로 차례를 넘기거나, 다음 결재선이 없으면 최종 승인합니다 (예산 차감은 호출 전에 끝나 있어야 함).
+     */
+    private void applyApproval(ApprovalDocument document, ApprovalLine line, ApprovalLine nextLine, String comment) {
+        Long previousApproverId = document.getCurrentApproverId();
+        line.approve(comment);
 
+        if (nextLine != null) {
+            document.advanceTo(nextLine);
+        } else {
+            document.approve();
             notificationService.sendApprovalCompleteNotification(document);
         }
+        publishTurnChanged(document, previousApproverId);
     }
 
     private void processRejectionAction(ApprovalDocument document, ApprovalLine line, String comment) {
+        Long previousApproverId = document.getCurrentApproverId();
         line.reject(comment);
         document.reject();
+        publishTurnChanged(document, previousApproverId);
         notificationService.sendApprovalRejectedNotification(document, comment);
     }
 
-    private boolean isAllApproved(ApprovalDocument document) {
-        List<ApprovalLine> allLines = approvalLineRepository.findByDocumentOrderBySequence(document);
-        return allLines.stream()
-                .allMatch(line -> line.getStatus() == ApprovalStatus.APPROVED);
+    /**
+     * 여러 결재 문서를 한 번에 승인하거나 반려합니다.
+     *
+     * <p>문서는 문서 ID 순서로 한 번에 잠그고 결재선도 한 번에 조회한 뒤, 결재 차례는 메모리에서 단건 처리와 같은 규칙으로 검증합니다.
+     * 최종 승인되는 비용 결재는 프로젝트별로 묶어 예산을 차감하며, 변경된 결재선과 문서는 커밋 시 JDBC 배치로 저장됩니다.
+     * 차례가 아니거나 예산이 부족한 문서는 건드리지 않고 실패 사유만 결과에 담으므로, 나머지 문서는 같은 트랜잭션에서 처리됩니다.
+     *
+     * @param approverId 결재자 ID
+     * @param dto        일괄 결재 처리 요청 DTO (문서 ID 목록, 승인/반려 상태, 코멘트)
+     * @return 문서별 처리 결과 (요청한 문서 순서, 중복 ID는 한 번만)
+     * @throws BusinessException 승인/반려 외의 상태이거나 반려 사유가 없는 경우
+     */
+    public List<ApprovalBulkResultDTO> processApprovals(Long approverId, ApprovalBulkProcessRequestDTO dto) {
+        boolean approve = dto.status() == ApprovalStatus.APPROVED;
+        if (!approve && dto.status() != ApprovalStatus.REJECTED) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        if (!approve && (dto.comment() == null || dto.comment().isBlank())) {
+            throw new BusinessException(ErrorCode.APPROVAL_REJECT_COMMENT_REQUIRED);
+        }
+
+        List<Long> documentIds = List.copyOf(new LinkedHashSet<>(dto.documentIds()));
+        Map<Long, ApprovalDocument> documents = approvalDocumentRepository.findAllByIdForUpdate(documentIds).stream()
+                .collect(Collectors.toMap(ApprovalDocument::getDocumentId, Function.identity()));
+        Map<Long, List<ApprovalLine>> linesByDocument = approvalLineRepository.findByDocumentIdsOrderBySequence(documentIds).stream()
+                .collect(Collectors.groupingBy(line -> line.getDocument().getDocumentId()));
+
+        Map<Long, ApprovalBulkResultDTO> results = new HashMap<>();
+        List<BulkStep> steps = new ArrayList<>();
+        for (Long documentId : documentIds) {
+            ApprovalDocument document = documents.get(documentId);
+            if (document == null) {
+                results.put(documentId, ApprovalBulkResultDTO.failure(documentId, ErrorCode.APPROVAL_NOT_FOUND_ALT));
+                continue;
+            }
+
+            List<ApprovalLine> lines = linesByDocument.getOrDefault(documentId, List.of());
+            ErrorCode violation = checkCurrentApprover(document, lines, approverId);
+            if (violation != null) {
+                results.put(documentId, ApprovalBulkResultDTO.failure(documentId, violation));
+                continue;
+            }
+
+            ApprovalLine line = findLine(lines, document.getCurrentSequence());
+            steps.add(new BulkStep(document, line, approve ? findLine(lines, line.getSequence() + 1) : null));
+        }
+
+        Set<Long> unfunded = approve ? deductBudgets(steps, approverId) : Set.of();
+        loadDrafters(steps.stream()
+                .filter(step -> !approve || step.isFinal())
+                .map(BulkStep::document)
+                .toList());
+
+        for (BulkStep step : steps) {
+            ApprovalDocument document = step.document();
+            if (unfunded.contains(document.getDocumentId())) {
+                results.put(document.getDocumentId(),
+                        ApprovalBulkResultDTO.failure(document.getDocumentId(), ErrorCode.BUDGET_INSUFFICIENT));
+                continue;
+            }
+
+            if (approve) {
+                applyApproval(document, step.line(), step.nextLine(), dto.comment());
+            } else {
+                processRejectionAction(document, step.line(), dto.comment());
+            }
+            results.put(document.getDocumentId(), ApprovalBulkResultDTO.success(document.getDocumentId(), document.getStatus()));
+        }
+
+        return documentIds.stream().map(results::get).toList();
+    }
+
+    /**
+     * 미리 조회한 결재선으로 현재 결재 차례인지 검증합니다 (단건 처리의 getCurrentApprovalLine과 같은 규칙).
+     *
+     * @return 처리할 수 없는 사유 (처리할 수 있으면 null)
+     */
+    private ErrorCode checkCurrentApprover(ApprovalDocument document, List<ApprovalLine> lines, Long approverId) {
+        if (!document.isCurrentApprover(approverId)) {
+            Optional<ApprovalLine> myLine = lines.stream()
+                    .filter(line -> line.getApprover().getUserId().equals(approverId))
+                    .findFirst();
+            if (myLine.isEmpty()) {
+                return ErrorCode.APPROVAL_NO_PERMISSION;
+            }
+            return myLine.get().getStatus() != ApprovalStatus.PENDING
+                    ? ErrorCode.APPROVAL_ALREADY_PROCESSED
+                    : ErrorCode.APPROVAL_SEQUENCE_VIOLATION;
+        }
+
+        ApprovalLine line = findLine(lines, document.getCurrentSequence());
+        if (line == null) {
+            return ErrorCode.APPROVAL_NO_PERMISSION;
+        }
+        return line.getStatus() != ApprovalStatus.PENDING ? ErrorCode.APPROVAL_ALREADY_PROCESSED : null;
+    }
+
+    private ApprovalLine findLine(List<ApprovalLine> lines, int sequence) {
+        return lines.stream()
+                .filter(line -> line.getSequence() == sequence)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 최종 승인될 비용 결재를 프로젝트별로 묶어 예산을 차감합니다 (교착을 피하도록 프로젝트 ID 순서로 처리).
+     *
+     * @return 예산이 부족해 차감하지 못한 결재 문서 ID
+     */
+    private Set<Long> deductBudgets(List<BulkStep> steps, Long approverId) {
+        Map<Long, Map<Long, BigDecimal>> amountsByProject = new TreeMap<>();
+        for (BulkStep step : steps) {
+            ApprovalDocument document = step.document();
+            if (step.isFinal() && document.isExpenseApproval()) {
+                amountsByProject
+                        .computeIfAbsent(document.getProject().getProjectId(), projectId -> new LinkedHashMap<>())
+                        .put(document.getDocumentId(), document.getAmount());
+            }
+        }
+
+        Set<Long> unfunded = new HashSet<>();
+        amountsByProject.forEach((projectId, amounts) -> {
+            Set<Long> charged = budgetLedgerService.spendAll(projectId, amounts, approverId);
+            amounts.keySet().stream()
+                    .filter(documentId -> !charged.contains(documentId))
+                    .forEach(unfunded::add);
+        });
+        return unfunded;
+    }
+
+    /**
+     * 알림 메시지에 쓰는 기안자를 한 번에 영속성 컨텍스트에 올립니다 (문서마다 기안자를 따로 조회하지 않도록).
+     */
+    private void loadDrafters(List<ApprovalDocument> documents) {
+        Set<Long> drafterIds = documents.stream()
+                .map(document -> document.getDrafter().getUserId())
+                .collect(Collectors.toSet());
+        if (!drafterIds.isEmpty()) {
+            userRepository.findAllById(drafterIds);
+        }
+    }
+
+    /**
+     * 일괄 처리에서 검증을 통과한 문서의 처리 계획 (반려 시 nextLine은 항상 null)
+     */
+    private record BulkStep(ApprovalDocument document, ApprovalLine line, ApprovalLine nextLine) {
+
+        boolean isFinal() {
+            return nextLine == null;
+        }
+    }
+
+    /**
+     * 현재 결재자가 바뀌었으면 결재 차례 변경 이벤트를 발행합니다 (결재 대기함 카운터용).
+     */
+    private void publishTurnChanged(ApprovalDocument document, Long previousApproverId) {
+        if (Objects.equals(previousApproverId, document.getCurrentApproverId())) {
+            return;
+        }
+        eventPublisher.publishEvent(new ApprovalTurnChangedEvent(
+                document.getDocumentId(), previousApproverId, document.getCurrentApproverId()));
     }
 
     /**
@@ -276,21 +474,21 @@ public class ApprovalService {
      */
     @Transactional(readOnly = true)
     public Page<ApprovalSummaryDTO> getMyDrafts(Long userId, Pageable pageable) {
-        return approvalDocumentRepository.findByDrafter_UserId(userId, pageable)
-                .map(ApprovalSummaryDTO::from);
+        return approvalDocumentRepository.findSummariesByDrafter(userId, pageable);
     }
 
     /**
      * 사용자에게 대기 중인 결재 목록을 조회합니다.
      *
+     * <p>현재 결재 차례가 사용자인 문서만 조회하며, 앞 결재자가 아직 처리하지 않은 문서는 포함하지 않습니다.
+     *
      * @param userId   사용자 ID
      * @param pageable 페이지 정보
      * @return 대기 중인 결재 목록 (페이징)
      */
     @Transactional(readOnly = true)
     public Page<ApprovalSummaryDTO> getMyPendingApprovals(Long userId, Pageable pageable) {
-        return approvalLineRepository.findByApprover_UserIdAndStatus(userId, ApprovalStatus.PENDING, pageable)
-                .map(ApprovalSummaryDTO::from);
+        return approvalDocumentRepository.findSummariesByCurrentApprover(userId, pageable);
     }
 
     /**
@@ -302,22 +500,20 @@ public class ApprovalService {
      */
     @Transactional(readOnly = true)
     public Page<ApprovalSummaryDTO> getMyCompletedApprovals(Long userId, Pageable pageable) {
-        return approvalLineRepository.findByApprover_UserIdAndStatusIn(
+        return approvalLineRepository.findSummariesByApproverAndStatusIn(
                 userId,
                 List.of(ApprovalStatus.APPROVED, ApprovalStatus.REJECTED),
-                pageable).map(ApprovalSummaryDTO::from);
+                pageable);
     }
 
-    private void deductBudget(ApprovalDocument document) {
-        Project project = projectRepository.findByIdForUpdateOrThrow(document.getProject().getProjectId());
-
-        try {
-            project.spendBudget(document.getAmount());
-        } catch (IllegalStateException e) {
-            BigDecimal remaining = project.getTotalBudget().subtract(project.getUsedBudget());
-            throw new BusinessException(ErrorCode.BUDGET_INSUFFICIENT,
-                    String.format("프로젝트 예산이 부족합니다. (요청: %s원, 잔액: %s원)",
-                            document.getAmount(), remaining));
-        }
+    /**
+     * 비용 결재 금액만큼 프로젝트 예산을 사용하고 예산 원장에 기록합니다.
+     */
+    private void deductBudget(ApprovalDocument document, Long approverId) {
+        budgetLedgerService.spend(
+                document.getProject().getProjectId(),
+                document.getDocumentId(),
+                document.getAmount(),
+                approverId);
     }
 }
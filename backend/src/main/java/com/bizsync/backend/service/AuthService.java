@@ -7,6 +7,7 @@ import com.bizsync.backend.common.util.JwtProvider;
 import com.bizsync.backend.common.util.SecurityUtil;
 import com.bizsync.backend.domain.entity.AccountStatus;
 import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.domain.event.UserAccountChangedEvent;
 import com.bizsync.backend.domain.repository.UserRepository;
 import com.bizsync.backend.dto.request.LoginRequestDTO;
 import com.bizsync.backend.dto.request.PasswordChangeRequestDTO;
@@ -14,6 +15,7 @@ import com.bizsync.backend.dto.request.SignumRequestDTO;
 import com.bizsync.backend.dto.response.JwtTokenResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +36,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 사용자를 등록합니다.
@@ -53,6 +56,7 @@ public class AuthService {
 
         String encodedPassword = passwordEncoder.encode(dto.password());
         User savedUser = userRepository.save(dto.toEntity(encodedPassword));
+        eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getUserId()));
         log.info("새로운 사용자 가입: userId={}, email={}", savedUser.getUserId(), savedUser.getEmail());
 
         return savedUser.getUserId();
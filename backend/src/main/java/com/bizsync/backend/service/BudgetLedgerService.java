@@ -0,0 +1,243 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.annotation.RequireProjectMember;
+import com.bizsync.backend.common.cache.EntityCacheInvalidator;
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
+import com.bizsync.backend.domain.entity.BudgetEntryType;
+import com.bizsync.backend.domain.entity.BudgetLedgerEntry;
+import com.bizsync.backend.domain.entity.Project;
+import com.bizsync.backend.domain.repository.BudgetLedgerRepository;
+import com.bizsync.backend.dto.response.BudgetLedgerEntryDTO;
+import com.bizsync.backend.dto.response.BudgetLedgerPageDTO;
+import com.bizsync.backend.mapper.BudgetLedgerMapper;
+import com.bizsync.backend.mapper.ProjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트 예산 원장을 관리하는 서비스
+ *
+ * <p>예산 사용/환급/보정은 모두 budget_ledger에 한 행씩 추가만 하므로, 어떤 결재가 얼마를 썼는지 이력이 남습니다.
+ * 원장 기준 사용 예산은 체크포인트 + 체크포인트 이후 항목(꼬리) 합계로 계산하며,
+ * 주기적으로 꼬리를 체크포인트에 합쳐 조회 시 읽는 항목 수를 일정하게 유지합니다.
+ *
+ * <p>예산 초과를 막는 검사는 프로젝트별로 한 곳에서 직렬화되어야 하므로
+ * 사용, 환급, 보정 모두 project.used_budget의 조건부 UPDATE(한 문장)로 유지하고, 원장 추가 자체는 프로젝트 행을 잠그지 않는 INSERT입니다.
+ * 이 UPDATE는 JPA를 거치지 않으므로 실행 전에 프로젝트의 2차 캐시 항목을 무효화합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BudgetLedgerService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BudgetLedgerMapper budgetLedgerMapper;
+    private final BudgetLedgerRepository budgetLedgerRepository;
+    private final ProjectMapper projectMapper;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Value("${app.budget.ledger.compact-lag-seconds:300}")
+    private long compactLagSeconds;
+
+    /**
+     * 비용 결재 금액만큼 예산을 사용하고 원장에 기록합니다.
+     *
+     * @param projectId  프로젝트 ID
+     * @param documentId 최종 승인된 비용 결재 문서 ID
+     * @param amount     사용 금액
+     * @param userId     처리자 ID (최종 승인자)
+     * @throws BusinessException 예산 잔액이 부족한 경우
+     */
+    public void spend(Long projectId, Long documentId, BigDecimal amount, Long userId) {
+        entityCacheInvalidator.invalidate(Project.class, projectId);
+        if (projectMapper.spendBudget(projectId, amount) != 1) {
+            BigDecimal remaining = projectMapper.selectRemainingBudget(projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND));
+            throw new BusinessException(ErrorCode.BUDGET_INSUFFICIENT,
+                    String.format("프로젝트 예산이 부족합니다. (요청: %s원, 잔액: %s원)", amount, remaining));
+        }
+        append(projectId, documentId, BudgetEntryType.EXPENSE, amount, null, userId);
+    }
+
+    /**
+     * 같은 프로젝트의 여러 비용 결재 금액을 한 번에 사용하고 원장에 기록합니다.
+     *
+     * <p>합계를 조건부 UPDATE 한 번으로 먼저 시도하고, 잔액이 부족하면 문서 순서대로 하나씩 시도해 잔액 안에서 가능한 만큼만 사용합니다.
+     * 원장 항목은 사용에 성공한 문서만 multi-row INSERT 한 번으로 추가합니다.
+     *
+     * @param projectId         프로젝트 ID
+     * @param amountsByDocument 결재 문서 ID별 사용 금액 (순서대로 시도)
+     * @param userId            처리자 ID (최종 승인자)
+     * @return 예산 사용에 성공한 결재 문서 ID
+     */
+    public Set<Long> spendAll(Long projectId, Map<Long, BigDecimal> amountsByDocument, Long userId) {
+        BigDecimal total = amountsByDocument.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        entityCacheInvalidator.invalidate(Project.class, projectId);
+
+        Set<Long> charged = new LinkedHashSet<>();
+        if (projectMapper.spendBudget(projectId, total) == 1) {
+            charged.addAll(amountsByDocument.keySet());
+        } else {
+            amountsByDocument.forEach((documentId, amount) -> {
+                if (projectMapper.spendBudget(projectId, amount) == 1) {
+                    charged.add(documentId);
+                }
+            });
+        }
+
+        if (!charged.isEmpty()) {
+            budgetLedgerMapper.insertEntries(charged.stream()
+                    .map(documentId -> entry(projectId, documentId, BudgetEntryType.EXPENSE,
+                            amountsByDocument.get(documentId), null, userId))
+                    .toList());
+        }
+        return charged;
+    }
+
+    /**
+     * 사용한 예산을 환급하고 원장에 기록합니다 (승인된 비용 결재 취소).
+     *
+     * @param projectId  프로젝트 ID
+     * @param documentId 환급 대상 비용 결재 문서 ID
+     * @param amount     환급 금액 (양수)
+     * @param userId     처리자 ID
+     * @param memo       환급 사유
+     * @throws BusinessException 환급 금액이 사용 예산보다 큰 경우
+     */
+    public void refund(Long projectId, Long documentId, BigDecimal amount, Long userId, String memo) {
+        entityCacheInvalidator.invalidate(Project.class, projectId);
+        if (projectMapper.refundBudget(projectId, amount) != 1) {
+            requireProject(projectId);
+            throw new BusinessException(ErrorCode.BUDGET_REFUND_EXCEEDS_USED);
+        }
+        append(projectId, documentId, BudgetEntryType.REFUND, amount.negate(), memo, userId);
+    }
+
+    /**
+     * 사용 예산을 보정하고 원장에 기록합니다 (관리자).
+     *
+     * @param projectId 프로젝트 ID
+     * @param delta     사용 예산 변동액 (늘리면 양수, 줄이면 음수)
+     * @param userId    처리자 ID
+     * @param memo      보정 사유
+     * @throws BusinessException 변동액이 0이거나, 보정 후 사용 예산이 0 미만 또는 총 예산 초과인 경우
+     */
+    public void adjust(Long projectId, BigDecimal delta, Long userId, String memo) {
+        if (delta.signum() == 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        entityCacheInvalidator.invalidate(Project.class, projectId);
+        if (projectMapper.adjustUsedBudget(projectId, delta) != 1) {
+            requireProject(projectId);
+            throw new BusinessException(ErrorCode.BUDGET_ADJUSTMENT_OUT_OF_RANGE);
+        }
+        append(projectId, null, BudgetEntryType.ADJUSTMENT, delta, memo, userId);
+    }
+
+    private void requireProject(Long projectId) {
+        projectMapper.selectRemainingBudget(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND));
+    }
+
+    private void append(Long projectId, Long documentId, BudgetEntryType type, BigDecimal amount, String memo, Long userId) {
+        budgetLedgerMapper.insertEntry(entry(projectId, documentId, type, amount, memo, userId));
+    }
+
+    private BudgetLedgerEntry entry(Long projectId, Long documentId, BudgetEntryType type, BigDecimal amount, String memo, Long userId) {
+        return BudgetLedgerEntry.builder()
+                .projectId(projectId)
+                .documentId(documentId)
+                .entryType(type)
+                .amount(amount)
+                .memo(memo)
+                .createdBy(userId)
+                .build();
+    }
+
+    /**
+     * 원장 기준 사용 예산을 조회합니다 (체크포인트 + 이후 항목 합계).
+     *
+     * @param projectId 프로젝트 ID
+     * @return 사용 예산
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getUsedBudget(Long projectId) {
+        return budgetLedgerMapper.selectUsedBudget(projectId);
+    }
+
+    /**
+     * 프로젝트 예산 원장을 최신순으로 조회합니다.
+     *
+     * <p>프로젝트 멤버만 조회할 수 있습니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param cursor    이전 페이지의 마지막 항목 ID (null이면 처음부터)
+     * @param size      조회할 항목 개수 (최대 100)
+     * @return 원장 페이지 (항목 목록, hasMore, nextCursor, 원장 기준 사용 예산)
+     */
+    @RequireProjectMember
+    @Transactional(readOnly = true)
+    public BudgetLedgerPageDTO getLedger(Long projectId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // pageSize + 1개 조회 (hasMore 판단용)
+        List<BudgetLedgerEntryDTO> rows = budgetLedgerRepository.findLedgerPage(projectId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<BudgetLedgerEntryDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).entryId() : null;
+
+        return new BudgetLedgerPageDTO(List.copyOf(page), hasMore, nextCursor, getUsedBudget(projectId));
+    }
+
+    /**
+     * 원장 꼬리를 프로젝트별 체크포인트에 합칩니다.
+     *
+     * <p>최근 {@code compactLagSeconds} 안에 추가된 항목은 아직 커밋되지 않은 트랜잭션이 있을 수 있으므로 다음 압축으로 미룹니다.
+     * 이 경계는 시간 기준 추정이라, 항목을 추가한 트랜잭션이 그보다 오래 열려 있다가 커밋하면 그 항목은 이미 지나간 체크포인트 아래에 놓여
+     * 압축과 원장 기준 사용 예산 조회에서 빠집니다. 이런 항목은 {@link #reconcile()}이 체크포인트 항목 수로 찾아 바로잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.budget.ledger.compact-interval-ms:600000}")
+    public void compact() {
+        Long bound = budgetLedgerMapper.selectCompactionBound(compactLagSeconds);
+        long compacted = budgetLedgerMapper.selectCompactedEntryId();
+        if (bound == null || bound <= compacted) {
+            return;
+        }
+
+        int rows = budgetLedgerMapper.compactCheckpoints(compacted, bound);
+        log.info("예산 원장 압축 - 항목 ID {} ~ {}, 체크포인트 {}행 반영", compacted + 1, bound, rows);
+    }
+
+    /**
+     * 체크포인트가 합친 항목 수와 실제 체크포인트 이하 항목 수를 비교해, 늦게 커밋되어 압축에서 빠진 항목이 있는 프로젝트의 체크포인트를 다시 계산합니다.
+     *
+     * <p>프로젝트별 (project_id, entry_id) 인덱스 범위 COUNT만 읽으며, 어긋난 프로젝트만 합계를 다시 구합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.budget.ledger.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        List<Long> staleProjectIds = budgetLedgerMapper.selectStaleCheckpointProjectIds();
+        if (staleProjectIds.isEmpty()) {
+            return;
+        }
+
+        staleProjectIds.forEach(budgetLedgerMapper::rebuildCheckpoint);
+        log.warn("예산 원장 체크포인트 재계산 - 압축 이후 늦게 커밋된 항목이 있는 프로젝트 {}", staleProjectIds);
+    }
+}
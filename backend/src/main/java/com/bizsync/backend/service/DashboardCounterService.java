@@ -0,0 +1,210 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.entity.ProjectStatus;
+import com.bizsync.backend.domain.event.ApprovalTurnChangedEvent;
+import com.bizsync.backend.domain.event.ProjectMembershipChangedEvent;
+import com.bizsync.backend.domain.event.ProjectStatusChangedEvent;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
+import com.bizsync.backend.domain.repository.ApprovalDocumentRepository;
+import com.bizsync.backend.domain.repository.ProjectMemberRepository;
+import com.bizsync.backend.domain.repository.TaskRepository;
+import com.bizsync.backend.domain.repository.UserCount;
+import com.bizsync.backend.dto.response.DashboardStatsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 대시보드 통계 카운터를 메모리에 유지하는 서비스
+ *
+ * <p>진행 중인 프로젝트 수, 미완료 업무 수, 대기 중인 결재 수를 사용자별로 보관합니다.
+ * 대기 중인 결재 수는 결재 대기함과 같은 기준(현재 결재 차례가 사용자인 문서)으로 셉니다.
+ * 처음 조회할 때 DB에서 한 번 집계하고, 이후에는 칸반/프로젝트 멤버/결재 쓰기 경로가 발행하는
+ * 도메인 이벤트를 커밋 후에 받아 증감만 반영하므로 통계 조회는 DB를 거치지 않습니다.
+ *
+ * <p>이벤트 누락이나 로딩과 이벤트가 겹치는 경우의 오차는 주기적인 재집계로 바로잡으며,
+ * 오래 조회하지 않은 사용자의 카운터는 재집계 시 메모리에서 제거합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardCounterService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final ApprovalDocumentRepository approvalDocumentRepository;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+
+    @Value("${app.dashboard.counter.idle-minutes:120}")
+    private long idleMinutes;
+
+    /**
+     * 사용자 대시보드 통계를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 대시보드 통계 (진행 중인 프로젝트 수, 미완료 업무 수, 대기 중인 결재 수)
+     */
+    public DashboardStatsDTO getStats(Long userId) {
+        Counters userCounters = counters.computeIfAbsent(userId, this::load);
+        userCounters.touch();
+        return userCounters.toDTO();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskChangedEvent.TaskState before = event.before();
+        TaskChangedEvent.TaskState after = event.after();
+
+        if (before != null && !before.done() && before.workerId() != null) {
+            adjust(before.workerId(), counter -> counter.openTasks, -1);
+        }
+        if (after != null && !after.done() && after.workerId() != null) {
+            adjust(after.workerId(), counter -> counter.openTasks, 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectMembershipChanged(ProjectMembershipChangedEvent event) {
+        if (event.projectStatus() == ProjectStatus.IN_PROGRESS) {
+            adjust(event.userId(), counter -> counter.activeProjects, event.joined() ? 1 : -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectStatusChanged(ProjectStatusChangedEvent event) {
+        boolean wasActive = event.previousStatus() == ProjectStatus.IN_PROGRESS;
+        boolean isActive = event.status() == ProjectStatus.IN_PROGRESS;
+        if (wasActive == isActive) {
+            return;
+        }
+
+        int delta = isActive ? 1 : -1;
+        event.memberUserIds().forEach(userId -> adjust(userId, counter -> counter.activeProjects, delta));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalTurnChanged(ApprovalTurnChangedEvent event) {
+        if (event.previousApproverId() != null) {
+            adjust(event.previousApproverId(), counter -> counter.pendingApprovals, -1);
+        }
+        if (event.currentApproverId() != null) {
+            adjust(event.currentApproverId(), counter -> counter.pendingApprovals, 1);
+        }
+    }
+
+    /**
+     * 메모리 카운터를 DB 집계와 맞추고, 오래 조회하지 않은 사용자의 카운터를 제거합니다.
+     *
+     * <p>사용자별로 쿼리하지 않고 {@value #RECONCILE_CHUNK_SIZE}명 단위 GROUP BY 쿼리 3개로 재집계합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.counter.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long idleThreshold = System.currentTimeMillis() - idleMinutes * 60_000;
+        counters.entrySet().removeIf(entry -> entry.getValue().lastAccessedAt < idleThreshold);
+
+        List<Long> userIds = new ArrayList<>(counters.keySet());
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+
+            Map<Long, Long> activeProjects = toMap(
+                    projectMemberRepository.countByUserIdsAndProjectStatus(chunk, ProjectStatus.IN_PROGRESS));
+            Map<Long, Long> openTasks = toMap(
+                    taskRepository.countByWorkerIdsAndColumnTypeNot(chunk, ColumnType.DONE));
+            Map<Long, Long> pendingApprovals = toMap(
+                    approvalDocumentRepository.countByCurrentApproverIds(chunk));
+
+            for (Long userId : chunk) {
+                Counters userCounters = counters.get(userId);
+                if (userCounters != null && userCounters.reset(
+                        activeProjects.getOrDefault(userId, 0L),
+                        openTasks.getOrDefault(userId, 0L),
+                        pendingApprovals.getOrDefault(userId, 0L))) {
+                    corrected++;
+                }
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("대시보드 카운터 재집계 - 대상: {}명, 보정: {}명", userIds.size(), corrected);
+        }
+    }
+
+    private Counters load(Long userId) {
+        return new Counters(
+                projectMemberRepository.countByUser_UserIdAndProject_Status(userId, ProjectStatus.IN_PROGRESS),
+                taskRepository.countByWorkerIdAndColumnTypeNot(userId, ColumnType.DONE),
+                approvalDocumentRepository.countByCurrentApproverId(userId));
+    }
+
+    /**
+     * 메모리에 카운터가 있는 사용자만 반영 (없으면 다음 조회 시 DB에서 새로 집계)
+     */
+    private void adjust(Long userId, Function<Counters, AtomicLong> field, long delta) {
+        Counters userCounters = counters.get(userId);
+        if (userCounters != null) {
+            field.apply(userCounters).addAndGet(delta);
+        }
+    }
+
+    private Map<Long, Long> toMap(List<UserCount> counts) {
+        return counts.stream().collect(Collectors.toMap(UserCount::getUserId, UserCount::getCount));
+    }
+
+    /**
+     * 사용자 1명의 대시보드 카운터
+     */
+    private static class Counters {
+        private final AtomicLong activeProjects;
+        private final AtomicLong openTasks;
+        private final AtomicLong pendingApprovals;
+        private volatile long lastAccessedAt = System.currentTimeMillis();
+
+        Counters(long activeProjects, long openTasks, long pendingApprovals) {
+            this.activeProjects = new AtomicLong(activeProjects);
+            this.openTasks = new AtomicLong(openTasks);
+            this.pendingApprovals = new AtomicLong(pendingApprovals);
+        }
+
+        void touch() {
+            lastAccessedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * DB 집계 값으로 덮어씁니다.
+         *
+         * @return 기존 값과 달랐으면 true
+         */
+        boolean reset(long activeProjects, long openTasks, long pendingApprovals) {
+            boolean changed = this.activeProjects.getAndSet(activeProjects) != activeProjects;
+            changed |= this.openTasks.getAndSet(openTasks) != openTasks;
+            changed |= this.pendingApprovals.getAndSet(pendingApprovals) != pendingApprovals;
+            return changed;
+        }
+
+        DashboardStatsDTO toDTO() {
+            // 이벤트와 재집계가 겹쳐 일시적으로 음수가 되더라도 0으로 표시
+            return DashboardStatsDTO.from(
+                    Math.max(activeProjects.get(), 0),
+                    Math.max(openTasks.get(), 0),
+                    Math.max(pendingApprovals.get(), 0));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.repository.TaskRepository;
+import com.bizsync.backend.dto.response.DashboardTaskDTO;
+import com.bizsync.backend.dto.response.DashboardTaskPageDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 대시보드 관련 비즈니스 로직을 처리하는 서비스
+ *
+ * <p>내 업무 목록 등 대시보드 조회 기능을 제공합니다.
+ *
+ * @author BizSync Team
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String NO_DEADLINE = "none";
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * 사용자의 미완료 업무 목록을 조회합니다.
+     *
+     * <p>마감일이 가까운 순서로 정렬하고, 마감일이 없는 업무는 마지막에 반환합니다.
+     * 완료(DONE) 컬럼 제외, 정렬, 페이지 크기 제한을 모두 쿼리에서 처리하며 엔티티를 로딩하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 미완료 업무 페이지
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public DashboardTaskPageDTO getMyTasks(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        TaskCursor after = TaskCursor.parse(cursor);
+
+        // pageSize + 1개 조회 (hasMore 판단용)
+        List<DashboardTaskDTO> tasks = new ArrayList<>(pageSize + 1);
+        if (after == null || after.deadline() != null) {
+            tasks.addAll(taskRepository.findOpenTasksWithDeadlineByWorker(
+                    userId,
+                    ColumnType.DONE,
+                    after != null ? after.deadline() : null,
+                    after != null ? after.taskId() : 0L,
+                    PageRequest.of(0, pageSize + 1)));
+        }
+
+        // 마감일 있는 업무로 페이지가 차지 않으면 마감일 없는 업무로 이어서 채움
+        if (tasks.size() <= pageSize) {
+            Long afterTaskId = after != null && after.deadline() == null ? after.taskId() : 0L;
+            tasks.addAll(taskRepository.findOpenTasksWithoutDeadlineByWorker(
+                    userId,
+                    ColumnType.DONE,
+                    afterTaskId,
+                    PageRequest.of(0, pageSize + 1 - tasks.size())));
+        }
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<DashboardTaskDTO> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = hasMore ? TaskCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new DashboardTaskPageDTO(List.copyOf(page), hasMore, nextCursor);
+    }
+
+    /**
+     * 내 업무 목록 커서 (마지막 업무의 마감일과 ID)
+     *
+     * <p>"2025-01-31:42" 형식이며, 마감일이 없는 업무 구간은 "none:42"로 표현합니다.
+     */
+    private record TaskCursor(LocalDate deadline, Long taskId) {
+
+        static TaskCursor of(DashboardTaskDTO task) {
+            return new TaskCursor(task.dueDate() != null ? LocalDate.parse(task.dueDate()) : null, task.taskId());
+        }
+
+        static TaskCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            int separator = cursor.indexOf(':');
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서 형식입니다.");
+            }
+            try {
+                String deadline = cursor.substring(0, separator);
+                Long taskId = Long.parseLong(cursor.substring(separator + 1));
+                return new TaskCursor(NO_DEADLINE.equals(deadline) ? null : LocalDate.parse(deadline), taskId);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서 형식입니다.");
+            }
+        }
+
+        String encode() {
+            return (deadline != null ? deadline.toString() : NO_DEADLINE) + ":" + taskId;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
+import com.bizsync.backend.domain.repository.TaskRepository;
+import com.bizsync.backend.service.reminder.HashedTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업무 마감 알림을 예약하고 발송하는 서비스
+ *
+ * <p>마감일이 적재 기간(horizon) 안에 있는 담당자 지정 미완료 업무마다 타이밍 휠에 알림 타이머를 하나씩 둡니다.
+ * 애플리케이션 시작 시와 매일 자정 직후에 마감일 범위 조회로 타이머를 적재하고,
+ * 그 사이의 변경은 칸반 쓰기 경로가 발행하는 업무 변경 이벤트로 커밋 후에 반영합니다.
+ * 업무가 완료(DONE) 컬럼으로 이동하거나 삭제되면 타이머를 취소합니다.
+ *
+ * <p>알림은 마감일 {@code lead-days}일 전 {@code remind-at} 시각에 담당자에게 발송하며,
+ * 발송 직전에 업무를 다시 조회하여 그 사이 완료/삭제된 업무는 건너뜁니다.
+ * 대기 중인 타이머 수는 {@code bizsync.reminder.pending} 게이지로 노출합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadlineReminderService implements MeterBinder {
+
+    private final TaskRepository taskRepository;
+    private final NotificationService notificationService;
+
+    private final Map<Long, Reminder> reminders = new ConcurrentHashMap<>();
+
+    @Value("${app.reminder.deadline.horizon-days:7}")
+    private long horizonDays;
+
+    @Value("${app.reminder.deadline.lead-days:1}")
+    private long leadDays;
+
+    @Value("${app.reminder.deadline.remind-at:09:00}")
+    private String remindAtValue;
+
+    @Value("${app.reminder.deadline.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${app.reminder.deadline.wheel-size:4096}")
+    private int wheelSize;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private LocalTime remindAt;
+    private ThreadPoolTaskExecutor executor;
+    private HashedTimingWheel wheel;
+
+    @PostConstruct
+    void initWheel() {
+        remindAt = LocalTime.parse(remindAtValue);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("deadline-reminder-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.initialize();
+
+        wheel = new HashedTimingWheel("deadline-reminder-wheel", tickMs, TimeUnit.MILLISECONDS, wheelSize, executor);
+    }
+
+    @PreDestroy
+    void shutdownWheel() {
+        wheel.close();
+        executor.shutdown();
+    }
+
+    /**
+     * 마감일이 적재 기간 안에 있는 미완료 업무의 알림을 적재합니다.
+     *
+     * <p>이미 같은 담당자와 마감일로 예약된 업무는 그대로 두고, 알림 시각이 지난 업무는 건너뜁니다.
+     */
+    @Scheduled(cron = "${app.reminder.deadline.reload-cron:0 10 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+
+        int scheduled = 0;
+        for (TaskRepository.TaskStateRow row : taskRepository.findOpenTaskRowsByDeadlineBetween(
+                today, today.plusDays(horizonDays), ColumnType.DONE)) {
+            if (schedule(row.getTaskId(), row.getWorkerId(), row.getDeadline(), false)) {
+                scheduled++;
+            }
+        }
+
+        log.info("마감 알림 적재 완료 - {}건 예약, 대기 {}건, {}ms",
+                scheduled, wheel.pendingCount(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long taskId = event.taskId();
+
+        TaskChangedEvent.TaskState after = event.after();
+        if (after == null || after.done() || after.workerId() == null || after.deadline() == null) {
+            cancel(taskId);
+            return;
+        }
+
+        TaskChangedEvent.TaskState before = event.before();
+        if (before != null && !before.done()
+                && Objects.equals(before.workerId(), after.workerId())
+                && Objects.equals(before.deadline(), after.deadline())) {
+            // 같은 미완료 컬럼 사이의 이동처럼 알림 대상이 그대로인 변경
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        if (after.deadline().isBefore(today) || after.deadline().isAfter(today.plusDays(horizonDays))) {
+            cancel(taskId);
+            return;
+        }
+        // 알림 시각이 이미 지났으면 바로 발송
+        schedule(taskId, after.workerId(), after.deadline(), true);
+    }
+
+    /**
+     * 대기 중인 마감 알림 타이머 수
+     */
+    public int getPendingCount() {
+        return wheel.pendingCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bizsync.reminder.pending", this, DeadlineReminderService::getPendingCount)
+                .description("대기 중인 업무 마감 알림 타이머 수")
+                .register(registry);
+    }
+
+    /**
+     * 업무의 알림 타이머를 예약합니다. 기존 타이머가 있으면 교체합니다.
+     *
+     * @param firePastDue 알림 시각이 지났을 때 바로 발송할지 여부 (false면 예약하지 않음)
+     * @return 새로 예약했으면 true
+     */
+    private boolean schedule(Long taskId, Long workerId, LocalDate deadline, boolean firePastDue) {
+        Duration delay = Duration.between(LocalDateTime.now(), deadline.minusDays(leadDays).atTime(remindAt));
+        if (delay.isNegative() && !firePastDue) {
+            return false;
+        }
+
+        boolean[] created = new boolean[1];
+        reminders.compute(taskId, (id, previous) -> {
+            if (previous != null) {
+                if (previous.workerId.equals(workerId) && previous.deadline.equals(deadline)) {
+                    return previous;
+                }
+                previous.timeout.cancel();
+            }
+            Reminder reminder = new Reminder(workerId, deadline);
+            reminder.timeout = wheel.schedule(() -> fire(id, reminder), delay.toMillis(), TimeUnit.MILLISECONDS);
+            created[0] = true;
+            return reminder;
+        });
+        return created[0];
+    }
+
+    private void cancel(Long taskId) {
+        Reminder reminder = reminders.remove(taskId);
+        if (reminder != null) {
+            reminder.timeout.cancel();
+        }
+    }
+
+    private void fire(Long taskId, Reminder reminder) {
+        // 만료 직후 교체/취소된 타이머는 무시
+        if (!reminders.remove(taskId, reminder)) {
+            return;
+        }
+
+        try {
+            taskRepository.findReminderRowById(taskId)
+                    .filter(row -> row.getWorkerId() != null && row.getDeadline() != null)
+                    .filter(row -> row.getColumnType() != ColumnType.DONE)
+                    .ifPresent(row -> notificationService.sendDeadlineReminder(
+                            row.getWorkerId(), row.getTitle(), row.getDeadline(), row.getProjectId()));
+        } catch (RuntimeException e) {
+            log.error("마감 알림 발송 실패 - 업무 ID: {}", taskId, e);
+        }
+    }
+
+    /**
+     * 업무 1건의 예약된 알림
+     */
+    private static final class Reminder {
+
+        private final Long workerId;
+        private final LocalDate deadline;
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        private Reminder(Long workerId, LocalDate deadline) {
+            this.workerId = workerId;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.bizsync.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 트랜잭션 커밋 후에 WebSocket 메시지와 알림을 내보내는 이벤트 아웃박스
+ *
+ * <p>서비스가 트랜잭션 안에서 등록한 메시지는 트랜잭션에 묶인 목록에 모아 두었다가,
+ * 커밋되면 목록 전체를 한 번에 전용 스레드에 넘겨 등록 순서대로 보내고, 롤백되면 버립니다.
+ * 따라서 클라이언트는 롤백된 데이터에 대한 이벤트를 받지 않고,
+ * {@link SimpMessagingTemplate}의 I/O가 DB 락을 잡은 트랜잭션 시간에 포함되지 않습니다.
+ * 같은 트랜잭션에서 같은 목적지로 같은 내용을 여러 번 등록하면 한 번만 보냅니다.
+ *
+ * <p>트랜잭션 밖에서 등록한 메시지는 바로 전용 스레드에 넘깁니다.
+ * 다른 트랜잭션의 커밋 후 콜백(afterCommit) 안에서 등록하면 커밋 시점이 이미 지나 전달되지 않으므로,
+ * 커밋 후 리스너에서는 사용하지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventOutboxService {
+
+    private static final Object PENDING_MESSAGES_KEY = EventOutboxService.class.getName() + ".PENDING_MESSAGES";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${app.outbox.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void initExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        // 등록 순서대로 보내도록 스레드 1개로 실행
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("event-outbox-");
+        executor.setVirtualThreads(virtualThreads);
+        // 대기열이 가득 차면 커밋을 마친 호출 스레드에서 직접 보냄 (유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * 커밋 후 WebSocket 목적지로 메시지를 보내도록 등록합니다.
+     *
+     * @param destination 목적지 (예: /topic/projects/1)
+     * @param payload     메시지 본문
+     */
+    public void send(String destination, Object payload) {
+        register(new StompMessage(destination, payload));
+    }
+
+    /**
+     * 커밋 후 실행할 전달 작업을 등록합니다.
+     *
+     * @param delivery 전달 작업 (알림함 대기열 추가 등)
+     */
+    public void execute(Runnable delivery) {
+        register(new Delivery(delivery));
+    }
+
+    private void register(OutboxMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.of(message));
+            return;
+        }
+        pendingMessages().add(message);
+    }
+
+    /**
+     * 현재 트랜잭션에 묶인 메시지 목록 (첫 등록에서 생성하고 커밋 후에 내보냄)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<OutboxMessage> pendingMessages() {
+        Set<OutboxMessage> pending = (Set<OutboxMessage>) TransactionSynchronizationManager.getResource(PENDING_MESSAGES_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        Set<OutboxMessage> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(PENDING_MESSAGES_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(new ArrayList<>(created));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_MESSAGES_KEY);
+            }
+        });
+        return created;
+    }
+
+    private void dispatch(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            for (OutboxMessage message : batch) {
+                try {
+                    message.deliver(this);
+                } catch (RuntimeException e) {
+                    log.error("아웃박스 메시지 전달 실패: {}", message, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 커밋 후에 내보낼 메시지
+     */
+    private sealed interface OutboxMessage permits StompMessage, Delivery {
+
+        void deliver(EventOutboxService outbox);
+    }
+
+    /**
+     * WebSocket 메시지 (목적지와 본문이 같으면 같은 메시지로 보고 한 번만 보냄)
+     */
+    private record StompMessage(String destination, Object payload) implements OutboxMessage {
+
+        @Override
+        public void deliver(EventOutboxService outbox) {
+            outbox.messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+
+    /**
+     * 그 밖의 전달 작업 (등록할 때마다 별개의 메시지)
+     */
+    private record Delivery(Runnable action) implements OutboxMessage {
+
+        @Override
+        public void deliver(EventOutboxService outbox) {
+            action.run();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.common.exception.ForbiddenException;
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
+import com.bizsync.backend.domain.repository.ProjectRepository;
+import com.bizsync.backend.dto.response.ExcelImportProgressDTO;
+import com.bizsync.backend.dto.response.ExcelImportRowErrorDTO;
+import com.bizsync.backend.service.excel.ExcelImportJob;
+import com.bizsync.backend.service.excel.ImportErrorReport;
+import com.bizsync.backend.service.excel.TaskImportCancelledException;
+import com.bizsync.backend.service.excel.TaskImportListener;
+import com.bizsync.backend.service.excel.TaskSheetRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑셀 업무 업로드를 백그라운드 작업으로 실행하는 서비스
+ *
+ * <p>업로드 요청은 파일을 임시 파일로 저장하고 작업 ID만 즉시 반환합니다.
+ * 실제 등록은 전용 스레드 풀에서 배치 단위로 커밋하며 진행하고,
+ * 진행 상황과 실패 행은 업로드한 사용자에게 WebSocket(/sub/excel-import/{userId})으로 전달합니다.
+ *
+ * <p>스레드 풀과 대기열 크기를 제한하여 업로드가 몰려도 일반 API 요청이 사용할
+ * 요청 스레드와 DB 커넥션을 잠식하지 않도록 합니다. 대기열이 가득 차면 업로드를 거절합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExcelImportJobService {
+
+    private static final String PROGRESS_DESTINATION = "/sub/excel-import/";
+
+    private final ExcelService excelService;
+    private final ProjectRepository projectRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<String, ExcelImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.excel.import.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.excel.import.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${app.excel.import.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void initExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("excel-import-");
+        executor.setVirtualThreads(virtualThreads);
+        // 대량 업로드가 요청 처리 스레드보다 CPU를 먼저 차지하지 않도록 낮은 우선순위로 실행
+        // (가상 스레드에는 우선순위가 적용되지 않아 pool-size로만 동시 실행 수를 제한)
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        jobs.values().forEach(ExcelImportJob::requestCancel);
+        executor.shutdown();
+        jobs.values().forEach(job -> deleteQuietly(job.getErrorReportFile()));
+    }
+
+    /**
+     * 엑셀 업로드 작업을 등록합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param userId    업로드한 사용자 ID
+     * @param file      엑셀 파일
+     * @return 등록된 작업
+     * @throws BusinessException 파일 저장에 실패했거나 대기열이 가득 찬 경우
+     */
+    public ExcelImportJob submit(Long projectId, Long userId, MultipartFile file) {
+        projectRepository.findByIdOrThrow(projectId);
+
+        Path sourceFile = null;
+        try {
+            sourceFile = Files.createTempFile("task-import-", ".xlsx");
+            file.transferTo(sourceFile);
+        } catch (IOException e) {
+            deleteQuietly(sourceFile);
+            throw new BusinessException(ErrorCode.EXCEL_FILE_READ_FAILED,
+                    "엑셀 파일 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        ExcelImportJob job = new ExcelImportJob(
+                UUID.randomUUID().toString(), projectId, userId, file.getOriginalFilename(), sourceFile);
+        jobs.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            deleteQuietly(sourceFile);
+            throw new BusinessException(ErrorCode.EXCEL_IMPORT_QUEUE_FULL);
+        }
+
+        log.info("엑셀 업로드 작업 등록 - jobId: {}, 프로젝트: {}, 사용자: {}", job.getJobId(), projectId, userId);
+        return job;
+    }
+
+    /**
+     * 업로드 작업을 조회합니다.
+     *
+     * @param jobId  작업 ID
+     * @param userId 요청한 사용자 ID
+     * @return 작업
+     * @throws ResourceNotFoundException 작업이 없거나 보관 기간이 지난 경우
+     * @throws ForbiddenException        본인이 등록한 작업이 아닌 경우
+     */
+    public ExcelImportJob getJob(String jobId, Long userId) {
+        ExcelImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException(ErrorCode.EXCEL_IMPORT_JOB_NOT_FOUND);
+        }
+        if (!job.getUserId().equals(userId)) {
+            throw new ForbiddenException(ErrorCode.EXCEL_IMPORT_ACCESS_DENIED);
+        }
+        return job;
+    }
+
+    /**
+     * 업로드 작업을 취소합니다.
+     *
+     * <p>대기 중인 작업은 즉시 취소되고, 실행 중인 작업은 다음 행을 읽기 전에 중단됩니다.
+     * 이미 커밋된 배치는 되돌리지 않습니다.
+     *
+     * @param jobId  작업 ID
+     * @param userId 요청한 사용자 ID
+     * @return 작업
+     * @throws BusinessException 이미 종료된 작업인 경우
+     */
+    public ExcelImportJob cancel(String jobId, Long userId) {
+        ExcelImportJob job = getJob(jobId, userId);
+        if (job.isFinished()) {
+            throw new BusinessException(ErrorCode.EXCEL_IMPORT_ALREADY_FINISHED);
+        }
+
+        job.requestCancel();
+        if (job.isFinished()) {
+            publish(job, List.of());
+        }
+        return job;
+    }
+
+    /**
+     * 업로드 작업의 오류 보고서 파일을 반환합니다.
+     *
+     * @param jobId  작업 ID
+     * @param userId 요청한 사용자 ID
+     * @return 오류 보고서 파일 경로
+     * @throws ResourceNotFoundException 오류 보고서가 없는 경우
+     */
+    public Path getErrorReport(String jobId, Long userId) {
+        Path reportFile = getJob(jobId, userId).getErrorReportFile();
+        if (reportFile == null || !Files.exists(reportFile)) {
+            throw new ResourceNotFoundException(ErrorCode.EXCEL_IMPORT_ERROR_REPORT_NOT_FOUND);
+        }
+        return reportFile;
+    }
+
+    /**
+     * 보관 기간이 지난 종료 작업과 오류 보고서 파일을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.excel.import.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(threshold)) {
+                return false;
+            }
+            deleteQuietly(job.getErrorReportFile());
+            return true;
+        });
+    }
+
+    private void run(ExcelImportJob job) {
+        if (!job.start()) {
+            // 대기 중에 취소됨
+            deleteQuietly(job.getSourceFile());
+            return;
+        }
+        publish(job, List.of());
+
+        ImportErrorReport report = new ImportErrorReport();
+        JobListener listener = new JobListener(job, report);
+        try {
+            excelService.importTasks(job.getProjectId(), job.getUserId(), job.getSourceFile().toFile(), listener);
+            job.complete(writeErrorReport(job, report));
+        } catch (TaskImportCancelledException e) {
+            job.cancel(writeErrorReport(job, report));
+        } catch (BusinessException e) {
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("엑셀 업로드 작업 실패 - jobId: {}", job.getJobId(), e);
+            job.fail("엑셀 파일 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            closeQuietly(report);
+            deleteQuietly(job.getSourceFile());
+        }
+
+        publish(job, listener.drainErrors());
+        log.info("엑셀 업로드 작업 종료 - jobId: {}, 상태: {}, 등록: {}, 실패: {}",
+                job.getJobId(), job.getStatus(), job.getImportedCount(), job.getErrorCount());
+    }
+
+    private Path writeErrorReport(ExcelImportJob job, ImportErrorReport report) {
+        if (job.getErrorCount() == 0) {
+            return null;
+        }
+
+        Path reportFile = null;
+        try {
+            reportFile = Files.createTempFile("task-import-errors-", ".xlsx");
+            report.writeTo(reportFile);
+            return reportFile;
+        } catch (IOException e) {
+            log.error("엑셀 업로드 오류 보고서 저장 실패 - jobId: {}", job.getJobId(), e);
+            deleteQuietly(reportFile);
+            return null;
+        }
+    }
+
+    private void publish(ExcelImportJob job, List<ExcelImportRowErrorDTO> errors) {
+        messagingTemplate.convertAndSend(PROGRESS_DESTINATION + job.getUserId(),
+                ExcelImportProgressDTO.from(job, errors));
+    }
+
+    private void closeQuietly(ImportErrorReport report) {
+        try {
+            report.close();
+        } catch (IOException e) {
+            log.warn("엑셀 업로드 오류 보고서 자원 해제 실패", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 작업 스레드에서 엑셀 업로드 진행 상황을 작업 상태, 오류 보고서, WebSocket 메시지로 반영하는 리스너
+     */
+    private class JobListener implements TaskImportListener {
+
+        private final ExcelImportJob job;
+        private final ImportErrorReport report;
+        private final List<ExcelImportRowErrorDTO> pendingErrors = new ArrayList<>();
+
+        JobListener(ExcelImportJob job, ImportErrorReport report) {
+            this.job = job;
+            this.report = report;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return job.isCancelRequested();
+        }
+
+        @Override
+        public void onRowError(TaskSheetRow row, String message) {
+            job.incrementErrorCount();
+            report.add(row, message);
+            pendingErrors.add(new ExcelImportRowErrorDTO(row.rowNumber(), message));
+        }
+
+        @Override
+        public void onBatchCommitted(int processedRows, int importedCount) {
+            job.updateProgress(processedRows, importedCount);
+            publish(job, drainErrors());
+        }
+
+        List<ExcelImportRowErrorDTO> drainErrors() {
+            List<ExcelImportRowErrorDTO> errors = List.copyOf(pendingErrors);
+            pendingErrors.clear();
+            return errors;
+        }
+    }
+}
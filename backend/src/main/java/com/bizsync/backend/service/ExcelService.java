@@ -1,34 +1,48 @@
 package com.bizsync.backend.service;
 
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.domain.entity.KanbanColumn;
-import com.bizsync.backend.domain.entity.Project;
 import com.bizsync.backend.domain.entity.Task;
-import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
 import com.bizsync.backend.domain.repository.KanbanColumnRepository;
 import com.bizsync.backend.domain.repository.ProjectRepository;
 import com.bizsync.backend.domain.repository.TaskRepository;
 import com.bizsync.backend.domain.repository.UserRepository;
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
 import com.bizsync.backend.mapper.TaskMapper;
+import com.bizsync.backend.service.excel.TaskImportCancelledException;
+import com.bizsync.backend.service.excel.TaskImportContext;
+import com.bizsync.backend.service.excel.TaskImportListener;
+import com.bizsync.backend.service.excel.TaskSheetReader;
+import com.bizsync.backend.service.excel.TaskSheetRow;
+import com.bizsync.backend.service.excel.TaskExportFormat;
+import com.bizsync.backend.service.excel.TaskExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 엑셀 파일 처리 관련 비즈니스 로직을 처리하는 서비스
  *
- * <p>엑셀 파일을 통한 업무 대량 등록 및 업무 목록 엑셀 다운로드 기능을 제공합니다.
+ * <p>엑셀 파일을 통한 업무 대량 등록 및 업무 목록 내보내기(엑셀, CSV, NDJSON) 기능을 제공합니다.
  *
  * @author BizSync Team
  */
@@ -43,6 +57,11 @@ public class ExcelService {
     private final KanbanColumnRepository kanbanColumnRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int IMPORT_BATCH_SIZE = 500;
 
     /**
      * 엑셀 파일을 읽어서 업무(Task)를 대량 등록합니다.
@@ -56,160 +75,139 @@ public class ExcelService {
      *   <li>상세내용: 업무 상세 내용</li>
      * </ul>
      *
+     * <p>시트는 SAX 방식으로 한 행씩 읽고, {@value #IMPORT_BATCH_SIZE}행 단위로 모아서 일괄 저장합니다.
+     * 컬럼과 컬럼별 순서는 시작 시 한 번만 조회하고, 담당자는 배치마다 한 번의 IN 쿼리로 조회합니다.
+     *
+     * <p>업로드 작업 스레드에서 호출되며, 전체를 하나의 트랜잭션으로 묶지 않고 배치마다 커밋합니다.
+     * 따라서 DB 커넥션은 배치를 저장하는 동안만 점유되고, 취소되거나 실패해도 이미 커밋된 배치는 유지됩니다.
+     *
      * @param projectId 프로젝트 ID
+     * @param userId    업로드한 사용자 ID (생성자/수정자로 기록)
      * @param file      엑셀 파일
+     * @param listener  진행 상황 리스너
      * @return 등록된 업무 수
-     * @throws IOException 파일 읽기 오류
+     * @throws IOException                  파일 읽기 오류
+     * @throws TaskImportCancelledException 도중에 취소된 경우
      */
-    public int uploadTasksFromExcel(Long projectId, MultipartFile file) throws IOException {
-        Project project = projectRepository.findByIdOrThrow(projectId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int importTasks(Long projectId, Long userId, File file, TaskImportListener listener) throws IOException {
+        TaskImportContext context = transactionTemplate.execute(status -> createImportContext(projectId, userId));
 
-        Workbook workbook = new XSSFWorkbook(file.getInputStream());
-        Sheet sheet = workbook.getSheetAt(0);
-
-        List<Task> tasksToSave = new ArrayList<>();
-        int rowIndex = 0;
+        TaskSheetReader.read(file, row -> {
+            if (listener.isCancelled()) {
+                throw new TaskImportCancelledException();
+            }
+            // 빈 행 스킵
+            if (row.isBlank()) return;
 
-        for (Row row : sheet) {
-            // 첫 번째 행은 헤더이므로 스킵
-            if (rowIndex++ == 0) continue;
+            if (context.addRow(row)) {
+                flushImportBatch(context, listener);
+            }
+        });
+        flushImportBatch(context, listener);
 
-            try {
-                String columnName = getCellValueAsString(row.getCell(0));
-                String title = getCellValueAsString(row.getCell(1));
-                String workerEmail = getCellValueAsString(row.getCell(2));
-                String deadlineStr = getCellValueAsString(row.getCell(3));
-                String content = getCellValueAsString(row.getCell(4));
-
-                // 빈 행 스킵
-                if (columnName == null || columnName.isBlank()) continue;
-
-                // 컬럼 찾기
-                KanbanColumn column = kanbanColumnRepository
-                        .findByProjectIdAndNameOrThrow(projectId, columnName);
-
-                // 담당자 찾기 (이메일이 없으면 null로 설정)
-                User worker = null;
-                if (workerEmail != null && !workerEmail.isBlank()) {
-                    try {
-                        worker = userRepository.findByEmailOrThrow(workerEmail);
-                    } catch (Exception e) {
-                        log.warn("엑셀 {}번 행: 담당자 이메일을 찾을 수 없습니다. email={}", rowIndex, workerEmail);
-                        // 담당자를 찾을 수 없어도 업무는 생성 (null로 설정)
-                    }
-                }
+        return context.getImportedCount();
+    }
 
-                // 마감일 파싱 (LocalDate)
-                LocalDate deadline = parseDeadline(deadlineStr);
+    private TaskImportContext createImportContext(Long projectId, Long userId) {
+        projectRepository.findByIdOrThrow(projectId);
+        List<KanbanColumn> columns = kanbanColumnRepository.findByProject_ProjectId(projectId);
 
-                // 최대 시퀀스 조회
-                Integer maxSeq = taskRepository.findMaxSequenceByColumnId(column.getColumnId()).orElse(0);
+        Map<Long, Integer> lastSequenceByColumn = new HashMap<>();
+        taskRepository.findMaxSequencesByProjectId(projectId)
+                .forEach(seq -> lastSequenceByColumn.put(seq.getColumnId(), seq.getMaxSequence()));
 
-                // Task 생성
-                Task task = Task.builder()
-                        .column(column)
-                        .worker(worker)
-                        .title(title)
-                        .content(content)
-                        .deadline(deadline)
-                        .sequence(maxSeq + 1)
-                        .build();
+        return new TaskImportContext(projectId, userId, columns, lastSequenceByColumn, IMPORT_BATCH_SIZE);
+    }
 
-                tasksToSave.add(task);
+    private void flushImportBatch(TaskImportContext context, TaskImportListener listener) {
+        List<TaskSheetRow> rows = context.drainPendingRows();
+        if (rows.isEmpty()) {
+            return;
+        }
 
-            } catch (Exception e) {
-                log.error("엑셀 {}번 행 파싱 실패: {}", rowIndex, e.getMessage());
-                // 계속 진행 (에러 행은 스킵)
+        Map<TaskSheetRow, String> rowErrors = new LinkedHashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            // 배치에서 처음 등장한 담당자 이메일만 한 번에 조회
+            Set<String> emails = context.unresolvedEmails(rows);
+            if (!emails.isEmpty()) {
+                context.registerWorkers(emails, userRepository.findByEmailIn(emails));
             }
-        }
 
-        workbook.close();
+            List<Task> tasks = new ArrayList<>(rows.size());
+            for (TaskSheetRow row : rows) {
+                try {
+                    if (context.isUnknownWorker(row)) {
+                        log.warn("엑셀 {}번 행: 담당자 이메일을 찾을 수 없습니다. email={}", row.rowNumber(), row.workerEmail());
+                    }
+                    tasks.add(context.toTask(row));
+                } catch (BusinessException e) {
+                    log.warn("엑셀 {}번 행 파싱 실패: {}", row.rowNumber(), e.getMessage());
+                    // 계속 진행 (에러 행은 보고서에 기록하고 스킵)
+                    rowErrors.put(row, e.getMessage());
+                }
+            }
 
-        // 일괄 저장
-        taskRepository.saveAll(tasksToSave);
+            if (!tasks.isEmpty()) {
+                taskMapper.insertTasks(tasks, context.getCreatedBy());
+                context.recordImported(tasks.size());
+                tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(
+                        task.getProjectId(), task.getTaskId(), TaskChangedEvent.TaskState.of(task))));
+            }
+        });
 
-        return tasksToSave.size();
+        rowErrors.forEach(listener::onRowError);
+        listener.onBatchCommitted(context.getProcessedCount(), context.getImportedCount());
     }
 
     /**
-     * 프로젝트의 모든 업무를 엑셀 파일로 다운로드합니다.
+     * 업무 엑셀 다운로드 전에 프로젝트가 존재하는지 확인합니다.
      *
-     * <p>컬럼 순서와 업무 순서대로 정렬하여 엑셀 파일을 생성합니다.
+     * <p>다운로드는 응답 스트림에 바로 쓰므로, 응답이 시작되기 전에 오류를 반환할 수 있도록 먼저 호출합니다.
      *
      * @param projectId 프로젝트 ID
-     * @return 엑셀 파일 바이트 배열
-     * @throws IOException 파일 생성 오류
+     * @throws ResourceNotFoundException 프로젝트를 찾을 수 없는 경우
      */
     @Transactional(readOnly = true)
-    public byte[] downloadTasksAsExcel(Long projectId) throws IOException {
-        List<Task> tasks = taskMapper.selectTasksByProjectIdOrderByColumnSequenceAndTaskSequence(projectId);
-
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Tasks");
-
-        // 헤더 행 생성
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"컬럼명", "업무제목", "담당자(이메일)", "마감일", "상세내용"};
-        CellStyle headerStyle = workbook.createCellStyle();
-        Font headerFont = workbook.createFont();
-        headerFont.setBold(true);
-        headerStyle.setFont(headerFont);
-
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        // 데이터 행 생성
-        int rowIndex = 1;
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-        for (Task task : tasks) {
-            Row row = sheet.createRow(rowIndex++);
-            row.createCell(0).setCellValue(task.getColumn().getName());
-            row.createCell(1).setCellValue(task.getTitle());
-            row.createCell(2).setCellValue(task.getWorker() != null ? task.getWorker().getEmail() : "미배정");
-            row.createCell(3).setCellValue(task.getDeadline() != null ? task.getDeadline().format(formatter) : "");
-            row.createCell(4).setCellValue(task.getContent() != null ? task.getContent() : "");
-        }
-
-        // 컬럼 너비 자동 조정
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-
-        return outputStream.toByteArray();
-    }
-
-    // Helper Methods
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return null;
-
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue().trim();
-            case NUMERIC -> String.valueOf((long) cell.getNumericCellValue());
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> cell.getCellFormula();
-            default -> null;
-        };
+    public void validateProjectExists(Long projectId) {
+        projectRepository.findByIdOrThrow(projectId);
     }
 
-    private LocalDate parseDeadline(String deadlineStr) {
-        if (deadlineStr == null || deadlineStr.isBlank()) {
-            return null;
-        }
+    /**
+     * 프로젝트의 모든 업무를 지정한 형식으로 출력 스트림에 씁니다.
+     *
+     * <p>컬럼 순서와 업무 순서대로 정렬하여 내보냅니다.
+     * 업무는 Cursor로 한 행씩 읽어 라이터에 바로 넘기므로 업무 수와 관계없이 메모리 사용량이 일정합니다.
+     * Cursor를 순회하는 동안에만 읽기 전용 트랜잭션(커넥션)을 유지하고, {@link TaskExportWriter#finish()}는
+     * Cursor와 트랜잭션을 닫은 뒤 호출합니다. 엑셀은 행을 SXSSF 임시 파일에 모아 두었다가 이때 응답으로 쓰므로,
+     * 느린 클라이언트로 워크북을 보내는 동안 커넥션을 잡고 있지 않습니다.
+     * CSV와 NDJSON은 행마다 바로 응답으로 내보내므로 순회 중 쓰기가 클라이언트 속도의 영향을 받습니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param format    내보내기 형식 (XLSX, CSV, NDJSON)
+     * @param out       출력 스트림 (닫지 않음)
+     * @throws IOException 파일 생성 오류
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeTasks(Long projectId, TaskExportFormat format, OutputStream out) throws IOException {
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTemplate.setReadOnly(true);
 
-        try {
-            // "yyyy-MM-dd" 형식을 LocalDate로 파싱
-            return LocalDate.parse(deadlineStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        } catch (DateTimeParseException e) {
-            log.warn("마감일 파싱 실패: {}", deadlineStr);
-            return null;
+        try (TaskExportWriter writer = format.createWriter(out, objectMapper)) {
+            try {
+                readOnlyTemplate.executeWithoutResult(status -> {
+                    try (Cursor<TaskExcelRowDTO> tasks = taskMapper.selectTaskExcelRowsByProjectId(projectId)) {
+                        for (TaskExcelRowDTO task : tasks) {
+                            writer.write(task);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
         }
     }
-}
\ No newline at end of file
+}
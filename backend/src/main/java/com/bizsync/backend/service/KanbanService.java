@@ -6,15 +6,19 @@ import com.bizsync.backend.common.exception.ErrorCode;
 import com.bizsync.backend.common.exception.ForbiddenException;
 import com.bizsync.backend.common.util.SecurityUtil;
 import com.bizsync.backend.domain.entity.*;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
 import com.bizsync.backend.domain.repository.*;
 import com.bizsync.backend.dto.request.ColumnCreateRequestDTO;
 import com.bizsync.backend.dto.request.TaskCreateRequestDTO;
 import com.bizsync.backend.dto.request.TaskUpdateRequestDTO;
 import com.bizsync.backend.dto.response.TaskDetailResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 칸반 보드 관련 비즈니스 로직을 처리하는 서비스
  *
@@ -32,6 +36,8 @@ public class KanbanService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventOutboxService eventOutboxService;
 
     /**
      * 칸반 컬럼을 생성합니다.
@@ -80,7 +86,13 @@ public class KanbanService {
             throw new ForbiddenException(ErrorCode.PROJECT_LEADER_ONLY);
         }
 
+        // 컬럼의 업무는 FK(ON DELETE CASCADE)로 함께 삭제되므로 삭제 전에 업무 상태를 조회해 둠
+        List<TaskRepository.TaskStateRow> removedTasks = taskRepository.findStateRowsByColumnId(columnId);
+
         kanbanColumnRepository.deleteById(columnId);
+
+        removedTasks.forEach(row -> eventPublisher.publishEvent(TaskChangedEvent.deleted(projectId, row.getTaskId(),
+                new TaskChangedEvent.TaskState(row.getWorkerId(), column.getColumnType(), row.getDeadline()))));
     }
 
     private ColumnType determineColumnType(String columnName) {
@@ -140,7 +152,10 @@ public class KanbanService {
                 .sequence(nextSequence)
                 .build();
 
-        return taskRepository.save(task).getTaskId();
+        Long taskId = taskRepository.save(task).getTaskId();
+        eventPublisher.publishEvent(TaskChangedEvent.created(projectId, taskId, TaskChangedEvent.TaskState.of(task)));
+
+        return taskId;
     }
 
     /**
@@ -172,6 +187,7 @@ public class KanbanService {
             throw new BusinessException(ErrorCode.PROJECT_NOT_LINKED);
         }
 
+        TaskChangedEvent.TaskState before = TaskChangedEvent.TaskState.of(task);
         User worker = null;
         if (dto.workerId() != null) {
             worker = userRepository.findByIdOrThrow(dto.workerId());
@@ -185,6 +201,8 @@ public class KanbanService {
                 dto.content(),
                 dto.deadline() != null ? dto.deadline() : null,
                 worker);
+
+        publishIfChanged(projectId, before, task);
     }
 
     /**
@@ -194,12 +212,18 @@ public class KanbanService {
      */
     @Transactional
     public void deleteTask(Long taskId) {
-        taskRepository.deleteById(taskId);
+        taskRepository.findById(taskId).ifPresent(task -> {
+            taskRepository.delete(task);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(
+                    task.getProjectId(), taskId, TaskChangedEvent.TaskState.of(task)));
+        });
     }
 
     /**
      * 업무를 다른 컬럼으로 이동하거나 순서를 변경합니다.
      *
+     * <p>커밋 후 WebSocket(/topic/projects/{projectId})으로 보드 업데이트 알림을 전송합니다.
+     *
      * @param taskId         이동할 업무 ID
      * @param targetColumnId 대상 컬럼 ID (null이면 현재 컬럼 유지)
      * @param newSequence    새로운 순서 (null이면 순서 변경 없음)
@@ -213,23 +237,19 @@ public class KanbanService {
             targetColumn = kanbanColumnRepository.findByIdOrThrow(targetColumnId);
         }
 
+        TaskChangedEvent.TaskState before = TaskChangedEvent.TaskState.of(task);
         task.updatePosition(targetColumn, newSequence);
-    }
 
-    /**
-     * 업무 ID로 프로젝트 ID를 조회합니다.
-     *
-     * @param taskId 업무 ID
-     * @return 프로젝트 ID
-     * @throws BusinessException 프로젝트에 연결되지 않은 업무인 경우
-     */
-    @Transactional(readOnly = true)
-    public Long getProjectIdByTaskId(Long taskId) {
-        Task task = taskRepository.findByIdOrThrow(taskId);
         Long projectId = task.getProjectId();
-        if (projectId == null)
-            throw new BusinessException(ErrorCode.PROJECT_NOT_LINKED);
-        return projectId;
+        publishIfChanged(projectId, before, task);
+        eventOutboxService.send("/topic/projects/" + projectId, "BOARD_UPDATE");
+    }
+
+    private void publishIfChanged(Long projectId, TaskChangedEvent.TaskState before, Task task) {
+        TaskChangedEvent.TaskState after = TaskChangedEvent.TaskState.of(task);
+        if (!before.equals(after)) {
+            eventPublisher.publishEvent(TaskChangedEvent.changed(projectId, task.getTaskId(), before, after));
+        }
     }
 
     private boolean isProjectLeader(Long projectId, Long userId) {
@@ -0,0 +1,318 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
+import com.bizsync.backend.domain.entity.Notification;
+import com.bizsync.backend.domain.repository.NotificationRepository;
+import com.bizsync.backend.dto.response.NotificationDTO;
+import com.bizsync.backend.dto.response.NotificationItemDTO;
+import com.bizsync.backend.dto.response.NotificationPageDTO;
+import com.bizsync.backend.mapper.NotificationMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림함 저장과 실시간 전달을 처리하는 서비스
+ *
+ * <p>알림은 호출한 스레드(결재 트랜잭션 등)에서 DB에 쓰지 않고 메모리 대기열에 넣기만 하며,
+ * 주기적으로 대기열을 비워 multi-row INSERT 한 번으로 저장합니다.
+ * 대기열에 있는 동안 같은 수신자, 같은 유형, 같은 대상으로 들어온 알림은 최신 내용 한 건으로 합칩니다.
+ *
+ * <p>저장 후 알림 채널을 구독 중인 수신자에게만 WebSocket으로 보내고, 접속하지 않은 수신자는 알림함에만 남깁니다.
+ * 사용자별 안 읽은 알림 수는 처음 조회할 때 DB에서 세고, 이후에는 저장/읽음/삭제 시 메모리에서 증감합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+    private static final String NOTIFICATION_DESTINATION = "/sub/notification/";
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationRepository notificationRepository;
+    private final PresenceService presenceService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 저장 대기 중인 알림 (합칠 수 있는 알림은 CoalesceKey, 나머지는 알림마다 새 키)
+    private final Map<Object, PendingNotification> pending = new LinkedHashMap<>();
+    private final Object pendingLock = new Object();
+
+    // 대기열 저장과 안 읽은 알림 수 최초 집계가 서로 끼어들지 않도록 직렬화
+    // (잠금 안에서 DB를 기다리므로 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Map<Long, UnreadCounter> unreadCounters = new ConcurrentHashMap<>();
+
+    @Value("${app.notification.inbox.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 알림을 저장 대기열에 추가합니다.
+     *
+     * <p>대상 ID가 있는 알림은 아직 저장되지 않은 같은 수신자/유형/대상 알림과 합쳐집니다.
+     *
+     * @param userId   수신자 ID
+     * @param type     알림 유형
+     * @param message  알림 내용
+     * @param targetId 관련 문서/프로젝트 ID (없으면 합치지 않음)
+     */
+    public void append(Long userId, String type, String message, Long targetId) {
+        Object key = targetId != null ? new CoalesceKey(userId, type, targetId) : new Object();
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (pendingLock) {
+            PendingNotification existing = pending.get(key);
+            if (existing != null) {
+                existing.merge(message, now);
+            } else {
+                pending.put(key, new PendingNotification(userId, type, message, targetId, now));
+            }
+        }
+    }
+
+    /**
+     * 대기열의 알림을 저장하고 접속 중인 수신자에게 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.inbox.flush-interval-ms:500}")
+    public void flush() {
+        List<PendingNotification> batch;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        Map<Long, Long> addedByUser = new HashMap<>();
+        flushLock.lock();
+        try {
+            try {
+                for (int from = 0; from < batch.size(); from += batchSize) {
+                    List<PendingNotification> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+                    notificationMapper.insertNotifications(chunk.stream().map(PendingNotification::toEntity).toList());
+                }
+                batch.forEach(n -> addedByUser.merge(n.userId, 1L, Long::sum));
+            } catch (RuntimeException e) {
+                // 저장에 실패해도 접속 중인 수신자에게는 전달
+                log.error("알림 {}건 저장 실패", batch.size(), e);
+            }
+
+            addedByUser.forEach((userId, added) -> {
+                UnreadCounter counter = unreadCounters.get(userId);
+                if (counter != null) {
+                    counter.add(added);
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+
+        for (PendingNotification notification : batch) {
+            if (presenceService.isNotificationOnline(notification.userId)) {
+                messagingTemplate.convertAndSend(NOTIFICATION_DESTINATION + notification.userId,
+                        notification.toDTO(getUnreadCount(notification.userId)));
+            }
+        }
+        log.debug("알림 {}건 저장, 수신자 {}명", batch.size(), addedByUser.size());
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 사용자의 알림함을 최신순으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 마지막 알림 ID (null이면 처음부터)
+     * @param size   조회할 알림 개수 (최대 50)
+     * @return 알림 페이지 (알림 목록, hasMore, nextCursor, 안 읽은 알림 수)
+     */
+    public NotificationPageDTO getInbox(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // pageSize + 1개 조회 (hasMore 판단용)
+        List<NotificationItemDTO> rows = notificationRepository.findInboxPage(userId, cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationItemDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).notificationId() : null;
+
+        return new NotificationPageDTO(List.copyOf(page), hasMore, nextCursor, getUnreadCount(userId));
+    }
+
+    /**
+     * 사용자의 안 읽은 알림 수를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 안 읽은 알림 수
+     */
+    public long getUnreadCount(Long userId) {
+        return counter(userId).get();
+    }
+
+    /**
+     * 알림을 읽음 처리합니다.
+     *
+     * @param userId         사용자 ID
+     * @param notificationId 알림 ID
+     * @return 처리 후 안 읽은 알림 수
+     */
+    public long markAsRead(Long userId, Long notificationId) {
+        UnreadCounter counter = counter(userId);
+        counter.lock.lock();
+        try {
+            counter.add(-notificationMapper.markAsRead(userId, notificationId));
+            return counter.get();
+        } finally {
+            counter.lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 알림을 모두 읽음 처리합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 처리 후 안 읽은 알림 수
+     */
+    public long markAllAsRead(Long userId) {
+        UnreadCounter counter = counter(userId);
+        counter.lock.lock();
+        try {
+            counter.add(-notificationMapper.markAllAsRead(userId));
+            return counter.get();
+        } finally {
+            counter.lock.unlock();
+        }
+    }
+
+    /**
+     * 알림을 삭제합니다.
+     *
+     * @param userId         사용자 ID
+     * @param notificationId 알림 ID
+     * @return 처리 후 안 읽은 알림 수
+     * @throws ResourceNotFoundException 알림이 없거나 다른 사용자의 알림인 경우
+     */
+    public long delete(Long userId, Long notificationId) {
+        UnreadCounter counter = counter(userId);
+        counter.lock.lock();
+        try {
+            boolean read = notificationRepository.findReadFlag(userId, notificationId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.NOTIFICATION_NOT_FOUND));
+            int deleted = notificationMapper.deleteNotification(userId, notificationId, read);
+            if (!read) {
+                counter.add(-deleted);
+            }
+            return counter.get();
+        } finally {
+            counter.lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 안 읽은 알림 수 카운터 (없으면 DB에서 세어 생성)
+     */
+    private UnreadCounter counter(Long userId) {
+        UnreadCounter counter = unreadCounters.get(userId);
+        if (counter != null) {
+            return counter;
+        }
+        flushLock.lock();
+        try {
+            return unreadCounters.computeIfAbsent(userId,
+                    id -> new UnreadCounter(notificationRepository.countByUserIdAndReadFalse(id)));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 알림 합치기 기준 (수신자, 유형, 대상)
+     */
+    private record CoalesceKey(Long userId, String type, Long targetId) {
+    }
+
+    /**
+     * 저장 대기 중인 알림 (pendingLock 보호)
+     */
+    private static final class PendingNotification {
+
+        private final Long userId;
+        private final String type;
+        private final Long targetId;
+        private String message;
+        private int count = 1;
+        private LocalDateTime createdAt;
+
+        private PendingNotification(Long userId, String type, String message, Long targetId, LocalDateTime createdAt) {
+            this.userId = userId;
+            this.type = type;
+            this.message = message;
+            this.targetId = targetId;
+            this.createdAt = createdAt;
+        }
+
+        private void merge(String latestMessage, LocalDateTime latestAt) {
+            message = latestMessage;
+            createdAt = latestAt;
+            count++;
+        }
+
+        private Notification toEntity() {
+            return Notification.builder()
+                    .userId(userId)
+                    .type(type)
+                    .message(message)
+                    .targetId(targetId)
+                    .mergedCount(count)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        private NotificationDTO toDTO(long unreadCount) {
+            return NotificationDTO.from(type, message, targetId, count, unreadCount, createdAt);
+        }
+    }
+
+    /**
+     * 사용자 1명의 안 읽은 알림 수
+     *
+     * <p>저장 직후 증가분이 반영되기 전에 읽음 처리가 먼저 반영되면 잠시 음수가 될 수 있으므로 조회할 때만 0으로 보정합니다.
+     */
+    private static final class UnreadCounter {
+
+        // 읽음/삭제 처리의 DB 갱신과 카운터 반영을 묶는 잠금
+        private final ReentrantLock lock = new ReentrantLock();
+        private long count;
+
+        private UnreadCounter(long count) {
+            this.count = count;
+        }
+
+        private synchronized long get() {
+            return Math.max(0, count);
+        }
+
+        private synchronized void add(long delta) {
+            count += delta;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.bizsync.backend.service;
 
 import com.bizsync.backend.domain.entity.ApprovalDocument;
-import com.bizsync.backend.dto.response.NotificationDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 알림 발송 관련 비즈니스 로직을 처리하는 서비스
  *
- * <p>결재 승인/반려 알림, 결재 요청 알림 등의 WebSocket 기반 실시간 알림을 제공합니다.
+ * <p>결재 승인/반려 알림, 결재 요청 알림, 업무 마감 알림 등의 알림 메시지를 만들어 알림함으로 보냅니다.
+ * 알림은 {@link EventOutboxService}를 통해 트랜잭션이 커밋된 뒤에만 알림함에 넘기며,
+ * 저장과 접속 중인 사용자에게의 실시간 전달은 {@link NotificationInboxService}가 배치로 처리합니다.
  *
  * @author BizSync Team
  */
@@ -19,7 +24,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationInboxService notificationInboxService;
+    private final EventOutboxService eventOutboxService;
 
     /**
      * 특정 유저에게 알림 발송
@@ -29,13 +35,20 @@ public class NotificationService {
      * @param targetId 관련 문서/업무 ID
      */
     public void sendToUser(Long userId, String message, Long targetId) {
-        // 알림 객체 생성
-        NotificationDTO notification = NotificationDTO.from("APPROVAL", message, targetId);
-
-        // 개인 채널로 발송 (/sub/notification/1)
-        String destination = "/sub/notification/" + userId;
+        sendToUser(userId, "APPROVAL", message, targetId);
+    }
 
-        messagingTemplate.convertAndSend(destination, notification);
+    /**
+     * 특정 유저에게 유형을 지정하여 알림 발송
+     *
+     * @param userId   수신자 ID
+     * @param type     알림 유형 (APPROVAL, BOARD 등)
+     * @param message  알림 내용
+     * @param targetId 관련 문서/프로젝트 ID
+     */
+    public void sendToUser(Long userId, String type, String message, Long targetId) {
+        // 커밋 후 알림함 저장 대기열에 추가 (저장 후 접속 중이면 /sub/notification/{userId}로 전달)
+        eventOutboxService.execute(() -> notificationInboxService.append(userId, type, message, targetId));
 
         log.info("알림 발송 [To: User {}] : {}", userId, message);
     }
@@ -91,30 +104,53 @@ public class NotificationService {
     }
 
     /**
-     * 새로운 결재 문서가 상신되었을 때 결재자에게 알림 발송
+     * 새로운 결재 문서가 상신되었을 때 결재자 전원에게 알림 발송
      *
-     * @param document     상신된 결재 문서
-     * @param approverId   결재자 ID
-     * @param approverName 결재자 이름
-     * @param sequence     결재 순서
+     * <p>결재자마다 알림을 따로 등록하지 않고, 메시지를 모두 만든 뒤 커밋 후 작업 하나로 알림함 대기열에 넘깁니다.
+     *
+     * @param document    상신된 결재 문서
+     * @param approverIds 결재자 ID 목록 (결재 순서대로)
      */
-    public void sendApprovalRequestNotification(
-            ApprovalDocument document,
-            Long approverId,
-            String approverName,
-            Integer sequence
-    ) {
-        String message = String.format(
-                "%s님이 상신한 '%s' 결재 요청이 있습니다. (%d차 결재자)",
-                document.getDrafter().getName(),
-                document.getTitle(),
-                sequence
-        );
+    public void sendApprovalRequestNotifications(ApprovalDocument document, List<Long> approverIds) {
+        String drafterName = document.getDrafter().getName();
+        Long documentId = document.getDocumentId();
+
+        List<String> messages = new ArrayList<>(approverIds.size());
+        for (int i = 0; i < approverIds.size(); i++) {
+            messages.add(String.format(
+                    "%s님이 상신한 '%s' 결재 요청이 있습니다. (%d차 결재자)",
+                    drafterName,
+                    document.getTitle(),
+                    i + 1
+            ));
+        }
+
+        List<Long> recipients = List.copyOf(approverIds);
+        eventOutboxService.execute(() -> {
+            for (int i = 0; i < recipients.size(); i++) {
+                notificationInboxService.append(recipients.get(i), "APPROVAL", messages.get(i), documentId);
+            }
+        });
+
+        log.info("결재 요청 알림 발송 - 문서 ID: {}, 결재자 {}명", documentId, recipients.size());
+    }
 
-        sendToUser(approverId, message, document.getDocumentId());
+    /**
+     * 업무 마감일이 다가왔을 때 담당자에게 알림 발송
+     *
+     * <p>알림을 누르면 업무가 있는 칸반 보드로 이동하도록 BOARD 유형에 프로젝트 ID를 담습니다.
+     *
+     * @param workerId  담당자 ID
+     * @param taskTitle 업무 제목
+     * @param deadline  마감일
+     * @param projectId 업무가 속한 프로젝트 ID
+     */
+    public void sendDeadlineReminder(Long workerId, String taskTitle, LocalDate deadline, Long projectId) {
+        long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), deadline);
+        String message = daysLeft <= 0
+                ? String.format("'%s' 업무의 마감일이 오늘입니다. (%s)", taskTitle, deadline)
+                : String.format("'%s' 업무의 마감이 %d일 남았습니다. (%s)", taskTitle, daysLeft, deadline);
 
-        log.info("결재 요청 알림 발송 - 문서 ID: {}, 결재자: {} ({}차)",
-                document.getDocumentId(), approverName, sequence);
+        sendToUser(workerId, "BOARD", message, projectId);
     }
-
-}
\ No newline at end of file
+}
@@ -16,6 +16,8 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>프로젝트별 온라인 사용자 목록을 관리하고,
  * 접속/해제 시 다른 사용자에게 브로드캐스트합니다.
+ * 개인 알림 채널(/sub/notification/{userId})을 구독 중인 세션도 함께 관리하여
+ * 알림을 바로 보낼지, 알림함에만 저장할지 판단하는 데 사용합니다.
  *
  * @author BizSync Team
  */
@@ -29,6 +31,10 @@ public class PresenceService {
     // 프로젝트별 온라인 사용자 목록 관리 (roomId -> Set<userId>)
     private final Map<Long, Set<Long>> onlineUsersByRoom = new ConcurrentHashMap<>();
 
+    // 알림 채널 구독 세션 관리 (sessionId -> userId, userId -> Set<sessionId>)
+    private final Map<String, Long> notificationSessionUsers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> notificationSessionsByUser = new ConcurrentHashMap<>();
+
     /**
      * 사용자가 특정 채팅방에 접속했음을 등록
      *
@@ -97,4 +103,43 @@ public class PresenceService {
         });
         log.debug("User {} removed from all rooms", userId);
     }
+
+    /**
+     * 세션이 사용자의 알림 채널을 구독했음을 등록
+     *
+     * @param sessionId WebSocket 세션 ID
+     * @param userId    사용자 ID
+     */
+    public void notificationSubscribed(String sessionId, Long userId) {
+        notificationSessionUsers.put(sessionId, userId);
+        notificationSessionsByUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        log.debug("User {} subscribed to notifications (session {})", userId, sessionId);
+    }
+
+    /**
+     * 세션이 종료되었음을 등록 (알림 채널을 구독하지 않은 세션이면 무시)
+     *
+     * @param sessionId WebSocket 세션 ID
+     */
+    public void notificationSessionClosed(String sessionId) {
+        Long userId = notificationSessionUsers.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+        notificationSessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        log.debug("User {} notification session {} closed", userId, sessionId);
+    }
+
+    /**
+     * 사용자가 알림 채널을 구독 중인 세션이 하나라도 있는지 여부
+     *
+     * @param userId 사용자 ID
+     * @return 온라인이면 true
+     */
+    public boolean isNotificationOnline(Long userId) {
+        return notificationSessionsByUser.containsKey(userId);
+    }
 }
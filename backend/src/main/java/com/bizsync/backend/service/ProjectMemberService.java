@@ -9,11 +9,13 @@ import com.bizsync.backend.common.util.SecurityUtil;
 import com.bizsync.backend.domain.entity.Project;
 import com.bizsync.backend.domain.entity.ProjectMember;
 import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.domain.event.ProjectMembershipChangedEvent;
 import com.bizsync.backend.domain.repository.ProjectMemberRepository;
 import com.bizsync.backend.domain.repository.ProjectRepository;
 import com.bizsync.backend.domain.repository.UserRepository;
 import com.bizsync.backend.dto.response.ProjectMemberResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +36,7 @@ public class ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로젝트에 멤버를 초대합니다.
@@ -67,6 +70,8 @@ public class ProjectMemberService {
                 .build();
 
         projectMemberRepository.save(newMember);
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(
+                projectId, user.getUserId(), project.getStatus(), true));
     }
 
     /**
@@ -117,6 +122,8 @@ public class ProjectMemberService {
         ProjectMember member = projectMemberRepository.findByProjectIdAndUserIdOrThrow(projectId, memberId);
 
         projectMemberRepository.delete(member);
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(
+                projectId, memberId, member.getProject().getStatus(), false));
     }
 
     /**
@@ -7,7 +7,10 @@ import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.common.util.SecurityUtil;
 import com.bizsync.backend.domain.entity.Project;
 import com.bizsync.backend.domain.entity.ProjectMember;
+import com.bizsync.backend.domain.entity.ProjectStatus;
 import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.domain.event.ProjectMembershipChangedEvent;
+import com.bizsync.backend.domain.event.ProjectStatusChangedEvent;
 import com.bizsync.backend.domain.repository.ProjectMemberRepository;
 import com.bizsync.backend.domain.repository.ProjectRepository;
 import com.bizsync.backend.domain.repository.UserRepository;
@@ -17,6 +20,7 @@ import com.bizsync.backend.dto.response.ProjectListResponseDTO;
 import com.bizsync.backend.dto.response.kanban.ProjectBoardDTO;
 import com.bizsync.backend.mapper.ProjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +44,7 @@ public class ProjectService {
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 프로젝트를 생성합니다.
@@ -73,6 +78,8 @@ public class ProjectService {
                 .build();
 
         projectMemberRepository.save(member);
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(
+                savedProject.getProjectId(), userId, savedProject.getStatus(), true));
 
         return savedProject.getProjectId();
 
@@ -123,7 +130,9 @@ public class ProjectService {
     @Transactional
     public void completeProject(Long projectId) {
         Project project = projectRepository.findByIdOrThrow(projectId);
+        ProjectStatus previousStatus = project.getStatus();
         project.complete();
+        publishStatusChanged(project, previousStatus);
     }
 
     /**
@@ -138,7 +147,9 @@ public class ProjectService {
     @Transactional
     public void startProject(Long projectId) {
         Project project = projectRepository.findByIdOrThrow(projectId);
+        ProjectStatus previousStatus = project.getStatus();
         project.start();
+        publishStatusChanged(project, previousStatus);
     }
 
     /**
@@ -153,7 +164,9 @@ public class ProjectService {
     @Transactional
     public void reopenProject(Long projectId) {
         Project project = projectRepository.findByIdOrThrow(projectId);
+        ProjectStatus previousStatus = project.getStatus();
         project.reopen();
+        publishStatusChanged(project, previousStatus);
     }
 
     /**
@@ -185,7 +198,20 @@ public class ProjectService {
     @Transactional
     public void deleteProject(Long projectId) {
         Project project = projectRepository.findByIdOrThrow(projectId);
+        ProjectStatus previousStatus = project.getStatus();
         project.cancel();
+        publishStatusChanged(project, previousStatus);
+    }
+
+    private void publishStatusChanged(Project project, ProjectStatus previousStatus) {
+        if (project.getStatus() == previousStatus) {
+            return;
+        }
+        eventPublisher.publishEvent(new ProjectStatusChangedEvent(
+                project.getProjectId(),
+                previousStatus,
+                project.getStatus(),
+                projectMemberRepository.findUserIdsByProjectId(project.getProjectId())));
     }
 
 }
@@ -0,0 +1,149 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
+import com.bizsync.backend.mapper.ProjectStatsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로젝트 진행 현황 요약(project_stats)을 유지하는 서비스
+ *
+ * <p>칸반/엑셀 업로드 쓰기 경로가 발행하는 업무 변경 이벤트를 같은 트랜잭션 안에서 받아
+ * 프로젝트별 증감분으로 모아 두었다가, 커밋 직전에 프로젝트당 UPSERT 한 번으로 반영합니다.
+ * 따라서 요약 값은 업무 변경과 함께 커밋되거나 함께 롤백됩니다.
+ *
+ * <p>마감 초과 여부는 날짜가 바뀌면 업무 변경 없이도 달라지므로, 매일 자정 직후와 애플리케이션 시작 시
+ * 업무 테이블 기준으로 전체를 다시 집계합니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    private static final Object PENDING_DELTAS_KEY = ProjectStatsService.class.getName() + ".PENDING_DELTAS";
+
+    private final ProjectStatsMapper projectStatsMapper;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        Delta delta = Delta.of(event.after(), 1, today).plus(Delta.of(event.before(), -1, today));
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event.projectId(), delta);
+            return;
+        }
+        pendingDeltas().merge(event.projectId(), delta, Delta::plus);
+    }
+
+    /**
+     * 모든 프로젝트의 진행 현황을 다시 집계합니다.
+     */
+    @Scheduled(cron = "${app.project.stats.recalculate-cron:0 1 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recalculateAll() {
+        long start = System.currentTimeMillis();
+        int affected = projectStatsMapper.recalculateAll(LocalDate.now());
+        log.info("프로젝트 진행 현황 재집계 완료 - {}행, {}ms", affected, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 현재 트랜잭션에 묶인 프로젝트별 증감분 (첫 이벤트에서 생성하고 커밋 직전에 반영)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Delta> pendingDeltas() {
+        Map<Long, Delta> pending = (Map<Long, Delta>) TransactionSynchronizationManager.getResource(PENDING_DELTAS_KEY);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<Long, Delta> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_DELTAS_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // MyBatis SqlSession 정리(beforeCommit)보다 먼저 실행
+                return 0;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach((projectId, delta) -> {
+                    if (!delta.isEmpty()) {
+                        apply(projectId, delta);
+                    }
+                });
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS_KEY);
+            }
+        });
+        return created;
+    }
+
+    private void apply(Long projectId, Delta delta) {
+        projectStatsMapper.applyDelta(projectId,
+                delta.todoTasks(),
+                delta.inProgressTasks(),
+                delta.doneTasks(),
+                delta.unassignedTasks(),
+                delta.overdueTasks());
+    }
+
+    /**
+     * 프로젝트 진행 현황 증감분
+     */
+    private record Delta(long todoTasks, long inProgressTasks, long doneTasks,
+                         long unassignedTasks, long overdueTasks) {
+
+        private static final Delta EMPTY = new Delta(0, 0, 0, 0, 0);
+
+        /**
+         * 업무 한 건이 각 집계 값에 기여하는 양에 부호를 곱한 증감분
+         */
+        static Delta of(TaskChangedEvent.TaskState state, int sign, LocalDate today) {
+            if (state == null) {
+                return EMPTY;
+            }
+            return new Delta(
+                    state.columnType() == ColumnType.TODO ? sign : 0,
+                    state.columnType() == ColumnType.IN_PROGRESS ? sign : 0,
+                    state.done() ? sign : 0,
+                    state.workerId() == null ? sign : 0,
+                    state.overdue(today) ? sign : 0);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(
+                    todoTasks + other.todoTasks,
+                    inProgressTasks + other.inProgressTasks,
+                    doneTasks + other.doneTasks,
+                    unassignedTasks + other.unassignedTasks,
+                    overdueTasks + other.overdueTasks);
+        }
+
+        boolean isEmpty() {
+            return equals(EMPTY);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.event.UserAccountChangedEvent;
+import com.bizsync.backend.domain.repository.UserRepository;
+import com.bizsync.backend.dto.response.UserDirectoryPageDTO;
+import com.bizsync.backend.dto.response.UserSummaryDTO;
+import com.bizsync.backend.service.directory.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 사용자 디렉터리(목록, 검색, 자동완성)를 메모리 색인으로 제공하는 서비스
+ *
+ * <p>애플리케이션 시작 시 전체 사용자를 {@link UserSearchIndex}에 올리고, 이후에는 가입/상태/권한/직급 변경 이벤트를 받아
+ * 커밋 후 해당 사용자 한 명만 다시 색인합니다. 이벤트를 거치지 않은 변경(SQL 직접 수정, 다른 인스턴스의 변경)은
+ * 주기적인 전체 재색인으로 맞춥니다. 조회 API는 DB를 읽지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryService {
+
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UserSearchIndex index = new UserSearchIndex();
+
+    /**
+     * 전체 사용자를 다시 색인합니다.
+     */
+    @Scheduled(cron = "${app.user-directory.rebuild-cron:0 0 * * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long readVersion = index.version();
+        List<UserSummaryDTO> users = userRepository.findAll().stream()
+                .map(UserSummaryDTO::from)
+                .toList();
+        index.replaceAll(users, readVersion);
+        log.info("사용자 디렉터리 색인 완료 - {}명, {}ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 변경된 사용자를 커밋 후 다시 색인합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        userRepository.findById(event.userId())
+                .map(UserSummaryDTO::from)
+                .ifPresent(index::put);
+    }
+
+    /**
+     * 전체 사용자 목록을 사용자 ID 순으로 조회합니다.
+     *
+     * @return 사용자 목록
+     */
+    public List<UserSummaryDTO> getAllUsers() {
+        return index.all();
+    }
+
+    /**
+     * 이름, 이메일, 부서로 사용자를 검색합니다 (한글 초성 및 입력 중인 음절 포함).
+     *
+     * <p>이름 앞부분 일치, 이메일 앞부분 일치, 이름 포함, 그 밖의 포함 순으로 정렬합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param limit   최대 결과 수 (최대 50)
+     * @return 검색된 사용자 목록
+     */
+    public List<UserSummaryDTO> search(String keyword, int limit) {
+        return index.search(keyword, Math.min(limit, MAX_SEARCH_LIMIT));
+    }
+
+    /**
+     * 사용자 목록을 사용자 ID 순으로 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 사용자 ID (null이면 처음부터)
+     * @param size   조회할 사용자 수 (최대 100)
+     * @return 사용자 페이지 (사용자 목록, hasMore, nextCursor)
+     */
+    public UserDirectoryPageDTO getPage(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // pageSize + 1개 조회 (hasMore 판단용)
+        List<UserSummaryDTO> rows = index.page(cursor, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<UserSummaryDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).userId() : null;
+
+        return new UserDirectoryPageDTO(List.copyOf(page), hasMore, nextCursor);
+    }
+}
@@ -0,0 +1,334 @@
+package com.bizsync.backend.service.directory;
+
+import com.bizsync.backend.dto.response.UserSummaryDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 사용자 이름/이메일/부서 n-gram 검색 인덱스
+ *
+ * <p>검색 대상 문자열은 한글 음절을 호환 자모로 풀어(겹모음/겹받침도 기본 자모로 분해) 소문자로 정규화한 뒤
+ * 2-gram 역색인에 넣습니다. 자모 단위로 비교하므로 "홍기"처럼 입력 중인 음절도 "홍길동"에 일치하고,
+ * 이름과 부서는 초성만 모은 문자열("ㅎㄱㄷ")도 함께 색인해 초성 검색을 지원합니다.
+ * 검색은 질의 2-gram의 posting 목록 중 가장 작은 것부터 교집합을 구해 후보를 좁히고,
+ * 후보의 원문에 질의가 실제로 포함되는지 확인한 뒤 상위 K건만 남깁니다.
+ *
+ * <p>읽기는 잠금 없이 동시 자료구조를 읽고, 쓰기(사용자 추가/변경, 전체 교체)는 한 번에 하나씩 처리합니다.
+ * 사용자 한 명을 갱신하는 동안의 검색은 갱신 전후 상태가 섞여 보일 수 있습니다.
+ *
+ * @author BizSync Team
+ */
+public class UserSearchIndex {
+
+    private static final int GRAM = 2;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+
+    private static final Comparator<Match> BEST_FIRST = Comparator
+            .comparingInt(Match::rank)
+            .thenComparing(match -> match.entry().user().name(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(match -> match.entry().user().userId());
+
+    private final Object writeLock = new Object();
+
+    /**
+     * 사용자 ID 순으로 정렬된 색인 항목 (키셋 페이지 조회에 사용)
+     */
+    private volatile NavigableMap<Long, Entry> entries = new ConcurrentSkipListMap<>();
+
+    /**
+     * 2-gram -> 해당 2-gram을 포함하는 사용자 ID
+     */
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 쓰기마다 1씩 늘어나는 버전 (전체 교체 중에 들어온 갱신을 잃지 않도록 항목에 기록)
+     */
+    private long version;
+
+    /**
+     * 사용자를 추가하거나 기존 항목을 교체합니다 (바뀐 2-gram의 posting만 수정).
+     *
+     * @param user 사용자 요약 정보
+     */
+    public void put(UserSummaryDTO user) {
+        synchronized (writeLock) {
+            Entry entry = new Entry(user, searchKeys(user), ++version);
+            Entry previous = entries.put(user.userId(), entry);
+
+            Set<String> added = grams(entry.keys());
+            Set<String> removed = previous != null ? grams(previous.keys()) : Set.of();
+            for (String gram : removed) {
+                if (!added.contains(gram)) {
+                    Set<Long> ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(user.userId());
+                        if (ids.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                }
+            }
+            for (String gram : added) {
+                if (!removed.contains(gram)) {
+                    postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(user.userId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 버전을 반환합니다. 전체 교체용 데이터를 읽기 직전에 기록해 {@link #replaceAll}에 넘깁니다.
+     */
+    public long version() {
+        synchronized (writeLock) {
+            return version;
+        }
+    }
+
+    /**
+     * 색인 전체를 교체합니다.
+     *
+     * <p>새 색인을 모두 만든 뒤 한 번에 바꾸므로 교체 중에도 검색은 이전 색인으로 처리됩니다.
+     * {@code readVersion} 이후에 {@link #put}으로 갱신된 항목은 교체용 데이터보다 최신이므로 유지합니다.
+     *
+     * @param users       교체할 전체 사용자
+     * @param readVersion 교체용 데이터를 읽기 직전의 {@link #version()}
+     */
+    public void replaceAll(Collection<UserSummaryDTO> users, long readVersion) {
+        synchronized (writeLock) {
+            NavigableMap<Long, Entry> newEntries = new ConcurrentSkipListMap<>();
+            for (UserSummaryDTO user : users) {
+                newEntries.put(user.userId(), new Entry(user, searchKeys(user), version));
+            }
+            for (Entry entry : entries.values()) {
+                if (entry.version() > readVersion) {
+                    newEntries.put(entry.user().userId(), entry);
+                }
+            }
+
+            Map<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+            for (Entry entry : newEntries.values()) {
+                for (String gram : grams(entry.keys())) {
+                    newPostings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(entry.user().userId());
+                }
+            }
+
+            entries = newEntries;
+            postings = newPostings;
+        }
+    }
+
+    /**
+     * 질의를 포함하는 사용자를 일치도 순으로 최대 limit건 조회합니다.
+     *
+     * <p>이름 앞부분 일치(초성 포함), 이메일 앞부분 일치, 이름 포함, 그 밖의 포함 순으로 우선하며,
+     * 같은 순위는 이름, 사용자 ID 순입니다. 정규화한 질의가 2자(자모 기준) 미만이면 빈 목록을 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색된 사용자
+     */
+    public List<UserSummaryDTO> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.length() < GRAM || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Entry> currentEntries = entries;
+        Map<String, Set<Long>> currentPostings = postings;
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(List.of(normalized))) {
+            Set<Long> ids = currentPostings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        PriorityQueue<Match> top = new PriorityQueue<>(BEST_FIRST.reversed());
+        for (Long userId : lists.get(0)) {
+            if (!containsInAll(lists, userId)) {
+                continue;
+            }
+            Entry entry = currentEntries.get(userId);
+            int rank = entry != null ? entry.rank(normalized) : Match.NO_MATCH;
+            if (rank == Match.NO_MATCH) {
+                continue;
+            }
+
+            top.add(new Match(entry, rank));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        return top.stream()
+                .sorted(BEST_FIRST)
+                .map(match -> match.entry().user())
+                .toList();
+    }
+
+    /**
+     * 사용자 ID 순으로 cursor 다음 사용자를 최대 size건 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 사용자 ID (null이면 처음부터)
+     * @param size   최대 조회 수
+     * @return 사용자 목록
+     */
+    public List<UserSummaryDTO> page(Long cursor, int size) {
+        NavigableMap<Long, Entry> current = entries;
+        Collection<Entry> tail = cursor != null ? current.tailMap(cursor, false).values() : current.values();
+        return tail.stream()
+                .limit(size)
+                .map(Entry::user)
+                .toList();
+    }
+
+    /**
+     * 색인된 전체 사용자를 사용자 ID 순으로 반환합니다.
+     */
+    public List<UserSummaryDTO> all() {
+        return entries.values().stream()
+                .map(Entry::user)
+                .toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static boolean containsInAll(List<Set<Long>> lists, Long userId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(userId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 검색 대상 문자열 (순서: 이름, 이름 초성, 이메일, 부서, 부서 초성)
+     */
+    private static List<String> searchKeys(UserSummaryDTO user) {
+        return List.of(
+                normalize(user.name()),
+                choseong(user.name()),
+                normalize(user.email()),
+                normalize(user.department()),
+                choseong(user.department()));
+    }
+
+    private static Set<String> grams(List<String> keys) {
+        Set<String> grams = new HashSet<>();
+        for (String key : keys) {
+            for (int i = 0; i + GRAM <= key.length(); i++) {
+                grams.add(key.substring(i, i + GRAM));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 공백을 없애고 소문자로 바꾸며, 한글 음절은 기본 호환 자모로 풉니다 (예: "닭 Kim" -> "ㄷㅏㄹㄱkim").
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length() * 3);
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int code = c - HANGUL_BASE;
+                sb.append(CHOSEONG[code / 588])
+                        .append(JUNGSEONG[(code % 588) / 28])
+                        .append(JONGSEONG[code % 28]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절의 초성만 모은 문자열 (한글 음절이 없으면 빈 문자열)
+     */
+    static String choseong(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSEONG[(c - HANGUL_BASE) / 588]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인 항목
+     *
+     * @param user    사용자 요약 정보
+     * @param keys    정규화한 검색 대상 문자열 ({@link #searchKeys} 순서)
+     * @param version 항목을 넣은 쓰기 버전
+     */
+    private record Entry(UserSummaryDTO user, List<String> keys, long version) {
+
+        int rank(String query) {
+            String name = keys.get(0);
+            String nameChoseong = keys.get(1);
+            String email = keys.get(2);
+            if (name.startsWith(query) || nameChoseong.startsWith(query)) {
+                return 0;
+            }
+            if (email.startsWith(query)) {
+                return 1;
+            }
+            if (name.contains(query) || nameChoseong.contains(query)) {
+                return 2;
+            }
+            if (email.contains(query) || keys.get(3).contains(query) || keys.get(4).contains(query)) {
+                return 3;
+            }
+            return Match.NO_MATCH;
+        }
+    }
+
+    private record Match(Entry entry, int rank) {
+
+        static final int NO_MATCH = -1;
+    }
+}
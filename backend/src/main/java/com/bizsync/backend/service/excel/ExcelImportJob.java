@@ -0,0 +1,108 @@
+package com.bizsync.backend.service.excel;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 업로드 작업 1건의 상태
+ *
+ * <p>업로드 요청 스레드가 생성하고, 작업 스레드가 진행 상황을 갱신하며,
+ * 조회/취소 요청 스레드가 읽습니다. 모든 가변 필드는 volatile로 공개합니다.
+ *
+ * @author BizSync Team
+ */
+@Getter
+public class ExcelImportJob {
+
+    private final String jobId;
+    private final Long projectId;
+    private final Long userId;
+    private final String fileName;
+    private final Path sourceFile;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile ExcelImportStatus status = ExcelImportStatus.QUEUED;
+    private volatile int processedRows;
+    private volatile int importedCount;
+    private volatile int errorCount;
+    private volatile String message;
+    private volatile Path errorReportFile;
+    private volatile LocalDateTime finishedAt;
+
+    @Getter(AccessLevel.NONE)
+    private volatile boolean cancelRequested;
+
+    public ExcelImportJob(String jobId, Long projectId, Long userId, String fileName, Path sourceFile) {
+        this.jobId = jobId;
+        this.projectId = projectId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.sourceFile = sourceFile;
+    }
+
+    /**
+     * 대기 중인 작업을 실행 상태로 바꿉니다.
+     *
+     * @return 대기 중에 취소되어 실행하지 않아야 하면 false
+     */
+    public synchronized boolean start() {
+        if (status != ExcelImportStatus.QUEUED) {
+            return false;
+        }
+        this.status = ExcelImportStatus.RUNNING;
+        return true;
+    }
+
+    public void updateProgress(int processedRows, int importedCount) {
+        this.processedRows = processedRows;
+        this.importedCount = importedCount;
+    }
+
+    public void incrementErrorCount() {
+        this.errorCount++;
+    }
+
+    public void complete(Path errorReportFile) {
+        finish(ExcelImportStatus.COMPLETED, errorReportFile,
+                importedCount + "개의 업무가 등록되었습니다.");
+    }
+
+    public void cancel(Path errorReportFile) {
+        finish(ExcelImportStatus.CANCELLED, errorReportFile,
+                "업로드가 취소되었습니다. (취소 전 " + importedCount + "개 등록됨)");
+    }
+
+    public void fail(String message) {
+        finish(ExcelImportStatus.FAILED, null, message);
+    }
+
+    /**
+     * 취소를 요청합니다.
+     *
+     * <p>아직 대기 중이면 즉시 취소 상태로 끝내고, 실행 중이면 작업 스레드가 다음 행을 읽기 전에 확인합니다.
+     */
+    public synchronized void requestCancel() {
+        this.cancelRequested = true;
+        if (status == ExcelImportStatus.QUEUED) {
+            cancel(null);
+        }
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+
+    private void finish(ExcelImportStatus status, Path errorReportFile, String message) {
+        this.errorReportFile = errorReportFile;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bizsync.backend.service.excel;
+
+/**
+ * 엑셀 업로드 작업 상태
+ */
+public enum ExcelImportStatus {
+    QUEUED,     // 대기 중
+    RUNNING,    // 처리 중
+    COMPLETED,  // 완료
+    FAILED,     // 실패
+    CANCELLED;  // 취소
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 종료 상태인지 확인
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
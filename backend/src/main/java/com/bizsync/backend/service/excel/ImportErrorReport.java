@@ -0,0 +1,91 @@
+package com.bizsync.backend.service.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 엑셀 업로드 실패 행 보고서
+ *
+ * <p>업로드 양식과 같은 열 순서로 실패한 행을 기록하고 오른쪽에 행 번호와 오류 내용을 덧붙입니다.
+ * 사용자는 오류를 고친 뒤 같은 파일을 다시 업로드할 수 있습니다.
+ * SXSSF 윈도우 방식으로 작성하므로 실패 행이 많아도 메모리에는 최근 행만 유지됩니다.
+ *
+ * @author BizSync Team
+ */
+public class ImportErrorReport implements Closeable {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final String[] HEADERS = {"컬럼명", "업무제목", "담당자(이메일)", "마감일", "상세내용", "행 번호", "오류 내용"};
+
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+    private final Sheet sheet;
+    private int nextRow = 1;
+
+    public ImportErrorReport() {
+        this.sheet = workbook.createSheet("Errors");
+
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(headerStyle);
+        }
+    }
+
+    /**
+     * 실패한 행을 추가합니다.
+     *
+     * @param row     실패한 엑셀 행
+     * @param message 실패 사유
+     */
+    public void add(TaskSheetRow row, String message) {
+        Row excelRow = sheet.createRow(nextRow++);
+        excelRow.createCell(0).setCellValue(nullToEmpty(row.columnName()));
+        excelRow.createCell(1).setCellValue(nullToEmpty(row.title()));
+        excelRow.createCell(2).setCellValue(nullToEmpty(row.workerEmail()));
+        excelRow.createCell(3).setCellValue(nullToEmpty(row.deadline()));
+        excelRow.createCell(4).setCellValue(nullToEmpty(row.content()));
+        excelRow.createCell(5).setCellValue(row.rowNumber());
+        excelRow.createCell(6).setCellValue(nullToEmpty(message));
+    }
+
+    /**
+     * 보고서를 파일로 저장합니다.
+     *
+     * @param target 저장할 경로
+     * @throws IOException 파일 쓰기 오류
+     */
+    public void writeTo(Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            workbook.write(out);
+        }
+    }
+
+    /**
+     * 임시 파일을 포함한 워크북 자원을 해제합니다.
+     */
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
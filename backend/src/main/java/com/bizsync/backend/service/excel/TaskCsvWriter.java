@@ -0,0 +1,89 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업무 목록을 CSV(RFC 4180, UTF-8)로 쓰는 라이터
+ *
+ * <p>BI/백업 등 기계가 읽는 용도이므로 첫 행은 영문 필드명이고, 값이 없는 칸은 빈 문자열로 씁니다.
+ * 행은 버퍼를 거쳐 바로 출력 스트림으로 나가며 메모리에 쌓지 않습니다.
+ *
+ * @author BizSync Team
+ */
+public class TaskCsvWriter implements TaskExportWriter {
+
+    private static final String HEADER = "columnName,title,workerEmail,deadline,content";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * @param out CSV를 쓸 출력 스트림 (닫지 않음)
+     */
+    public TaskCsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(TaskExcelRowDTO task) throws IOException {
+        writeField(task.getColumnName());
+        writer.write(',');
+        writeField(task.getTitle());
+        writer.write(',');
+        writeField(task.getWorkerEmail());
+        writer.write(',');
+        writeField(task.getDeadline() != null ? task.getDeadline().toString() : null);
+        writer.write(',');
+        writeField(task.getContent());
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * 버퍼만 비우고 대상 출력 스트림은 닫지 않습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+     */
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
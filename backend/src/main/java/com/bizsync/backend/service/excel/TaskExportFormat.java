@@ -0,0 +1,78 @@
+package com.bizsync.backend.service.excel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 업무 목록 내보내기 형식
+ *
+ * <p>요청의 Accept 헤더로 형식을 고르며, 지원하는 형식이 없으면 XLSX로 내려줍니다.
+ *
+ * @author BizSync Team
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+    XLSX(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"), "xlsx"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    /**
+     * 이 형식의 라이터를 생성합니다.
+     *
+     * @param out          출력 스트림 (라이터가 닫지 않음)
+     * @param objectMapper NDJSON 직렬화에 사용할 ObjectMapper
+     * @return 업무 내보내기 라이터
+     * @throws IOException 초기 쓰기 오류
+     */
+    public TaskExportWriter createWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case XLSX -> new TaskSheetWriter(out);
+            case CSV -> new TaskCsvWriter(out);
+            case NDJSON -> new TaskNdjsonWriter(out, objectMapper);
+        };
+    }
+
+    /**
+     * Accept 헤더에서 품질(q) 순으로 처음 맞는 형식을 고릅니다.
+     *
+     * @param accept Accept 헤더 값 (null 가능)
+     * @return 내보내기 형식 (맞는 형식이 없거나 와일드카드만 있으면 XLSX)
+     */
+    public static TaskExportFormat fromAcceptHeader(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return XLSX;
+        }
+
+        List<MediaType> acceptTypes;
+        try {
+            acceptTypes = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return XLSX;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptTypes);
+
+        for (MediaType acceptType : acceptTypes) {
+            if (acceptType.isWildcardType() || acceptType.isWildcardSubtype()) {
+                continue;
+            }
+            for (TaskExportFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(acceptType)) {
+                    return format;
+                }
+            }
+        }
+        return XLSX;
+    }
+}
@@ -0,0 +1,35 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 업무 목록을 한 행씩 출력 스트림에 내보내는 라이터
+ *
+ * <p>구현체는 행을 모아두지 않고 바로 쓰거나 고정 크기 윈도우만 유지하여,
+ * 업무 수와 관계없이 메모리 사용량이 일정해야 합니다.
+ * {@link #close()}는 라이터 자원만 해제하며 대상 출력 스트림은 닫지 않습니다.
+ *
+ * @author BizSync Team
+ */
+public interface TaskExportWriter extends Closeable {
+
+    /**
+     * 업무 한 건을 씁니다.
+     *
+     * @param task 업무 행
+     * @throws IOException 쓰기 오류
+     */
+    void write(TaskExcelRowDTO task) throws IOException;
+
+    /**
+     * 남은 내용을 모두 출력 스트림에 씁니다.
+     *
+     * <p>모든 행을 넘긴 뒤 조회 트랜잭션을 닫고 호출하므로, 모아 둔 내용을 쓰는 동안에는 DB 커넥션을 잡고 있지 않습니다.
+     *
+     * @throws IOException 쓰기 오류
+     */
+    void finish() throws IOException;
+}
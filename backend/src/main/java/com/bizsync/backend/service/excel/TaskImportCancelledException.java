@@ -0,0 +1,13 @@
+package com.bizsync.backend.service.excel;
+
+/**
+ * 업로드 도중 취소 요청이 확인되어 시트 읽기를 중단할 때 사용하는 예외
+ *
+ * @author BizSync Team
+ */
+public class TaskImportCancelledException extends RuntimeException {
+
+    public TaskImportCancelledException() {
+        super("엑셀 업로드가 취소되었습니다.");
+    }
+}
@@ -0,0 +1,183 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
+import com.bizsync.backend.domain.entity.KanbanColumn;
+import com.bizsync.backend.domain.entity.Task;
+import com.bizsync.backend.domain.entity.User;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 엑셀 업무 업로드 1회분의 상태를 보관하는 컨텍스트
+ *
+ * <p>행마다 DB를 조회하지 않도록 프로젝트의 컬럼과 컬럼별 마지막 순서를 업로드 시작 시
+ * 한 번만 읽어 메모리에 보관하고, 담당자는 배치 단위로 한 번에 조회하여 캐시합니다.
+ * 순서(sequence)는 컬럼별로 메모리에서 증가시키므로 같은 컬럼의 행들이 서로 다른 순서를 갖습니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+public class TaskImportContext {
+
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    @Getter
+    private final Long projectId;
+
+    @Getter
+    private final Long createdBy;
+
+    @Getter
+    private final int batchSize;
+
+    private final Map<String, KanbanColumn> columnsByName;
+    private final Map<Long, Integer> lastSequenceByColumn;
+    private final Map<String, User> workersByEmail = new HashMap<>();
+    private final Set<String> unknownEmails = new HashSet<>();
+    private final List<TaskSheetRow> pendingRows;
+
+    @Getter
+    private int processedCount;
+
+    @Getter
+    private int importedCount;
+
+    public TaskImportContext(Long projectId,
+                             Long createdBy,
+                             List<KanbanColumn> columns,
+                             Map<Long, Integer> lastSequenceByColumn,
+                             int batchSize) {
+        this.projectId = projectId;
+        this.createdBy = createdBy;
+        this.batchSize = batchSize;
+        this.columnsByName = columns.stream()
+                .collect(Collectors.toMap(KanbanColumn::getName, Function.identity(), (first, second) -> first));
+        this.lastSequenceByColumn = new HashMap<>(lastSequenceByColumn);
+        this.pendingRows = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * 처리 대기 행을 추가합니다.
+     *
+     * @param row 엑셀 행
+     * @return 배치가 가득 찼으면 true
+     */
+    public boolean addRow(TaskSheetRow row) {
+        pendingRows.add(row);
+        return pendingRows.size() >= batchSize;
+    }
+
+    /**
+     * 처리 대기 행을 모두 꺼냅니다.
+     *
+     * @return 처리 대기 행 목록 (꺼낸 뒤 컨텍스트의 대기 목록은 비워짐)
+     */
+    public List<TaskSheetRow> drainPendingRows() {
+        List<TaskSheetRow> rows = List.copyOf(pendingRows);
+        pendingRows.clear();
+        processedCount += rows.size();
+        return rows;
+    }
+
+    /**
+     * 아직 조회하지 않은 담당자 이메일 목록을 반환합니다.
+     *
+     * @param rows 엑셀 행 목록
+     * @return 캐시에 없는 이메일 집합
+     */
+    public Set<String> unresolvedEmails(List<TaskSheetRow> rows) {
+        Set<String> emails = new HashSet<>();
+        for (TaskSheetRow row : rows) {
+            String email = row.workerEmail();
+            if (email != null && !workersByEmail.containsKey(email) && !unknownEmails.contains(email)) {
+                emails.add(email);
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * 담당자 조회 결과를 캐시에 반영합니다.
+     *
+     * @param requestedEmails 조회를 요청한 이메일
+     * @param found           조회된 사용자 목록
+     */
+    public void registerWorkers(Set<String> requestedEmails, List<User> found) {
+        found.forEach(user -> workersByEmail.put(user.getEmail(), user));
+        requestedEmails.stream()
+                .filter(email -> !workersByEmail.containsKey(email))
+                .forEach(unknownEmails::add);
+    }
+
+    /**
+     * 엑셀 행을 저장할 Task로 변환합니다.
+     *
+     * <p>담당자 이메일을 찾을 수 없으면 담당자 없이 생성하며, 컬럼의 다음 순서를 할당합니다.
+     *
+     * @param row 엑셀 행
+     * @return 저장할 Task (아직 영속화되지 않음)
+     * @throws ResourceNotFoundException 컬럼을 찾을 수 없는 경우
+     * @throws BusinessException         업무 제목이 비어 있는 경우
+     */
+    public Task toTask(TaskSheetRow row) {
+        KanbanColumn column = columnsByName.get(row.columnName());
+        if (column == null) {
+            throw new ResourceNotFoundException(ErrorCode.KANBAN_COLUMN_NOT_FOUND);
+        }
+        if (row.title() == null || row.title().isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "업무 제목이 비어 있습니다.");
+        }
+
+        // 담당자를 찾을 수 없어도 업무는 생성 (null로 설정)
+        User worker = row.workerEmail() != null ? workersByEmail.get(row.workerEmail()) : null;
+
+        return Task.builder()
+                .column(column)
+                .worker(worker)
+                .title(row.title())
+                .content(row.content())
+                .deadline(parseDeadline(row.deadline()))
+                .sequence(nextSequence(column.getColumnId()))
+                .build();
+    }
+
+    /**
+     * 담당자 이메일이 존재하지 않는 사용자인지 확인
+     */
+    public boolean isUnknownWorker(TaskSheetRow row) {
+        return row.workerEmail() != null && unknownEmails.contains(row.workerEmail());
+    }
+
+    /**
+     * 저장 완료된 업무 수를 누적합니다.
+     */
+    public void recordImported(int count) {
+        importedCount += count;
+    }
+
+    private int nextSequence(Long columnId) {
+        return lastSequenceByColumn.merge(columnId, 1, Integer::sum);
+    }
+
+    private LocalDate parseDeadline(String deadline) {
+        if (deadline == null || deadline.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(deadline, DEADLINE_FORMAT);
+        } catch (DateTimeParseException e) {
+            log.warn("마감일 파싱 실패: {}", deadline);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bizsync.backend.service.excel;
+
+/**
+ * 엑셀 업무 업로드 진행 상황을 전달받는 리스너
+ *
+ * @author BizSync Team
+ */
+public interface TaskImportListener {
+
+    /**
+     * 취소 요청 여부 (true면 다음 행을 읽기 전에 업로드를 중단)
+     */
+    boolean isCancelled();
+
+    /**
+     * 저장하지 못한 행을 전달합니다.
+     *
+     * @param row     실패한 엑셀 행
+     * @param message 실패 사유
+     */
+    void onRowError(TaskSheetRow row, String message);
+
+    /**
+     * 배치 하나가 커밋된 뒤 호출됩니다.
+     *
+     * @param processedRows 지금까지 읽은 행 수 (빈 행 제외)
+     * @param importedCount 지금까지 저장된 업무 수
+     */
+    void onBatchCommitted(int processedRows, int importedCount);
+}
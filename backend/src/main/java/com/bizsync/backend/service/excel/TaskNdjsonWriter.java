@@ -0,0 +1,56 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 업무 목록을 NDJSON(한 줄에 JSON 객체 하나)으로 쓰는 라이터
+ *
+ * <p>하나의 JsonGenerator로 행마다 객체를 직렬화하고 줄바꿈을 덧붙이므로,
+ * 받는 쪽도 한 줄씩 읽어 처리할 수 있습니다.
+ *
+ * @author BizSync Team
+ */
+public class TaskNdjsonWriter implements TaskExportWriter {
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    /**
+     * @param out          NDJSON을 쓸 출력 스트림 (닫지 않음)
+     * @param objectMapper 애플리케이션 ObjectMapper (날짜는 ISO 문자열로 직렬화)
+     */
+    public TaskNdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        // 행마다 소켓으로 flush되지 않도록 끄고, 행 구분은 루트 값 구분자(기본 공백) 대신 줄바꿈으로 직접 씀
+        this.objectWriter = objectMapper.writerFor(TaskExcelRowDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(TaskExcelRowDTO task) throws IOException {
+        objectWriter.writeValue(generator, task);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    /**
+     * 생성기만 닫고 대상 출력 스트림은 닫지 않습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
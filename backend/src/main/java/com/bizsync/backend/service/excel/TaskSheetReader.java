@@ -0,0 +1,153 @@
+package com.bizsync.backend.service.excel;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * 업무 업로드 엑셀을 SAX 이벤트 방식으로 읽는 리더
+ *
+ * <p>XSSFWorkbook처럼 시트 전체를 DOM으로 올리지 않고, OOXML 패키지의 첫 번째 시트를
+ * 한 행씩 파싱하여 {@link TaskSheetRow}로 전달합니다. 힙 사용량은 파일 크기와 무관하게
+ * 한 행 분량으로 유지됩니다 (공유 문자열 테이블 제외).
+ *
+ * @author BizSync Team
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskSheetReader {
+
+    private static final int COLUMN_NAME = 0;
+    private static final int TITLE = 1;
+    private static final int WORKER_EMAIL = 2;
+    private static final int DEADLINE = 3;
+    private static final int CONTENT = 4;
+
+    /**
+     * 첫 번째 시트의 데이터 행을 순서대로 읽어 consumer에 전달합니다.
+     *
+     * <p>첫 번째 행은 헤더로 간주하여 건너뜁니다.
+     *
+     * @param file     xlsx 파일
+     * @param consumer 행 처리기
+     * @throws IOException 파일이 올바른 xlsx 형식이 아니거나 읽기 오류가 발생한 경우
+     */
+    public static void read(File file, Consumer<TaskSheetRow> consumer) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("올바른 xlsx 파일이 아닙니다.", e);
+        }
+
+        try {
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader reader = new XSSFReader(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowHandler(consumer), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일 파싱 중 오류가 발생했습니다.", e);
+        } finally {
+            // 읽기 전용 패키지는 close() 대신 revert()로 닫아야 원본이 변경되지 않음
+            pkg.revert();
+        }
+    }
+
+    /**
+     * 셀 이벤트를 모아 한 행 단위의 {@link TaskSheetRow}로 변환
+     */
+    private static final class RowHandler implements SheetContentsHandler {
+
+        private final Consumer<TaskSheetRow> consumer;
+        private final String[] values = new String[CONTENT + 1];
+        private int currentRow;
+        private int nextColumn;
+
+        private RowHandler(Consumer<TaskSheetRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = rowNum;
+            nextColumn = 0;
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // 첫 번째 행은 헤더이므로 스킵
+            if (rowNum == 0) {
+                return;
+            }
+            consumer.accept(new TaskSheetRow(
+                    rowNum + 1,
+                    values[COLUMN_NAME],
+                    values[TITLE],
+                    values[WORKER_EMAIL],
+                    values[DEADLINE],
+                    values[CONTENT]
+            ));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null
+                    ? new CellReference(cellReference).getCol()
+                    : nextColumn;
+            nextColumn = column + 1;
+
+            if (column < values.length && formattedValue != null) {
+                String trimmed = formattedValue.trim();
+                values[column] = trimmed.isEmpty() ? null : trimmed;
+            }
+        }
+    }
+
+    /**
+     * 날짜 서식 셀을 셀 서식과 관계없이 yyyy-MM-dd로 변환하는 포매터
+     */
+    private static final class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
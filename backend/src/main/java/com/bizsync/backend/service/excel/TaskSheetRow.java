@@ -0,0 +1,27 @@
+package com.bizsync.backend.service.excel;
+
+/**
+ * 업무 업로드 엑셀의 한 행(헤더 제외)
+ *
+ * @param rowNumber   엑셀 행 번호 (1부터 시작, 헤더가 1행)
+ * @param columnName  칸반 컬럼 이름
+ * @param title       업무 제목
+ * @param workerEmail 담당자 이메일
+ * @param deadline    마감일 문자열 (yyyy-MM-dd)
+ * @param content     업무 상세 내용
+ */
+public record TaskSheetRow(
+        int rowNumber,
+        String columnName,
+        String title,
+        String workerEmail,
+        String deadline,
+        String content
+) {
+    /**
+     * 컬럼명이 비어 있는 행은 빈 행으로 취급
+     */
+    public boolean isBlank() {
+        return columnName == null || columnName.isBlank();
+    }
+}
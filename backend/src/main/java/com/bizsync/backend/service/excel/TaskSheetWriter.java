@@ -0,0 +1,126 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 업무 목록 엑셀 시트를 행 단위로 작성하는 라이터
+ *
+ * <p>SXSSF 윈도우 방식으로 작성하므로 업무 수와 관계없이 메모리에는 최근 {@value #ROW_ACCESS_WINDOW}행만
+ * 유지되고, 나머지는 압축된 임시 파일로 내려갑니다.
+ * 열 너비는 전체 셀을 측정하는 autoSizeColumn 대신 앞쪽 {@value #WIDTH_SAMPLE_ROWS}행의 글자 수로 정합니다.
+ *
+ * @author BizSync Team
+ */
+public class TaskSheetWriter implements TaskExportWriter {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int MAX_COLUMN_CHARS = 60;
+    private static final String[] HEADERS = {"컬럼명", "업무제목", "담당자(이메일)", "마감일", "상세내용"};
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+    private final OutputStream out;
+    private final Sheet sheet;
+    private final int[] sampledWidths = new int[HEADERS.length];
+    private int nextRow = 1;
+
+    /**
+     * @param out 워크북을 쓸 출력 스트림 (닫지 않음)
+     */
+    public TaskSheetWriter(OutputStream out) {
+        this.out = out;
+        workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet("Tasks");
+
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(headerStyle);
+            sampleWidth(i, HEADERS[i]);
+        }
+    }
+
+    /**
+     * 업무 한 건을 다음 행에 추가합니다.
+     *
+     * @param task 업무 엑셀 행
+     */
+    @Override
+    public void write(TaskExcelRowDTO task) {
+        String[] values = {
+                nullToEmpty(task.getColumnName()),
+                nullToEmpty(task.getTitle()),
+                task.getWorkerEmail() != null ? task.getWorkerEmail() : "미배정",
+                task.getDeadline() != null ? task.getDeadline().format(DEADLINE_FORMAT) : "",
+                nullToEmpty(task.getContent())
+        };
+
+        boolean sampling = nextRow <= WIDTH_SAMPLE_ROWS;
+        Row row = sheet.createRow(nextRow++);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+            if (sampling) {
+                sampleWidth(i, values[i]);
+            }
+        }
+    }
+
+    /**
+     * 샘플링한 열 너비를 적용하고 워크북을 출력 스트림에 씁니다.
+     *
+     * @throws IOException 쓰기 오류
+     */
+    @Override
+    public void finish() throws IOException {
+        for (int i = 0; i < HEADERS.length; i++) {
+            // 열 너비 단위는 글자 폭의 1/256, 여백으로 2글자 추가
+            sheet.setColumnWidth(i, (Math.min(sampledWidths[i], MAX_COLUMN_CHARS) + 2) * 256);
+        }
+        workbook.write(out);
+    }
+
+    /**
+     * 임시 파일을 포함한 워크북 자원을 해제합니다.
+     */
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void sampleWidth(int column, String value) {
+        sampledWidths[column] = Math.max(sampledWidths[column], displayWidth(value));
+    }
+
+    /**
+     * 한글 등 전각 문자는 2글자 폭으로 계산
+     */
+    private int displayWidth(String value) {
+        int width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            width += value.charAt(i) >= 0x1100 ? 2 : 1;
+        }
+        return width;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
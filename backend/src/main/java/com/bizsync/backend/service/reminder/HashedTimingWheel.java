@@ -0,0 +1,261 @@
+package com.bizsync.backend.service.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠 기반 지연 실행 스케줄러
+ *
+ * <p>고정 크기 원형 버킷 배열을 한 틱씩 돌면서, 현재 버킷에서 남은 회전 수가 0인 타이머만 실행합니다.
+ * 타이머는 만료 틱을 버킷 수로 나눈 나머지 위치의 이중 연결 리스트에 넣으므로
+ * 등록과 취소는 타이머 수와 관계없이 O(1)이고, 틱마다 버킷 하나만 확인합니다.
+ * 실행 시각은 최대 한 틱만큼 늦어질 수 있습니다.
+ *
+ * <p>틱 스레드는 만료된 작업을 직접 실행하지 않고 생성 시 받은 {@link Executor}에 넘기므로,
+ * 작업이 오래 걸려도 다음 틱이 밀리지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Executor executor;
+    private final Thread worker;
+    private final long startTime;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object lock = new Object();
+
+    /**
+     * 다음에 처리할 틱 (lock 보호)
+     */
+    private long tick;
+
+    private volatile boolean closed;
+
+    /**
+     * @param name          틱 스레드 이름
+     * @param tickDuration  틱 간격
+     * @param unit          틱 간격 단위
+     * @param ticksPerWheel 버킷 수 (2의 거듭제곱으로 올림)
+     * @param executor      만료된 작업을 실행할 실행기
+     */
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be in (0, 2^30]: " + ticksPerWheel);
+        }
+
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 지연 시간 뒤에 작업을 실행하도록 등록합니다.
+     *
+     * @param task  실행할 작업
+     * @param delay 지연 시간 (0 이하면 다음 틱에 실행)
+     * @param unit  지연 시간 단위
+     * @return 취소에 사용할 타이머
+     * @throws IllegalStateException 이미 종료된 경우
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (closed) {
+            throw new IllegalStateException("timing wheel is closed");
+        }
+
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(task);
+        synchronized (lock) {
+            long expireTick = Math.max(deadline / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) >> Integer.bitCount(mask);
+            wheel[(int) (expireTick & mask)].add(timeout);
+            pending.incrementAndGet();
+        }
+        return timeout;
+    }
+
+    /**
+     * 실행 대기 중인 타이머 수
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 틱 스레드를 멈춥니다. 실행 대기 중인 타이머는 실행하지 않고 버립니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        synchronized (lock) {
+            for (Bucket bucket : wheel) {
+                bucket.clear();
+            }
+            pending.set(0);
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            if (!waitForNextTick()) {
+                return;
+            }
+
+            List<Timeout> expired = new ArrayList<>();
+            synchronized (lock) {
+                wheel[(int) (tick & mask)].expire(expired);
+                pending.addAndGet(-expired.size());
+                tick++;
+            }
+
+            for (Timeout timeout : expired) {
+                try {
+                    executor.execute(timeout.task);
+                } catch (RuntimeException e) {
+                    log.error("타이머 작업 실행 요청 실패", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 틱이 끝나는 시각까지 대기합니다.
+     *
+     * @return 종료 요청으로 중단되었으면 false
+     */
+    private boolean waitForNextTick() {
+        long tickEnd;
+        synchronized (lock) {
+            tickEnd = (tick + 1) * tickNanos;
+        }
+        while (true) {
+            long remaining = tickEnd - (System.nanoTime() - startTime);
+            if (remaining <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                if (closed) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 등록된 타이머 1건
+     */
+    public final class Timeout {
+
+        private final Runnable task;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * 실행 전이면 버킷에서 제거합니다.
+         *
+         * @return 이번 호출로 취소되었으면 true (이미 실행되었거나 취소된 경우 false)
+         */
+        public boolean cancel() {
+            synchronized (lock) {
+                if (bucket == null) {
+                    return false;
+                }
+                bucket.remove(this);
+                pending.decrementAndGet();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 같은 위치에 놓인 타이머들의 이중 연결 리스트 (lock 보호)
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * 남은 회전 수가 0인 타이머를 꺼내고 나머지는 회전 수를 하나 줄입니다.
+         */
+        void expire(List<Timeout> expired) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    expired.add(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void clear() {
+            while (head != null) {
+                remove(head);
+            }
+        }
+    }
+}
@@ -16,7 +16,11 @@ CREATE TABLE IF NOT EXISTS users
     created_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_email (email),
-    INDEX idx_emp_no (emp_no)
+    INDEX idx_emp_no (emp_no),
+    INDEX idx_status_user (status, user_id),
+    INDEX idx_role_user (role, user_id),
+    INDEX idx_position_user (position, user_id),
+    INDEX idx_status_role_position_user (status, role, position, user_id)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
@@ -96,7 +100,8 @@ CREATE TABLE IF NOT EXISTS task
     FOREIGN KEY (column_id) REFERENCES kanban_column (column_id) ON DELETE CASCADE,
     FOREIGN KEY (worker_id) REFERENCES users (user_id) ON DELETE SET NULL,
     INDEX idx_column_id (column_id),
-    INDEX idx_worker_id (worker_id),
+    INDEX idx_worker_deadline (worker_id, deadline), -- 내 업무 목록 (마감일 순 키셋 페이지네이션)
+    INDEX idx_deadline (deadline),                   -- 마감 알림 대상 적재 (마감일 범위)
     INDEX idx_sequence (column_id, sequence)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
@@ -114,15 +119,19 @@ CREATE TABLE IF NOT EXISTS approval_document
     status       VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
     amount       DECIMAL(19, 2),
     completed_at DATETIME,
+    current_sequence    INT,
+    current_approver_id BIGINT,
     created_at   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     created_by   BIGINT,
     updated_by   BIGINT,
     FOREIGN KEY (drafter_id) REFERENCES users (user_id) ON DELETE CASCADE,
     FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE SET NULL,
-    INDEX idx_drafter_id (drafter_id),
+    INDEX idx_drafter_created (drafter_id, created_at),
     INDEX idx_project_id (project_id),
-    INDEX idx_status (status)
+    INDEX idx_status (status),
+    INDEX idx_current_approver (current_approver_id),
+    INDEX idx_created_at (created_at)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
@@ -142,7 +151,7 @@ CREATE TABLE IF NOT EXISTS approval_line
     FOREIGN KEY (document_id) REFERENCES approval_document (document_id) ON DELETE CASCADE,
     FOREIGN KEY (approver_id) REFERENCES users (user_id) ON DELETE CASCADE,
     INDEX idx_document_id (document_id),
-    INDEX idx_approver_id (approver_id),
+    INDEX idx_approver_status (approver_id, status),
     INDEX idx_sequence (document_id, sequence)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
@@ -164,3 +173,117 @@ CREATE TABLE IF NOT EXISTS chat_message
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
+
+-- 관리자 지표 일별 스냅샷 테이블 (하루 1행, append-only)
+CREATE TABLE IF NOT EXISTS daily_metric_snapshot
+(
+    metric_date          DATE     NOT NULL PRIMARY KEY,
+    total_users          BIGINT   NOT NULL,
+    active_users         BIGINT   NOT NULL,
+    pending_users        BIGINT   NOT NULL,
+    total_projects       BIGINT   NOT NULL,
+    planning_projects    BIGINT   NOT NULL,
+    in_progress_projects BIGINT   NOT NULL,
+    completed_projects   BIGINT   NOT NULL,
+    on_hold_projects     BIGINT   NOT NULL,
+    cancelled_projects   BIGINT   NOT NULL,
+    total_tasks          BIGINT   NOT NULL,
+    total_approvals      BIGINT   NOT NULL,
+    new_approvals        BIGINT   NOT NULL DEFAULT 0,
+    recorded_at          DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 프로젝트 진행 현황 요약 테이블 (칸반 변경 시 증감 반영, 주기적 재집계)
+CREATE TABLE IF NOT EXISTS project_stats
+(
+    project_id        BIGINT   NOT NULL PRIMARY KEY,
+    todo_tasks        BIGINT   NOT NULL DEFAULT 0,
+    in_progress_tasks BIGINT   NOT NULL DEFAULT 0,
+    done_tasks        BIGINT   NOT NULL DEFAULT 0,
+    unassigned_tasks  BIGINT   NOT NULL DEFAULT 0,
+    overdue_tasks     BIGINT   NOT NULL DEFAULT 0,
+    updated_at        DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 예산 원장 테이블 (추가 전용, 사용은 양수 / 환급은 음수)
+CREATE TABLE IF NOT EXISTS budget_ledger
+(
+    entry_id    BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id  BIGINT         NOT NULL,
+    document_id BIGINT,
+    entry_type  VARCHAR(20)    NOT NULL,
+    amount      DECIMAL(19, 2) NOT NULL,
+    memo        VARCHAR(255),
+    created_at  DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by  BIGINT,
+    FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE,
+    INDEX idx_budget_ledger_project (project_id, entry_id), -- 원장 조회 (최신순 키셋), 체크포인트 이후 꼬리 합계
+    INDEX idx_budget_ledger_created (created_at)            -- 압축 경계 (최근 항목)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 예산 원장 체크포인트 테이블 (last_entry_id까지의 원장 합계)
+CREATE TABLE IF NOT EXISTS budget_checkpoint
+(
+    project_id    BIGINT PRIMARY KEY,
+    last_entry_id BIGINT         NOT NULL,
+    used_amount   DECIMAL(19, 2) NOT NULL,
+    entry_count   BIGINT         NOT NULL DEFAULT 0, -- 합친 항목 수 (늦게 커밋된 항목 점검용)
+    compacted_at  DATETIME       NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES project (project_id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 알림함 테이블 (배치 INSERT, 사용자별 최신순 키셋 페이지네이션)
+CREATE TABLE IF NOT EXISTS notification
+(
+    notification_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id         BIGINT       NOT NULL,
+    type            VARCHAR(20)  NOT NULL,
+    message         VARCHAR(500) NOT NULL,
+    target_id       BIGINT,
+    merged_count    INT          NOT NULL DEFAULT 1,
+    is_read         BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE,
+    INDEX idx_notification_user (user_id, notification_id), -- 알림함 (최신순 키셋 페이지네이션)
+    INDEX idx_notification_unread (user_id, is_read)        -- 안 읽은 알림 수
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- =====================================================================
+-- 기존 데이터 이관 (이미 운영 중인 DB에 적용, 여러 번 실행해도 결과가 같음)
+-- =====================================================================
+
+-- 원장 도입 전 사용 예산을 프로젝트당 보정 항목 하나로 이월 (원장 항목이 하나도 없는 프로젝트만)
+INSERT INTO budget_ledger (project_id, entry_type, amount, memo, created_at)
+SELECT p.project_id, 'ADJUSTMENT', p.used_budget, '원장 도입 전 사용 예산 이월', NOW()
+FROM project p
+WHERE p.used_budget <> 0
+  AND NOT EXISTS (SELECT 1 FROM budget_ledger l WHERE l.project_id = p.project_id);
+
+-- 결재 문서의 현재 결재 차례 컬럼 추가 후, 진행 중인 문서마다 PENDING 결재선 중 가장 앞 순서로 채움
+ALTER TABLE approval_document
+    ADD COLUMN IF NOT EXISTS current_sequence INT,
+    ADD COLUMN IF NOT EXISTS current_approver_id BIGINT;
+CREATE INDEX IF NOT EXISTS idx_current_approver ON approval_document (current_approver_id);
+
+UPDATE approval_document d
+    JOIN approval_line l ON l.document_id = d.document_id
+SET d.current_sequence    = l.sequence,
+    d.current_approver_id = l.approver_id
+WHERE d.status = 'PENDING'
+  AND d.current_approver_id IS NULL
+  AND l.status = 'PENDING'
+  AND l.sequence = (SELECT MIN(p.sequence)
+                    FROM approval_line p
+                    WHERE p.document_id = d.document_id
+                      AND p.status = 'PENDING');
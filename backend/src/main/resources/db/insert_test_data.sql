@@ -9,6 +9,8 @@ TRUNCATE TABLE approval_document;
 TRUNCATE TABLE task;
 TRUNCATE TABLE kanban_column;
 TRUNCATE TABLE project_member;
+TRUNCATE TABLE budget_checkpoint;
+TRUNCATE TABLE budget_ledger;
 TRUNCATE TABLE project;
 TRUNCATE TABLE users;
 SET FOREIGN_KEY_CHECKS = 1;
@@ -45,6 +47,13 @@ VALUES
     ('시스템 리팩토링', '레거시 시스템 개선 및 리팩토링', '2025-01-15', '2025-05-31', 20000000.00, 8000000.00, 'IN_PROGRESS', NOW(), NOW(), @user_manager2, @user_manager2),
     ('완료된 프로젝트 예시', '이미 완료된 프로젝트 샘플', '2024-06-01', '2024-12-31', 40000000.00, 40000000.00, 'COMPLETED', NOW(), NOW(), @user_manager1, @user_manager1);
 
+-- 위 프로젝트의 사용 예산을 보정 항목으로 이월 (create.sql의 기존 데이터 이관과 같은 문장)
+INSERT INTO budget_ledger (project_id, entry_type, amount, memo, created_at)
+SELECT p.project_id, 'ADJUSTMENT', p.used_budget, '원장 도입 전 사용 예산 이월', NOW()
+FROM project p
+WHERE p.used_budget <> 0
+  AND NOT EXISTS (SELECT 1 FROM budget_ledger l WHERE l.project_id = p.project_id);
+
 -- 프로젝트 ID를 변수에 저장
 SET @project1 = (SELECT project_id FROM project WHERE name = 'BizSync 웹 애플리케이션 개발');
 SET @project2 = (SELECT project_id FROM project WHERE name = '모바일 앱 개발 프로젝트');
@@ -144,6 +153,17 @@ VALUES
     (@doc5, @user_member5, 1, 'PENDING', NULL, NULL, NOW(), NOW()),
     (@doc5, @user_manager1, 2, 'PENDING', NULL, NULL, NOW(), NOW());
 
+-- 진행 중인 문서의 현재 결재 차례 (PENDING 결재선 중 가장 앞 순서, create.sql의 기존 데이터 이관과 같은 기준)
+UPDATE approval_document d
+    JOIN approval_line l ON l.document_id = d.document_id
+SET d.current_sequence    = l.sequence,
+    d.current_approver_id = l.approver_id
+WHERE d.status = 'PENDING'
+  AND l.sequence = (SELECT MIN(p.sequence)
+                    FROM approval_line p
+                    WHERE p.document_id = d.document_id
+                      AND p.status = 'PENDING');
+
 -- 채팅 메시지 데이터
 INSERT INTO chat_message (room_id, sender_id, content, message_type, sent_at)
 VALUES
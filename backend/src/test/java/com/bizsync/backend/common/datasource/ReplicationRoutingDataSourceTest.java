@@ -0,0 +1,153 @@
+package com.bizsync.backend.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 DB 2개(기본/복제본)로 읽기/쓰기 분리 라우팅을 검증
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = database(DataSourceRoute.PRIMARY);
+        replica = database(DataSourceRoute.REPLICA);
+        meterRegistry = new SimpleMeterRegistry();
+        readYourWritesTracker = new ReadYourWritesTracker(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 기본 DB, 읽기 전용 트랜잭션은 복제본에서 실행한다")
+    void routesByReadOnlyFlag() {
+        route(availableMonitor());
+
+        assertThat(routeOf(false)).isEqualTo("PRIMARY");
+        assertThat(routeOf(true)).isEqualTo("REPLICA");
+        assertThat(count("read_only")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘었거나 복제가 멈췄거나 아직 확인 전이면 읽기 전용 트랜잭션도 기본 DB에서 실행한다")
+    void replicaLagFallsBackToPrimary() {
+        ReplicaLagMonitor unchecked = new ReplicaLagMonitor(replica, "SELECT 0", 2);
+        route(unchecked);
+        assertThat(routeOf(true)).isEqualTo("PRIMARY");
+
+        for (String lagQuery : List.of("SELECT 10", "SELECT CAST(NULL AS BIGINT)")) {
+            ReplicaLagMonitor lagging = new ReplicaLagMonitor(replica, lagQuery, 2);
+            lagging.check();
+            assertThat(lagging.isAvailable()).isFalse();
+        }
+
+        unchecked.check();
+        assertThat(routeOf(true)).isEqualTo("REPLICA");
+        assertThat(count("replica_lag")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 고정 시간 동안 기본 DB에서, 다른 사용자의 읽기는 복제본에서 실행한다")
+    void readYourWritesAfterCommit() {
+        route(availableMonitor());
+
+        authenticate(7L);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE db_route SET updated = TRUE"));
+        assertThat(routeOf(true)).isEqualTo("PRIMARY");
+
+        authenticate(8L);
+        assertThat(routeOf(true)).isEqualTo("REPLICA");
+        assertThat(count("recent_write")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기 트랜잭션은 읽기를 기본 DB로 고정하지 않는다")
+    void rolledBackWriteIsNotSticky() {
+        route(availableMonitor());
+
+        authenticate(7L);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE db_route SET updated = TRUE");
+            status.setRollbackOnly();
+        });
+
+        assertThat(routeOf(true)).isEqualTo("REPLICA");
+        assertThat(readYourWritesTracker.size()).isZero();
+    }
+
+    private ReplicaLagMonitor availableMonitor() {
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, "SELECT 0", 2);
+        lagMonitor.check();
+        return lagMonitor;
+    }
+
+    private void route(ReplicaLagMonitor lagMonitor) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(lagMonitor, readYourWritesTracker, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primary,
+                DataSourceRoute.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private String routeOf(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_route", String.class));
+    }
+
+    private double count(String reason) {
+        return meterRegistry.get("bizsync.datasource.route").tag("reason", reason).counter().count();
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(String.valueOf(userId), null, List.of()));
+    }
+
+    private EmbeddedDatabase database(DataSourceRoute route) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE db_route (name VARCHAR(20), updated BOOLEAN DEFAULT FALSE)");
+        template.update("INSERT INTO db_route (name) VALUES (?)", route.name());
+        return database;
+    }
+}
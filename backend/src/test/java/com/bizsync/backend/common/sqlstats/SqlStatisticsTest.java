@@ -0,0 +1,77 @@
+package com.bizsync.backend.common.sqlstats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL 지문 정규화와 지문별/요청별 집계 검증
+ */
+class SqlStatisticsTest {
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이만 다른 쿼리는 같은 지문으로 묶인다")
+    void fingerprintIgnoresLiteralsAndListLength() {
+        assertThat(SqlFingerprint.of("SELECT * FROM task WHERE title = 'it''s' AND id = 42 /* hint */ LIMIT 10"))
+                .isEqualTo("select * from task where title = ? and id = ? limit ?");
+        assertThat(SqlFingerprint.of("select u1_0.user_id from users u1_0 where u1_0.user_id in (?,?,?)"))
+                .isEqualTo(SqlFingerprint.of("select u1_0.user_id from users u1_0 where u1_0.user_id in (?)"));
+        assertThat(SqlFingerprint.of("insert into t (a, b) values (?, ?), (?, ?)"))
+                .isEqualTo("insert into t (a, b) values (?, ?)");
+    }
+
+    @Test
+    @DisplayName("지문별로 실행 횟수와 시간을 모으고 총 시간이 긴 순서로 조회한다")
+    void aggregatesByFingerprint() {
+        SqlStatistics statistics = new SqlStatistics(100);
+
+        statistics.statementExecuted("select * from task where id = 1", 2_000_000);
+        statistics.statementExecuted("select * from task where id = 2", 4_000_000);
+        statistics.statementExecuted("select * from users where user_id = ?", 1_000_000);
+
+        List<SqlStatistics.FingerprintSummary> top = statistics.top(10);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).fingerprint()).isEqualTo("select * from task where id = ?");
+        assertThat(top.get(0).count()).isEqualTo(2);
+        assertThat(top.get(0).totalMillis()).isEqualTo(6.0);
+        assertThat(top.get(0).meanMillis()).isEqualTo(3.0);
+        assertThat(top.get(0).maxMillis()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("지문 수가 한도에 차면 새 지문은 하나로 합친다")
+    void overflowFingerprintsAreMerged() {
+        SqlStatistics statistics = new SqlStatistics(1);
+
+        statistics.statementExecuted("select * from task", 1_000_000);
+        statistics.statementExecuted("select * from users", 1_000_000);
+        statistics.statementExecuted("select * from project", 1_000_000);
+
+        assertThat(statistics.top(10))
+                .extracting(SqlStatistics.FingerprintSummary::fingerprint)
+                .containsExactlyInAnyOrder("select * from task", SqlStatistics.OVERFLOW_FINGERPRINT);
+    }
+
+    @Test
+    @DisplayName("요청 집계는 시작한 스레드의 문장만 센다")
+    void requestTotalsAreThreadBound() throws InterruptedException {
+        SqlStatistics statistics = new SqlStatistics(100);
+        statistics.statementExecuted("select 1", 1_000_000);
+
+        statistics.beginRequest();
+        statistics.statementExecuted("select * from task", 1_500_000);
+        Thread other = new Thread(() -> statistics.statementExecuted("select * from users", 5_000_000));
+        other.start();
+        other.join();
+        statistics.statementExecuted("select * from task", 500_000);
+        SqlStatistics.RequestTotals totals = statistics.endRequest();
+
+        assertThat(totals.getStatements()).isEqualTo(2);
+        assertThat(totals.getElapsedNanos()).isEqualTo(2_000_000);
+        assertThat(totals.toHeaderValue()).isEqualTo("statements=2; time=2.000ms");
+        assertThat(statistics.currentRequest()).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package com.bizsync.backend.common.sqlstats;
+
+import com.bizsync.backend.dto.request.LoginRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code app.sql-stats.*} 설정에 따른 X-SQL-Stats 응답 헤더 검증
+ *
+ * <p>설정마다 컨텍스트가 달라지므로 각 중첩 클래스가 자기 컨텍스트의 MockMvc를 주입받습니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class SqlStatsHeaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${admin.email}")
+    private String adminEmail;
+
+    @Value("${admin.password}")
+    private String adminPassword;
+
+    @Nested
+    class DebugHeaderUnset {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("debug-header를 설정하지 않으면 헤더를 보내지 않는다")
+        void headerAbsent() throws Exception {
+            login(mockMvc).andExpect(header().doesNotExist(SqlStatsHeaderAdvice.HEADER_NAME));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.sql-stats.debug-header=true")
+    class DebugHeaderEnabled {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("debug-header를 켜면 응답 본문 전까지의 SQL 수와 시간을 헤더로 보낸다")
+        void headerPresent() throws Exception {
+            login(mockMvc).andExpect(header().string(SqlStatsHeaderAdvice.HEADER_NAME,
+                    matchesPattern("statements=\\d+; time=\\d+\\.\\d{3}ms")));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"app.sql-stats.enabled=false", "app.sql-stats.debug-header=true"})
+    class StatsDisabled {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("계측을 끄면 debug-header와 관계없이 헤더를 보내지 않는다")
+        void headerAbsent() throws Exception {
+            login(mockMvc).andExpect(header().doesNotExist(SqlStatsHeaderAdvice.HEADER_NAME));
+        }
+    }
+
+    private ResultActions login(MockMvc mockMvc) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequestDTO(adminEmail, adminPassword))))
+                .andExpect(status().isOk());
+    }
+}
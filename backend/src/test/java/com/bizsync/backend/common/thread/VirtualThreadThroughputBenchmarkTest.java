@@ -0,0 +1,152 @@
+package com.bizsync.backend.common.thread;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드의 처리량(req/sec)과 p99 지연 비교 (커넥션 풀 크기별)
+ *
+ * <p>요청 하나는 DB 밖 I/O(인증, 외부 호출 등)를 기다린 뒤 커넥션을 빌려 조회하고, DB 왕복 지연만큼 커넥션을 쥐고 있다가 반납합니다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ *
+ * <ul>
+ *   <li>platform: Tomcat 기본값과 같은 200개 고정 스레드 풀</li>
+ *   <li>virtual: 요청마다 가상 스레드</li>
+ *   <li>virtual-pinned: 가상 스레드지만 synchronized 안에서 DB를 기다려 캐리어 스레드에 고정되는 경우</li>
+ * </ul>
+ */
+@Tag("benchmark")
+class VirtualThreadThroughputBenchmarkTest {
+
+    private static final int REQUESTS = 5_000;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int[] POOL_SIZES = {10, 20, 50};
+    private static final long OUTSIDE_DB_MILLIS = 5;
+    private static final long DB_ROUND_TRIP_MILLIS = 2;
+
+    @Test
+    void compareThreadModels() throws Exception {
+        System.out.printf("%-15s %6s %12s %10s %10s %10s%n", "mode", "pool", "req/sec", "p50(ms)", "p99(ms)", "max(ms)");
+        for (int poolSize : POOL_SIZES) {
+            try (HikariDataSource dataSource = dataSource(poolSize)) {
+                for (Mode mode : Mode.values()) {
+                    run(mode, dataSource, WARMUP_REQUESTS);
+                    Result result = run(mode, dataSource, REQUESTS);
+                    System.out.printf("%-15s %6d %12.0f %10.1f %10.1f %10.1f%n", mode.label, poolSize,
+                            result.throughput(), result.percentile(0.50), result.percentile(0.99),
+                            result.percentile(1.0));
+                }
+            }
+        }
+    }
+
+    private Result run(Mode mode, HikariDataSource dataSource, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = mode.newExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                long submittedAt = System.nanoTime();
+                executor.execute(() -> {
+                    try {
+                        handleRequest(mode, dataSource);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - submittedAt;
+                        done.countDown();
+                    }
+                });
+            }
+            done.await(5, TimeUnit.MINUTES);
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        if (failures.get() > 0) {
+            System.out.printf("  %s: %d건 실패%n", mode.label, failures.get());
+        }
+        return new Result(latencies, wallNanos);
+    }
+
+    private void handleRequest(Mode mode, HikariDataSource dataSource) throws Exception {
+        Thread.sleep(OUTSIDE_DB_MILLIS);
+        if (mode == Mode.VIRTUAL_PINNED) {
+            Object monitor = new Object();
+            synchronized (monitor) {
+                query(dataSource);
+            }
+        } else {
+            query(dataSource);
+        }
+    }
+
+    private void query(HikariDataSource dataSource) throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            // 네트워크 너머 DB의 왕복 지연만큼 커넥션을 쥐고 기다림
+            Thread.sleep(DB_ROUND_TRIP_MILLIS);
+        }
+    }
+
+    private HikariDataSource dataSource(int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:virtual-thread-benchmark-" + poolSize + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        config.setPoolName("benchmark-" + poolSize);
+        return new HikariDataSource(config);
+    }
+
+    private enum Mode {
+        PLATFORM("platform"),
+        VIRTUAL("virtual"),
+        VIRTUAL_PINNED("virtual-pinned");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+
+        ExecutorService newExecutor() {
+            return this == PLATFORM
+                    ? Executors.newFixedThreadPool(PLATFORM_THREADS)
+                    : Executors.newVirtualThreadPerTaskExecutor();
+        }
+    }
+
+    private record Result(long[] latencies, long wallNanos) {
+
+        double throughput() {
+            return latencies.length / (wallNanos / 1e9);
+        }
+
+        double percentile(double p) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,877 @@
+package com.bizsync.backend.controller;
+
+import com.bizsync.backend.common.util.JwtProvider;
+import com.bizsync.backend.domain.entity.*;
+import com.bizsync.backend.domain.repository.*;
+import com.bizsync.backend.dto.request.*;
+import com.bizsync.backend.service.ApprovalService;
+import com.bizsync.backend.service.ChatService;
+import com.bizsync.backend.service.ExcelImportJobService;
+import com.bizsync.backend.service.ExcelService;
+import com.bizsync.backend.service.excel.TaskExportFormat;
+import com.bizsync.backend.support.querycount.QueryCount;
+import com.bizsync.backend.support.querycount.QueryCountConfiguration;
+import com.bizsync.backend.support.querycount.QueryCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러 엔드포인트별 SQL 문 예산 검증 (N+1 회귀 방지)
+ *
+ * <p>내장 H2(embedded 프로필)에서 실제 JWT로 요청을 보내고, 인증 필터부터 커밋 후 리스너까지
+ * 요청 스레드에서 실행된 문장 수를 셉니다. 목록마다 {@value #MEMBERS}건 이상을 넣어 두므로
+ * 행마다 지연 로딩이 일어나면 예산을 넘습니다. 2차 캐시는 측정 직전에 비워 캐시 적중 여부와 관계없이 같은 값을 봅니다.
+ *
+ * <p>예산은 인증 필터의 사용자 조회 1회를 포함합니다. 아웃박스 전달, 엑셀 업로드 처리, 파일 다운로드 스트리밍처럼
+ * 다른 스레드에서 실행되는 부분은 요청 예산에 들어가지 않으며, 필요한 경우 서비스 호출을 따로 측정합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+@Import(QueryCountConfiguration.class)
+class EndpointQueryBudgetTest {
+
+    private static final int MEMBERS = 6;
+    private static final int TASKS = 8;
+    private static final int MESSAGES = 10;
+    private static final int NOTIFICATIONS = 8;
+    private static final int LEDGER_ENTRIES = 8;
+    private static final String PASSWORD = "password1!";
+
+    private static String encodedPassword;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private KanbanColumnRepository kanbanColumnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private BudgetLedgerRepository budgetLedgerRepository;
+
+    @Autowired
+    private DailyMetricSnapshotRepository dailyMetricSnapshotRepository;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ExcelService excelService;
+
+    @Autowired
+    private ExcelImportJobService excelImportJobService;
+
+    private String suffix;
+    private User admin;
+    private User leader;
+    private List<User> members;
+    private User outsider;
+    private User pendingUser;
+    private Project project;
+    private KanbanColumn todoColumn;
+    private KanbanColumn doingColumn;
+    private KanbanColumn emptyColumn;
+    private List<Task> tasks;
+    private Long leaderDraftId;
+    private List<Long> pendingDocumentIds;
+    private List<Notification> notifications;
+
+    @BeforeEach
+    void setUp() {
+        if (encodedPassword == null) {
+            encodedPassword = passwordEncoder.encode(PASSWORD);
+        }
+        suffix = String.valueOf(System.nanoTime());
+
+        admin = userRepository.save(user("admin", Role.ADMIN, AccountStatus.ACTIVE));
+        leader = userRepository.save(user("leader", Role.MEMBER, AccountStatus.ACTIVE));
+        outsider = userRepository.save(user("outsider", Role.MEMBER, AccountStatus.ACTIVE));
+        pendingUser = userRepository.save(user("pending", Role.MEMBER, AccountStatus.PENDING));
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(userRepository.save(user("member" + i, Role.MEMBER, AccountStatus.ACTIVE)));
+        }
+
+        project = projectRepository.save(Project.builder()
+                .name("쿼리 예산 " + suffix)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .totalBudget(new BigDecimal("1000000"))
+                .build());
+        projectMemberRepository.save(member(leader, ProjectMember.Role.PL));
+        members.forEach(member -> projectMemberRepository.save(member(member, ProjectMember.Role.DEV)));
+
+        todoColumn = kanbanColumnRepository.save(column("할 일", 1, ColumnType.TODO));
+        doingColumn = kanbanColumnRepository.save(column("진행 중", 2, ColumnType.IN_PROGRESS));
+        kanbanColumnRepository.save(column("완료", 3, ColumnType.DONE));
+        emptyColumn = kanbanColumnRepository.save(column("보류", 4, ColumnType.TODO));
+
+        // 담당자를 돌아가며 지정해 업무마다 다른 사용자를 참조하게 함 (리더에게도 여러 건 배정)
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            User worker = i % 2 == 0 ? leader : members.get(i % MEMBERS);
+            tasks.add(taskRepository.save(Task.builder()
+                    .column(i < TASKS / 2 ? todoColumn : doingColumn)
+                    .worker(worker)
+                    .title("업무 " + i)
+                    .content("내용")
+                    .deadline(LocalDate.now().plusDays(i + 1))
+                    .sequence(i + 1)
+                    .build()));
+        }
+
+        // 리더가 기안하고 멤버 전원이 결재선에 있는 문서 1건 + 멤버마다 리더가 1차 결재자인 문서 1건씩
+        List<Long> memberIds = members.stream().map(User::getUserId).toList();
+        leaderDraftId = approvalService.createApproval(leader.getUserId(), new ApprovalCreateRequestDTO(
+                project.getProjectId(), ApprovalType.LEAVE, null, "리더 기안 " + suffix, "내용", memberIds));
+        pendingDocumentIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            User drafter = members.get(i);
+            User secondApprover = members.get((i + 1) % MEMBERS);
+            pendingDocumentIds.add(approvalService.createApproval(drafter.getUserId(), new ApprovalCreateRequestDTO(
+                    project.getProjectId(), ApprovalType.LEAVE, null, "멤버 기안 " + i, "내용",
+                    List.of(leader.getUserId(), secondApprover.getUserId()))));
+        }
+
+        for (int i = 0; i < MESSAGES; i++) {
+            User sender = i % 3 == 0 ? leader : members.get(i % MEMBERS);
+            chatMessageRepository.save(ChatMessage.builder()
+                    .roomId(project.getProjectId())
+                    .sender(sender)
+                    .content("메시지 " + i)
+                    .build());
+        }
+
+        notifications = new ArrayList<>();
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            notifications.add(notificationRepository.save(Notification.builder()
+                    .userId(leader.getUserId())
+                    .type("APPROVAL")
+                    .message("알림 " + i)
+                    .targetId((long) i)
+                    .mergedCount(1)
+                    .createdAt(LocalDateTime.now())
+                    .build()));
+        }
+
+        for (int i = 0; i < LEDGER_ENTRIES; i++) {
+            budgetLedgerRepository.save(BudgetLedgerEntry.builder()
+                    .projectId(project.getProjectId())
+                    .entryType(BudgetEntryType.EXPENSE)
+                    .amount(new BigDecimal("1000"))
+                    .createdAt(LocalDateTime.now())
+                    .createdBy(members.get(i % MEMBERS).getUserId())
+                    .build());
+        }
+    }
+
+    // ===== 인증 =====
+
+    @Test
+    @DisplayName("POST /api/auth/signup")
+    void signUp() throws Exception {
+        SignumRequestDTO dto = new SignumRequestDTO("new" + suffix + "@bizsync.com", PASSWORD, "신규", "E" + suffix, "개발팀");
+
+        perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(json(dto)), null)
+                .assertSelectsAtMost(4)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login")
+    void login() throws Exception {
+        LoginRequestDTO dto = new LoginRequestDTO(leader.getEmail(), PASSWORD);
+
+        perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(json(dto)), null)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/refresh")
+    void refresh() throws Exception {
+        RefreshTokenRequest dto = new RefreshTokenRequest(jwtProvider.createRefreshToken(leader.getUserId()));
+
+        perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(json(dto)), null)
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/change-password")
+    void changePassword() throws Exception {
+        PasswordChangeRequestDTO dto = new PasswordChangeRequestDTO(PASSWORD, "newPassword1!");
+
+        perform(post("/api/auth/change-password").contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(2)
+                .assertTotalAtMost(3);
+    }
+
+    // ===== 관리자 대시보드 =====
+
+    @Test
+    @DisplayName("GET /api/admin/dashboard")
+    void adminDashboard() throws Exception {
+        perform(get("/api/admin/dashboard"), admin)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/dashboard/metrics")
+    void adminMetrics() throws Exception {
+        LocalDate end = LocalDate.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            LocalDate metricDate = end.minusDays(i);
+            if (!dailyMetricSnapshotRepository.existsById(metricDate)) {
+                dailyMetricSnapshotRepository.save(DailyMetricSnapshot.builder()
+                        .metricDate(metricDate)
+                        .recordedAt(LocalDateTime.now())
+                        .build());
+            }
+        }
+
+        perform(get("/api/admin/dashboard/metrics").param("from", end.minusDays(4).toString()), admin)
+                .assertTotalAtMost(2);
+    }
+
+    // ===== 관리자 사용자 관리 =====
+
+    @Test
+    @DisplayName("GET /api/admin/users")
+    void adminUserList() throws Exception {
+        perform(get("/api/admin/users").param("size", "10"), admin)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/users/cursor")
+    void adminUserPage() throws Exception {
+        perform(get("/api/admin/users/cursor").param("size", "10"), admin)
+                .assertTotalAtMost(7);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/users/{userId}")
+    void adminUserDetail() throws Exception {
+        perform(get("/api/admin/users/{userId}", leader.getUserId()), admin)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/approve")
+    void adminApproveUser() throws Exception {
+        perform(patch("/api/admin/users/{userId}/approve", pendingUser.getUserId()), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/reject")
+    void adminRejectUser() throws Exception {
+        perform(patch("/api/admin/users/{userId}/reject", pendingUser.getUserId()), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/suspend")
+    void adminSuspendUser() throws Exception {
+        perform(patch("/api/admin/users/{userId}/suspend", outsider.getUserId()), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/activate")
+    void adminActivateUser() throws Exception {
+        perform(patch("/api/admin/users/{userId}/activate", pendingUser.getUserId()), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/role")
+    void adminChangeRole() throws Exception {
+        UserRoleUpdateRequestDTO dto = new UserRoleUpdateRequestDTO(Role.ADMIN);
+
+        perform(patch("/api/admin/users/{userId}/role", outsider.getUserId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/position")
+    void adminChangePosition() throws Exception {
+        UserPositionUpdateRequestDTO dto = new UserPositionUpdateRequestDTO(Position.SENIOR);
+
+        perform(patch("/api/admin/users/{userId}/position", outsider.getUserId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/admin/users/{userId}/reset-password")
+    void adminResetPassword() throws Exception {
+        PasswordResetRequestDTO dto = new PasswordResetRequestDTO("resetPassword1!");
+
+        perform(patch("/api/admin/users/{userId}/reset-password", outsider.getUserId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), admin)
+                .assertSelectsAtMost(2)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/admin/users/{userId}")
+    void adminDeleteUser() throws Exception {
+        perform(delete("/api/admin/users/{userId}", outsider.getUserId()), admin)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/users/statistics")
+    void adminUserStatistics() throws Exception {
+        perform(get("/api/admin/users/statistics"), admin)
+                .assertTotalAtMost(5);
+    }
+
+    // ===== 결재 =====
+
+    @Test
+    @DisplayName("POST /api/approvals")
+    void createApproval() throws Exception {
+        ApprovalCreateRequestDTO dto = new ApprovalCreateRequestDTO(project.getProjectId(), ApprovalType.LEAVE, null,
+                "새 기안", "내용", members.stream().map(User::getUserId).toList());
+
+        perform(post("/api/approvals").contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(7);
+    }
+
+    @Test
+    @DisplayName("POST /api/approvals/{documentId}/cancel")
+    void cancelApproval() throws Exception {
+        perform(post("/api/approvals/{documentId}/cancel", leaderDraftId), leader)
+                .assertSelectsAtMost(3)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("POST /api/approvals/{documentId}/process")
+    void processApproval() throws Exception {
+        ApprovalProcessRequestDTO dto = new ApprovalProcessRequestDTO(ApprovalStatus.APPROVED, "승인");
+
+        perform(post("/api/approvals/{documentId}/process", pendingDocumentIds.get(0))
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(7);
+    }
+
+    @Test
+    @DisplayName("POST /api/approvals/bulk-process (기안자가 모두 다른 문서 일괄 반려)")
+    void bulkProcessApprovals() throws Exception {
+        ApprovalBulkProcessRequestDTO dto = new ApprovalBulkProcessRequestDTO(
+                pendingDocumentIds, ApprovalStatus.REJECTED, "일괄 반려");
+
+        perform(post("/api/approvals/bulk-process").contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(7);
+    }
+
+    @Test
+    @DisplayName("GET /api/approvals/{documentId} (결재자 " + MEMBERS + "명)")
+    void approvalDetail() throws Exception {
+        perform(get("/api/approvals/{documentId}", leaderDraftId), leader)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("GET /api/approvals/my-drafts")
+    void myDrafts() throws Exception {
+        perform(get("/api/approvals/my-drafts"), leader)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("GET /api/approvals/my-pending")
+    void myPending() throws Exception {
+        perform(get("/api/approvals/my-pending"), leader)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("GET /api/approvals/my-completed")
+    void myCompleted() throws Exception {
+        perform(get("/api/approvals/my-completed"), leader)
+                .assertTotalAtMost(3);
+    }
+
+    // ===== 채팅 =====
+
+    @Test
+    @DisplayName("GET /api/chat/rooms")
+    void chatRooms() throws Exception {
+        perform(get("/api/chat/rooms"), leader)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/chat/room/{roomId}/messages (보낸 사람 여러 명)")
+    void chatMessages() throws Exception {
+        perform(get("/api/chat/room/{roomId}/messages", project.getProjectId()), leader)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("GET /api/chat/room/{roomId}/messages?before= (보낸 사람 여러 명)")
+    void chatMessagesBefore() throws Exception {
+        String before = LocalDateTime.now().plusMinutes(1).toString();
+
+        perform(get("/api/chat/room/{roomId}/messages", project.getProjectId()).param("before", before), leader)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("GET /api/chat/room/{roomId}/members")
+    void chatMembers() throws Exception {
+        perform(get("/api/chat/room/{roomId}/members", project.getProjectId()), leader)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("STOMP /app/chat/message (ChatService.saveMessage)")
+    void chatSaveMessage() throws Exception {
+        evictSecondLevelCache();
+
+        QueryCounter.measure(() -> chatService.saveMessage(
+                        project.getProjectId(), "안녕하세요", ChatMessage.MessageType.TEXT, leader.getUserId()))
+                .assertSelectsAtMost(2)
+                .assertTotalAtMost(3);
+    }
+
+    // ===== 대시보드 =====
+
+    @Test
+    @DisplayName("GET /api/dashboard/stats")
+    void dashboardStats() throws Exception {
+        perform(get("/api/dashboard/stats"), leader)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/my-tasks")
+    void dashboardMyTasks() throws Exception {
+        perform(get("/api/dashboard/my-tasks"), leader)
+                .assertTotalAtMost(3);
+    }
+
+    // ===== 엑셀 업로드 작업 =====
+
+    @Test
+    @DisplayName("GET /api/excel-imports/{jobId}")
+    void excelImportJob() throws Exception {
+        String jobId = excelImportJobService.submit(project.getProjectId(), leader.getUserId(), excelFile()).getJobId();
+
+        perform(get("/api/excel-imports/{jobId}", jobId), leader)
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/excel-imports/{jobId}/cancel (없는 작업)")
+    void excelImportCancel() throws Exception {
+        perform(post("/api/excel-imports/{jobId}/cancel", "unknown-" + suffix), leader, status().isNotFound())
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/excel-imports/{jobId}/errors (없는 작업)")
+    void excelImportErrors() throws Exception {
+        perform(get("/api/excel-imports/{jobId}/errors", "unknown-" + suffix), leader, status().isNotFound())
+                .assertTotalAtMost(1);
+    }
+
+    // ===== 칸반 =====
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/columns")
+    void createColumn() throws Exception {
+        ColumnCreateRequestDTO dto = new ColumnCreateRequestDTO("검토", null, ColumnType.IN_PROGRESS);
+
+        perform(post("/api/projects/{projectId}/columns", project.getProjectId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/columns/{columnId}")
+    void deleteColumn() throws Exception {
+        perform(delete("/api/columns/{columnId}", emptyColumn.getColumnId()), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("POST /api/columns/{columnId}/tasks")
+    void createTask() throws Exception {
+        TaskCreateRequestDTO dto = new TaskCreateRequestDTO("새 업무", "내용", LocalDate.now().plusDays(3),
+                members.get(0).getUserId());
+
+        perform(post("/api/columns/{columnId}/tasks", todoColumn.getColumnId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(6)
+                .assertTotalAtMost(8);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{taskId}")
+    void taskDetail() throws Exception {
+        perform(get("/api/tasks/{taskId}", tasks.get(1).getTaskId()), leader)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("PUT /api/tasks/{taskId}")
+    void updateTask() throws Exception {
+        TaskUpdateRequestDTO dto = new TaskUpdateRequestDTO("수정한 업무", "내용", LocalDate.now().plusDays(5),
+                members.get(1).getUserId());
+
+        perform(put("/api/tasks/{taskId}", tasks.get(0).getTaskId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(6)
+                .assertTotalAtMost(8);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/tasks/{taskId}")
+    void deleteTask() throws Exception {
+        perform(delete("/api/tasks/{taskId}", tasks.get(0).getTaskId()), leader)
+                .assertSelectsAtMost(4)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("PUT /api/tasks/{taskId}/move")
+    void moveTask() throws Exception {
+        TaskMoveRequestDTO dto = new TaskMoveRequestDTO(doingColumn.getColumnId(), 1);
+
+        perform(put("/api/tasks/{taskId}/move", tasks.get(0).getTaskId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(7);
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/excel")
+    void uploadTasksExcel() throws Exception {
+        perform(multipart("/api/projects/{projectId}/excel", project.getProjectId()).file(excelFile()), leader)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/excel")
+    void downloadTasksExcel() throws Exception {
+        perform(get("/api/projects/{projectId}/excel", project.getProjectId()).accept("text/csv"), leader)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/excel 스트리밍 본문 (ExcelService.writeTasks)")
+    void writeTasks() throws Exception {
+        evictSecondLevelCache();
+
+        QueryCounter.measure(() -> excelService.writeTasks(project.getProjectId(), TaskExportFormat.CSV,
+                        new ByteArrayOutputStream()))
+                .assertTotalAtMost(1);
+    }
+
+    // ===== 알림 =====
+
+    @Test
+    @DisplayName("GET /api/notifications")
+    void notificationInbox() throws Exception {
+        perform(get("/api/notifications"), leader)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("GET /api/notifications/unread-count")
+    void notificationUnreadCount() throws Exception {
+        perform(get("/api/notifications/unread-count"), leader)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/notifications/{notificationId}/read")
+    void notificationMarkAsRead() throws Exception {
+        perform(patch("/api/notifications/{notificationId}/read", notifications.get(0).getNotificationId()), leader)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/notifications/read-all")
+    void notificationMarkAllAsRead() throws Exception {
+        perform(patch("/api/notifications/read-all"), leader)
+                .assertTotalAtMost(3);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/notifications/{notificationId}")
+    void notificationDelete() throws Exception {
+        perform(delete("/api/notifications/{notificationId}", notifications.get(0).getNotificationId()), leader)
+                .assertTotalAtMost(4);
+    }
+
+    // ===== 프로젝트 =====
+
+    @Test
+    @DisplayName("POST /api/projects")
+    void createProject() throws Exception {
+        ProjectCreateRequestDTO dto = new ProjectCreateRequestDTO("새 프로젝트", "설명", LocalDate.now(),
+                LocalDate.now().plusMonths(2), new BigDecimal("500000"));
+
+        perform(post("/api/projects").contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(2)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/board (컬럼 4개, 업무 " + TASKS + "건)")
+    void projectBoard() throws Exception {
+        perform(get("/api/projects/{projectId}/board", project.getProjectId()), leader)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects")
+    void myProjects() throws Exception {
+        perform(get("/api/projects"), leader)
+                .assertTotalAtMost(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/invite")
+    void inviteMember() throws Exception {
+        MemberInviteRequestDTO dto = new MemberInviteRequestDTO(outsider.getEmail());
+
+        perform(post("/api/projects/{projectId}/invite", project.getProjectId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(7)
+                .assertTotalAtMost(8);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/projects/{projectId}/start (멤버 " + MEMBERS + "명 카운터 갱신)")
+    void startProject() throws Exception {
+        perform(patch("/api/projects/{projectId}/start", project.getProjectId()), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/projects/{projectId}/complete")
+    void completeProject() throws Exception {
+        perform(patch("/api/projects/{projectId}/complete", project.getProjectId()), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/projects/{projectId}/reopen")
+    void reopenProject() throws Exception {
+        perform(patch("/api/projects/{projectId}/reopen", project.getProjectId()), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("PUT /api/projects/{projectId}")
+    void updateProject() throws Exception {
+        ProjectUpdateRequestDTO dto = new ProjectUpdateRequestDTO("수정한 프로젝트", "설명", null, null, null);
+
+        perform(put("/api/projects/{projectId}", project.getProjectId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(dto)), leader)
+                .assertSelectsAtMost(4)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/projects/{projectId}")
+    void deleteProject() throws Exception {
+        perform(delete("/api/projects/{projectId}", project.getProjectId()), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/budget-ledger")
+    void budgetLedger() throws Exception {
+        perform(get("/api/projects/{projectId}/budget-ledger", project.getProjectId()), leader)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/members")
+    void projectMembers() throws Exception {
+        perform(get("/api/projects/{projectId}/members", project.getProjectId()), leader)
+                .assertTotalAtMost(4);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/projects/{projectId}/members/{memberId}/role")
+    void updateMemberRole() throws Exception {
+        perform(patch("/api/projects/{projectId}/members/{memberId}/role",
+                project.getProjectId(), members.get(0).getUserId())
+                .contentType(MediaType.APPLICATION_JSON).content(json(Map.of("role", "DESIGN"))), leader)
+                .assertSelectsAtMost(4)
+                .assertTotalAtMost(5);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/projects/{projectId}/members/{memberId}")
+    void removeMember() throws Exception {
+        perform(delete("/api/projects/{projectId}/members/{memberId}",
+                project.getProjectId(), members.get(0).getUserId()), leader)
+                .assertSelectsAtMost(5)
+                .assertTotalAtMost(6);
+    }
+
+    // ===== 사용자 디렉터리 (메모리 색인) =====
+
+    @Test
+    @DisplayName("GET /api/users")
+    void allUsers() throws Exception {
+        perform(get("/api/users"), leader)
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/users/directory")
+    void userDirectory() throws Exception {
+        perform(get("/api/users/directory"), leader)
+                .assertTotalAtMost(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/users/search")
+    void searchUsers() throws Exception {
+        perform(get("/api/users/search").param("keyword", "member"), leader)
+                .assertTotalAtMost(1);
+    }
+
+    /**
+     * 2차 캐시를 비운 뒤 요청을 보내고, 요청 스레드에서 실행된 SQL 문을 셉니다. (2xx 응답 기대)
+     */
+    private QueryCount perform(MockHttpServletRequestBuilder request, User user) throws Exception {
+        return perform(request, user, status().is2xxSuccessful());
+    }
+
+    private QueryCount perform(MockHttpServletRequestBuilder request, User user, ResultMatcher expected)
+            throws Exception {
+        if (user != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtProvider.createToken(user.getUserId(), user.getRole()));
+        }
+        evictSecondLevelCache();
+        return QueryCounter.measure(() -> mockMvc.perform(request).andExpect(expected));
+    }
+
+    private void evictSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private MockMultipartFile excelFile() {
+        return new MockMultipartFile("file", "tasks.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", new byte[]{1, 2, 3});
+    }
+
+    private User user(String name, Role role, AccountStatus status) {
+        return User.builder()
+                .email(name + suffix + "@bizsync.com")
+                .password(encodedPassword)
+                .name(name)
+                .role(role)
+                .status(status)
+                .build();
+    }
+
+    private ProjectMember member(User user, ProjectMember.Role role) {
+        return ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(role)
+                .build();
+    }
+
+    private KanbanColumn column(String name, int sequence, ColumnType columnType) {
+        return KanbanColumn.builder()
+                .project(project)
+                .name(name)
+                .sequence(sequence)
+                .columnType(columnType)
+                .build();
+    }
+}
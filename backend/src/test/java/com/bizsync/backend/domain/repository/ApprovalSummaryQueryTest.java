@@ -0,0 +1,142 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.*;
+import com.bizsync.backend.dto.request.ApprovalSummaryDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결재 목록(기안함/대기함/완료함) 조회가 기안자 수, 페이지 크기와 관계없이
+ * 목록 쿼리 1회 + 개수 쿼리 1회로 끝나는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("embedded")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ApprovalSummaryQueryTest {
+
+    private static final int DRAFTERS = 4;
+    private static final int DOCUMENTS_PER_DRAFTER = 6;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ApprovalDocumentRepository approvalDocumentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    private Statistics statistics;
+    private User approver;
+    private User firstDrafter;
+
+    @BeforeEach
+    void setUp() {
+        approver = em.persist(user("approver"));
+
+        // 기안자마다 문서 6건, 결재자의 결재선은 PENDING 3건 / APPROVED 2건 / REJECTED 1건
+        // PENDING 3건 중 1건은 앞 결재자(기안자 본인으로 대신함)의 차례라 대기함에 나오지 않아야 함
+        ApprovalStatus[] lineStatuses = {
+                ApprovalStatus.PENDING, ApprovalStatus.PENDING, ApprovalStatus.PENDING,
+                ApprovalStatus.APPROVED, ApprovalStatus.APPROVED, ApprovalStatus.REJECTED
+        };
+        for (int d = 0; d < DRAFTERS; d++) {
+            User drafter = em.persist(user("drafter" + d));
+            if (d == 0) {
+                firstDrafter = drafter;
+            }
+            for (int i = 0; i < DOCUMENTS_PER_DRAFTER; i++) {
+                boolean pending = lineStatuses[i] == ApprovalStatus.PENDING;
+                Long currentApproverId = i < 2 ? approver.getUserId() : drafter.getUserId();
+                ApprovalDocument document = em.persist(ApprovalDocument.builder()
+                        .drafter(drafter)
+                        .type(ApprovalType.LEAVE)
+                        .title("문서 " + d + "-" + i)
+                        .content("내용")
+                        .currentSequence(pending ? 1 : null)
+                        .currentApproverId(pending ? currentApproverId : null)
+                        .build());
+                em.persist(ApprovalLine.builder()
+                        .document(document)
+                        .approver(approver)
+                        .sequence(1)
+                        .status(lineStatuses[i])
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("기안함은 기안자 이름을 조인해 쿼리 2회(목록+개수)로 조회한다")
+    void myDrafts_twoStatements() {
+        Page<ApprovalSummaryDTO> page = approvalDocumentRepository.findSummariesByDrafter(
+                firstDrafter.getUserId(), PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getTotalElements()).isEqualTo(DOCUMENTS_PER_DRAFTER);
+        assertThat(page.getContent()).hasSize(4)
+                .allSatisfy(row -> assertThat(row.drafterName()).isEqualTo(firstDrafter.getName()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결재 대기함은 내 차례인 문서만 여러 기안자가 섞여 있어도 쿼리 2회(목록+개수)로 조회한다")
+    void myPending_twoStatements() {
+        Page<ApprovalSummaryDTO> page = approvalDocumentRepository.findSummariesByCurrentApprover(
+                approver.getUserId(), PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "documentId")));
+
+        assertThat(page.getTotalElements()).isEqualTo(DRAFTERS * 2);
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent().stream().map(ApprovalSummaryDTO::drafterName).distinct().count())
+                .isGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결재 완료함은 승인/반려 결재선을 쿼리 2회(목록+개수)로 조회한다")
+    void myCompleted_twoStatements() {
+        Page<ApprovalSummaryDTO> page = approvalLineRepository.findSummariesByApproverAndStatusIn(
+                approver.getUserId(), List.of(ApprovalStatus.APPROVED, ApprovalStatus.REJECTED),
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(DRAFTERS * 3);
+        assertThat(page.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(row -> assertThat(row.drafterName()).startsWith("drafter"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@bizsync.com")
+                .password("password")
+                .name(name)
+                .role(Role.MEMBER)
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
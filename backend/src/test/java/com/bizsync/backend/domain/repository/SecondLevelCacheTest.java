@@ -0,0 +1,149 @@
+package com.bizsync.backend.domain.repository;
+
+import com.bizsync.backend.domain.entity.AccountStatus;
+import com.bizsync.backend.domain.entity.Project;
+import com.bizsync.backend.domain.entity.Role;
+import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.service.BudgetLedgerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋된 엔티티를 다음 트랜잭션에서 2차 캐시로 읽는지, 쓰기(JPA/MyBatis) 후에는 새 값을 읽는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private BudgetLedgerService budgetLedgerService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = String.valueOf(System.nanoTime());
+    }
+
+    @AfterEach
+    void tearDown() {
+        String projectName = "캐시 " + suffix;
+        for (String table : List.of("budget_ledger", "budget_checkpoint", "project_stats")) {
+            jdbcTemplate.update("DELETE FROM " + table
+                    + " WHERE project_id IN (SELECT project_id FROM project WHERE name = ?)", projectName);
+        }
+        jdbcTemplate.update("DELETE FROM project WHERE name = ?", projectName);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", "%" + suffix + "@bizsync.com");
+    }
+
+    @Test
+    @DisplayName("커밋 후 다른 트랜잭션의 ID 조회는 쿼리 없이 캐시에서 읽는다")
+    void findById_readsFromCacheAfterCommit() {
+        Long userId = inTransaction(() -> userRepository.save(user("cached" + suffix))).getUserId();
+        inTransaction(() -> userRepository.findById(userId).orElseThrow());
+
+        statistics.clear();
+        User user = inTransaction(() -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(user.getEmail()).isEqualTo("cached" + suffix + "@bizsync.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JPA로 수정한 엔티티는 커밋 후 새 값으로 읽는다")
+    void update_readsNewValueAfterCommit() {
+        Long userId = inTransaction(() -> userRepository.save(user("updated" + suffix))).getUserId();
+        inTransaction(() -> userRepository.findById(userId).orElseThrow());
+
+        inTransaction(() -> {
+            userRepository.findById(userId).orElseThrow().changeRole(Role.ADMIN);
+            return null;
+        });
+
+        assertThat(inTransaction(() -> userRepository.findById(userId).orElseThrow()).getRole()).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 자연 키 캐시와 엔티티 캐시를 거쳐 쿼리 없이 읽는다")
+    void findByEmail_readsFromNaturalIdCache() {
+        String email = "natural" + suffix + "@bizsync.com";
+        inTransaction(() -> userRepository.save(user("natural" + suffix)));
+        inTransaction(() -> userRepository.findByEmail(email).orElseThrow());
+
+        statistics.clear();
+        User user = inTransaction(() -> userRepository.findByEmail(email).orElseThrow());
+
+        assertThat(user.getEmail()).isEqualTo(email);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("MyBatis로 사용 예산을 바꾸면 캐시된 프로젝트 대신 커밋된 새 값을 읽는다")
+    void budgetUpdateBypassingJpa_invalidatesProject() {
+        Long projectId = inTransaction(() -> projectRepository.save(Project.builder()
+                .name("캐시 " + suffix)
+                .totalBudget(new BigDecimal("100000"))
+                .build())).getProjectId();
+        inTransaction(() -> projectRepository.findById(projectId).orElseThrow());
+
+        inTransaction(() -> {
+            budgetLedgerService.spend(projectId, null, new BigDecimal("30000"), null);
+            return null;
+        });
+
+        Project project = inTransaction(() -> projectRepository.findById(projectId).orElseThrow());
+        assertThat(project.getUsedBudget()).isEqualByComparingTo("30000");
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@bizsync.com")
+                .password("password")
+                .name(name.substring(0, Math.min(name.length(), 20)))
+                .role(Role.MEMBER)
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
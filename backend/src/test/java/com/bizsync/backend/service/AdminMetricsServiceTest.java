@@ -0,0 +1,96 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.DailyMetricSnapshot;
+import com.bizsync.backend.domain.repository.ApprovalDocumentRepository;
+import com.bizsync.backend.domain.repository.DailyMetricSnapshotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일별 지표 스냅샷 기록 검증
+ *
+ * <p>내장 H2(embedded 프로필)에 실제로 저장해, 같은 날짜를 다시 기록하면 기존 행을 덮어쓰지 않고
+ * 기본 키 충돌로 건너뛰는지 확인합니다. 다른 인스턴스가 먼저 기록한 경쟁 상황은 존재 확인이 false를 돌려주도록 바꿔 재현합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class AdminMetricsServiceTest {
+
+    @Autowired
+    private DailyMetricSnapshotRepository dailyMetricSnapshotRepository;
+
+    @Autowired
+    private AdminDashboardService adminDashboardService;
+
+    private DailyMetricSnapshotRepository racingRepository;
+    private ApprovalDocumentRepository approvalDocumentRepository;
+    private AdminMetricsService adminMetricsService;
+    private LocalDate yesterday;
+
+    @BeforeEach
+    void setUp() {
+        dailyMetricSnapshotRepository.deleteAll();
+        yesterday = LocalDate.now().minusDays(1);
+
+        // 존재 확인만 항상 false로 바꾸고 나머지는 실제 리포지토리에 위임
+        racingRepository = mock(DailyMetricSnapshotRepository.class,
+                AdditionalAnswers.delegatesTo(dailyMetricSnapshotRepository));
+        doReturn(false).when(racingRepository).existsById(any());
+        approvalDocumentRepository = mock(ApprovalDocumentRepository.class);
+        adminMetricsService = new AdminMetricsService(racingRepository, adminDashboardService,
+                approvalDocumentRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailyMetricSnapshotRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 날짜가 이미 기록되어 있으면 기존 행을 덮어쓰지 않고 건너뜀")
+    void recordDailySnapshot_duplicateDay_keepsExistingRow() {
+        LocalDateTime recordedAt = yesterday.atTime(0, 5);
+        dailyMetricSnapshotRepository.save(DailyMetricSnapshot.builder()
+                .metricDate(yesterday)
+                .totalUsers(-1)
+                .newApprovals(-1)
+                .recordedAt(recordedAt)
+                .build());
+
+        assertThatCode(() -> adminMetricsService.recordDailySnapshot()).doesNotThrowAnyException();
+
+        assertThat(dailyMetricSnapshotRepository.count()).isEqualTo(1);
+        DailyMetricSnapshot stored = dailyMetricSnapshotRepository.findById(yesterday).orElseThrow();
+        assertThat(stored.getTotalUsers()).isEqualTo(-1);
+        assertThat(stored.getNewApprovals()).isEqualTo(-1);
+        assertThat(stored.getRecordedAt()).isEqualTo(recordedAt);
+    }
+
+    @Test
+    @DisplayName("결재 기안 수는 누적이 아닌 집계 기준일 하루치로 기록")
+    void recordDailySnapshot_storesDailyApprovalCount() {
+        when(approvalDocumentRepository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                yesterday.atStartOfDay(), LocalDate.now().atStartOfDay())).thenReturn(7L);
+
+        adminMetricsService.recordDailySnapshot();
+
+        DailyMetricSnapshot stored = dailyMetricSnapshotRepository.findById(yesterday).orElseThrow();
+        assertThat(stored.getNewApprovals()).isEqualTo(7);
+        verify(approvalDocumentRepository).countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                yesterday.atStartOfDay(), LocalDate.now().atStartOfDay());
+    }
+}
@@ -0,0 +1,82 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.AccountStatus;
+import com.bizsync.backend.domain.entity.Role;
+import com.bizsync.backend.domain.entity.User;
+import com.bizsync.backend.domain.repository.UserRepository;
+import com.bizsync.backend.dto.response.AdminUserPageDTO;
+import com.bizsync.backend.dto.response.UserDetailResponseDTO;
+import com.bizsync.backend.mapper.UserMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminUserServiceTest {
+
+    @InjectMocks
+    private AdminUserService adminUserService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private AdminDashboardService adminDashboardService;
+
+    @Test
+    @DisplayName("size + 1건의 ID로 다음 페이지 여부와 커서를 계산하고, 사용자는 ID 순서대로 반환한다")
+    void getUserPage_keysetPage() {
+        given(userMapper.selectUserIdsForAdmin(AccountStatus.ACTIVE, Role.MEMBER, null, null, 50L, 4))
+                .willReturn(List.of(40L, 35L, 31L, 20L));
+        // IN 조회는 순서를 보장하지 않음
+        given(userRepository.findAllById(List.of(40L, 35L, 31L)))
+                .willReturn(List.of(user(31L), user(40L), user(35L)));
+        given(adminDashboardService.countUsers(AccountStatus.ACTIVE, Role.MEMBER, null)).willReturn(1200L);
+
+        AdminUserPageDTO page = adminUserService.getUserPage(AccountStatus.ACTIVE, Role.MEMBER, null, null, 50L, 3);
+
+        assertThat(page.users()).extracting(UserDetailResponseDTO::userId).containsExactly(40L, 35L, 31L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(31L);
+        assertThat(page.totalCount()).isEqualTo(1200L);
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 마지막 페이지에서 커서 없이 반환하고 전체 인원을 세지 않는다")
+    void getUserPage_keywordWithoutCount() {
+        given(userMapper.selectUserIdsForAdmin(null, null, null, "hong", null, 21)).willReturn(List.of(7L));
+        given(userRepository.findAllById(List.of(7L))).willReturn(List.of(user(7L)));
+
+        AdminUserPageDTO page = adminUserService.getUserPage(null, null, null, "  hong ", null, 20);
+
+        assertThat(page.users()).hasSize(1);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalCount()).isNull();
+        verify(adminDashboardService, never()).countUsers(any(), any(), any());
+    }
+
+    private User user(Long userId) {
+        return User.builder()
+                .userId(userId)
+                .email("user" + userId + "@bizsync.com")
+                .name("user" + userId)
+                .role(Role.MEMBER)
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.domain.entity.*;
+import com.bizsync.backend.domain.repository.ProjectMemberRepository;
+import com.bizsync.backend.domain.repository.ProjectRepository;
+import com.bizsync.backend.domain.repository.UserRepository;
+import com.bizsync.backend.dto.request.ApprovalCreateRequestDTO;
+import com.bizsync.backend.dto.request.ApprovalProcessRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 프로젝트의 비용 결재를 여러 스레드에서 동시에 최종 승인해도 예산을 초과해 차감하지 않는지 검증
+ *
+ * <p>내장 H2(embedded 프로필)에서 실행하며, 테스트가 만든 사용자, 프로젝트, 결재 문서와 원장 행은 끝난 뒤 모두 지웁니다.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class ApprovalBudgetConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int DOCUMENTS = 200;
+    private static final BigDecimal AMOUNT = new BigDecimal("10000");
+    private static final BigDecimal TOTAL_BUDGET = new BigDecimal("1000000");
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private BudgetLedgerService budgetLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long projectId;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (projectId != null) {
+            jdbcTemplate.update("DELETE FROM approval_line WHERE document_id IN "
+                    + "(SELECT document_id FROM approval_document WHERE project_id = ?)", projectId);
+            for (String table : List.of("approval_document", "budget_ledger", "budget_checkpoint", "project_stats",
+                    "project_member", "project")) {
+                jdbcTemplate.update("DELETE FROM " + table + " WHERE project_id = ?", projectId);
+            }
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 최종 승인해도 사용 예산은 총 예산을 넘지 않고, 성공한 승인 금액 합계 및 원장 합계와 같아야 한다")
+    void concurrentFinalApprovals_neverOverspend() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User drafter = userRepository.save(user("drafter" + suffix));
+        User approver = userRepository.save(user("approver" + suffix));
+        Project project = projectRepository.save(Project.builder()
+                .name("예산 동시성 " + suffix)
+                .totalBudget(TOTAL_BUDGET)
+                .usedBudget(BigDecimal.ZERO)
+                .build());
+        projectId = project.getProjectId();
+        userIds.addAll(List.of(drafter.getUserId(), approver.getUserId()));
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(drafter)
+                .role(ProjectMember.Role.DEV)
+                .build());
+
+        List<Long> documentIds = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documentIds.add(approvalService.createApproval(drafter.getUserId(), new ApprovalCreateRequestDTO(
+                    project.getProjectId(), ApprovalType.EXPENSE, AMOUNT, "비용 결재 " + i, "내용",
+                    List.of(approver.getUserId()))));
+        }
+
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(DOCUMENTS);
+        for (Long documentId : documentIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    approvalService.processApproval(approver.getUserId(), documentId,
+                            new ApprovalProcessRequestDTO(ApprovalStatus.APPROVED, "승인"));
+                    approved.incrementAndGet();
+                } catch (BusinessException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BUDGET_INSUFFICIENT);
+                    insufficient.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        BigDecimal usedBudget = projectRepository.findById(project.getProjectId()).orElseThrow().getUsedBudget();
+        int expectedApprovals = TOTAL_BUDGET.divide(AMOUNT).intValue();
+
+        assertThat(approved.get()).isEqualTo(expectedApprovals);
+        assertThat(insufficient.get()).isEqualTo(DOCUMENTS - expectedApprovals);
+        assertThat(usedBudget).isEqualByComparingTo(AMOUNT.multiply(BigDecimal.valueOf(approved.get())));
+        assertThat(usedBudget).isLessThanOrEqualTo(TOTAL_BUDGET);
+        // 성공한 승인마다 원장에 한 건씩 남아 원장 기준 사용 예산도 같아야 함
+        assertThat(budgetLedgerService.getUsedBudget(project.getProjectId())).isEqualByComparingTo(usedBudget);
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@bizsync.com")
+                .password("password")
+                .name(name.substring(0, Math.min(name.length(), 20)))
+                .role(Role.MEMBER)
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
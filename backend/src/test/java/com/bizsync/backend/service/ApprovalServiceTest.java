@@ -1,26 +1,38 @@
 package com.bizsync.backend.service;
 
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
 import com.bizsync.backend.domain.entity.*;
 import com.bizsync.backend.domain.repository.ApprovalDocumentRepository;
 import com.bizsync.backend.domain.repository.ApprovalLineRepository;
 import com.bizsync.backend.domain.repository.ProjectRepository;
 import com.bizsync.backend.domain.repository.UserRepository;
+import com.bizsync.backend.dto.request.ApprovalBulkProcessRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalCreateRequestDTO;
 import com.bizsync.backend.dto.request.ApprovalProcessRequestDTO;
+import com.bizsync.backend.dto.response.ApprovalBulkResultDTO;
+import com.bizsync.backend.mapper.ApprovalLineMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,6 +48,12 @@ class ApprovalServiceTest {
     @Mock
     private ApprovalLineRepository approvalLineRepository;
 
+    @Mock
+    private ApprovalLineMapper approvalLineMapper;
+
+    @Mock
+    private BudgetLedgerService budgetLedgerService;
+
     @Mock
     private UserRepository userRepository;
 
@@ -45,6 +63,9 @@ class ApprovalServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("결재 상신 시: 문서는 PENDING 상태여야 하고, 결재선은 순서대로 저장되어야 한다")
     void createApproval_success() {
@@ -68,32 +89,68 @@ class ApprovalServiceTest {
 
         // Mocking
         given(userRepository.findByIdOrThrow(drafterId)).willReturn(drafter);
-        // 결재자 목록 조회 Mocking (순서를 유지하며 리턴한다고 가정)
-        given(userRepository.findAllById(dto.approverIds())).willReturn(List.of(approver1, approver2));
+        // 결재자 존재 여부는 COUNT 한 번으로 확인
+        given(userRepository.countByUserIdIn(Set.of(approver1Id, approver2Id))).willReturn(2L);
 
         // 문서 저장 시 ID가 부여된 객체를 리턴하도록 설정
-        ApprovalDocument savedDoc = ApprovalDocument.builder().documentId(100L).build();
+        ApprovalDocument savedDoc = ApprovalDocument.builder().documentId(100L).drafter(drafter).build();
         given(approvalDocumentRepository.save(any(ApprovalDocument.class))).willReturn(savedDoc);
 
-        // when (메서드 실행 - 현재 컴파일 에러 발생함)
+        // when
         approvalService.createApproval(drafterId, dto);
 
         // then (검증)
         // 1. 문서가 저장되었는지 확인
         verify(approvalDocumentRepository).save(any(ApprovalDocument.class));
 
-        // 2. 결재선(ApprovalLine)이 2번 저장되었는지 확인
-        ArgumentCaptor<ApprovalLine> lineCaptor = ArgumentCaptor.forClass(ApprovalLine.class);
-        verify(approvalLineRepository, times(2)).save(lineCaptor.capture());
+        // 2. 결재선은 결재자 순서(= 결재 순서) 그대로 한 번에 저장되어야 함
+        verify(approvalLineMapper, times(1)).insertApprovalLines(100L, List.of(approver1Id, approver2Id));
+        verify(approvalLineRepository, never()).save(any(ApprovalLine.class));
+        verify(userRepository, never()).findAllById(any());
+
+        // 3. 결재 요청 알림은 결재자 전원에 대해 한 번만 넘겨야 함
+        verify(notificationService, times(1))
+                .sendApprovalRequestNotifications(savedDoc, List.of(approver1Id, approver2Id));
+    }
+
+    @Test
+    @DisplayName("결재선에 같은 결재자가 두 번 있으면 DB 조회 없이 거부해야 한다")
+    void createApproval_duplicateApprover() {
+        Long drafterId = 1L;
+        ApprovalCreateRequestDTO dto = new ApprovalCreateRequestDTO(
+                null, ApprovalType.LEAVE, null, "휴가 신청서", "쉬고 싶습니다.", List.of(10L, 20L, 10L));
+
+        User drafter = User.builder().userId(drafterId).name("나신입").build();
+        given(userRepository.findByIdOrThrow(drafterId)).willReturn(drafter);
+        given(approvalDocumentRepository.save(any(ApprovalDocument.class)))
+                .willReturn(ApprovalDocument.builder().documentId(100L).drafter(drafter).build());
+
+        assertThatThrownBy(() -> approvalService.createApproval(drafterId, dto))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.APPROVAL_DUPLICATE_APPROVER);
 
-        List<ApprovalLine> savedLines = lineCaptor.getAllValues();
+        verify(userRepository, never()).countByUserIdIn(any());
+        verify(approvalLineMapper, never()).insertApprovalLines(any(), any());
+    }
 
-        // ★ 핵심 검증: 순서(Sequence)가 1, 2로 잘 들어갔는지
-        assertThat(savedLines.get(0).getApprover().getUserId()).isEqualTo(approver1Id);
-        assertThat(savedLines.get(0).getSequence()).isEqualTo(1); // 첫 번째 결재자 = 순서 1
+    @Test
+    @DisplayName("존재하지 않는 결재자가 있으면 결재선을 저장하지 않아야 한다")
+    void createApproval_unknownApprover() {
+        Long drafterId = 1L;
+        ApprovalCreateRequestDTO dto = new ApprovalCreateRequestDTO(
+                null, ApprovalType.LEAVE, null, "휴가 신청서", "쉬고 싶습니다.", List.of(10L, 99L));
 
-        assertThat(savedLines.get(1).getApprover().getUserId()).isEqualTo(approver2Id);
-        assertThat(savedLines.get(1).getSequence()).isEqualTo(2); // 두 번째 결재자 = 순서 2
+        User drafter = User.builder().userId(drafterId).name("나신입").build();
+        given(userRepository.findByIdOrThrow(drafterId)).willReturn(drafter);
+        given(approvalDocumentRepository.save(any(ApprovalDocument.class)))
+                .willReturn(ApprovalDocument.builder().documentId(100L).drafter(drafter).build());
+        given(userRepository.countByUserIdIn(Set.of(10L, 99L))).willReturn(1L);
+
+        assertThatThrownBy(() -> approvalService.createApproval(drafterId, dto))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(approvalLineMapper, never()).insertApprovalLines(any(), any());
+        verify(notificationService, never()).sendApprovalRequestNotifications(any(), any());
     }
 
     @Test
@@ -106,10 +163,12 @@ class ApprovalServiceTest {
         ApprovalProcessRequestDTO req = new ApprovalProcessRequestDTO(
                 ApprovalStatus.APPROVED, "고생했습니다.");
 
-        // 가짜 문서 및 결재선 데이터 생성
+        // 가짜 문서 및 결재선 데이터 생성 (현재 결재 차례: 2번 결재자)
         ApprovalDocument doc = ApprovalDocument.builder()
                 .documentId(documentId)
                 .status(ApprovalStatus.PENDING) // 현재 진행 중
+                .currentSequence(2)
+                .currentApproverId(approverId)
                 .build();
 
         User approver = User.builder().userId(approverId).build();
@@ -123,27 +182,14 @@ class ApprovalServiceTest {
                 .status(ApprovalStatus.PENDING)
                 .build();
 
-        // Mocking: 내 결재선 찾기 (findByDocumentAndApproverEntity 사용)
-        given(approvalLineRepository.findByDocumentAndApproverEntity(doc, approverId))
-                .willReturn(Optional.of(myLine));
-
-        // Mocking: 내 앞 순서(1번)가 아직 안 끝났는지 확인 (false = 앞 순서 모두 승인됨)
-        given(approvalLineRepository.existsByDocument_DocumentIdAndSequenceLessThanAndStatusNot(
-                documentId, 2, ApprovalStatus.APPROVED))
-                .willReturn(false);
-
-        // Mocking: 문서 조회
-        given(approvalDocumentRepository.findByIdOrThrow(documentId)).willReturn(doc);
+        // Mocking: 문서 조회 (잠금)
+        given(approvalDocumentRepository.findByIdForUpdateOrThrow(documentId)).willReturn(doc);
 
-        // Mocking: 모든 결재선 조회 (모두 승인된 상태로 설정)
-        ApprovalLine line1 = ApprovalLine.builder()
-                .id(4L)
-                .document(doc)
-                .sequence(1)
-                .status(ApprovalStatus.APPROVED)
-                .build();
-        given(approvalLineRepository.findByDocumentOrderBySequence(doc))
-                .willReturn(List.of(line1, myLine));
+        // Mocking: 현재 차례의 결재선과 다음 결재선 (다음 결재선 없음 = 마지막 결재자)
+        given(approvalLineRepository.findByDocument_DocumentIdAndSequence(documentId, 2))
+                .willReturn(Optional.of(myLine));
+        given(approvalLineRepository.findByDocument_DocumentIdAndSequence(documentId, 3))
+                .willReturn(Optional.empty());
 
         // when (메서드 실행 - 파라미터 순서: approverId, documentId, dto)
         approvalService.processApproval(approverId, documentId, req);
@@ -153,7 +199,272 @@ class ApprovalServiceTest {
         assertThat(myLine.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
         // 2. 문서 전체 상태가 APPROVED로 변했는지 (핵심)
         assertThat(doc.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
-        // 3. 완료 일시가 찍혔는지
+        // 3. 완료 일시가 찍히고 결재 차례가 비워졌는지
         assertThat(doc.getCompletedAt()).isNotNull();
+        assertThat(doc.getCurrentApproverId()).isNull();
+        // 4. 전체 결재선을 다시 읽지 않아야 함
+        verify(approvalLineRepository, never()).findByDocumentOrderBySequence(any());
+        verify(notificationService).sendApprovalCompleteNotification(doc);
+    }
+
+    @Test
+    @DisplayName("중간 결재자가 승인하면 문서는 진행 중으로 남고 결재 차례가 다음 결재자로 넘어가야 한다")
+    void processApproval_advancesToNextStep() {
+        Long documentId = 100L;
+        Long approver1Id = 10L;
+        Long approver2Id = 20L;
+
+        ApprovalDocument doc = ApprovalDocument.builder()
+                .documentId(documentId)
+                .status(ApprovalStatus.PENDING)
+                .currentSequence(1)
+                .currentApproverId(approver1Id)
+                .build();
+        ApprovalLine line1 = ApprovalLine.builder()
+                .id(4L).document(doc).approver(User.builder().userId(approver1Id).build())
+                .sequence(1).status(ApprovalStatus.PENDING).build();
+        ApprovalLine line2 = ApprovalLine.builder()
+                .id(5L).document(doc).approver(User.builder().userId(approver2Id).build())
+                .sequence(2).status(ApprovalStatus.PENDING).build();
+
+        given(approvalDocumentRepository.findByIdForUpdateOrThrow(documentId)).willReturn(doc);
+        given(approvalLineRepository.findByDocument_DocumentIdAndSequence(documentId, 1)).willReturn(Optional.of(line1));
+        given(approvalLineRepository.findByDocument_DocumentIdAndSequence(documentId, 2)).willReturn(Optional.of(line2));
+
+        approvalService.processApproval(approver1Id, documentId,
+                new ApprovalProcessRequestDTO(ApprovalStatus.APPROVED, "확인했습니다."));
+
+        assertThat(line1.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(doc.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+        assertThat(doc.getCurrentSequence()).isEqualTo(2);
+        assertThat(doc.getCurrentApproverId()).isEqualTo(approver2Id);
+        verify(notificationService, never()).sendApprovalCompleteNotification(any());
+    }
+
+    @Test
+    @DisplayName("앞 결재자가 처리하지 않은 문서를 결재하면 순서 위반으로 거부해야 한다")
+    void processApproval_notCurrentApprover() {
+        Long documentId = 100L;
+        Long approver2Id = 20L;
+
+        ApprovalDocument doc = ApprovalDocument.builder()
+                .documentId(documentId)
+                .status(ApprovalStatus.PENDING)
+                .currentSequence(1)
+                .currentApproverId(10L)
+                .build();
+        ApprovalLine line2 = ApprovalLine.builder()
+                .id(5L).document(doc).approver(User.builder().userId(approver2Id).build())
+                .sequence(2).status(ApprovalStatus.PENDING).build();
+
+        given(approvalDocumentRepository.findByIdForUpdateOrThrow(documentId)).willReturn(doc);
+        given(approvalLineRepository.findByDocumentAndApproverEntity(doc, approver2Id)).willReturn(Optional.of(line2));
+
+        assertThatThrownBy(() -> approvalService.processApproval(approver2Id, documentId,
+                new ApprovalProcessRequestDTO(ApprovalStatus.APPROVED, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.APPROVAL_SEQUENCE_VIOLATION);
+
+        assertThat(line2.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("비용 결재 최종 승인 시 잔액이 부족하면 예산 부족 예외와 함께 잔액을 알려야 한다")
+    void processApproval_budgetInsufficient() {
+        Long documentId = 100L;
+        Long projectId = 7L;
+        Long approverId = 20L;
+        BigDecimal amount = new BigDecimal("500000");
+
+        ApprovalDocument doc = ApprovalDocument.builder()
+                .documentId(documentId)
+                .project(Project.builder().projectId(projectId).build())
+                .type(ApprovalType.EXPENSE)
+                .amount(amount)
+                .status(ApprovalStatus.PENDING)
+                .currentSequence(1)
+                .currentApproverId(approverId)
+                .build();
+        ApprovalLine myLine = ApprovalLine.builder()
+                .id(5L).document(doc).approver(User.builder().userId(approverId).build())
+                .sequence(1).status(ApprovalStatus.PENDING).build();
+
+        given(approvalDocumentRepository.findByIdForUpdateOrThrow(documentId)).willReturn(doc);
+        given(approvalLineRepository.findByDocument_DocumentIdAndSequence(documentId, 1)).willReturn(Optional.of(myLine));
+        given(approvalLineRepository.findByDocument_DocumentIdAndSequence(documentId, 2)).willReturn(Optional.empty());
+        // 최종 승인자 기준으로 원장에 사용 기록 시도 -> 잔액 부족
+        willThrow(new BusinessException(ErrorCode.BUDGET_INSUFFICIENT,
+                "프로젝트 예산이 부족합니다. (요청: 500000원, 잔액: 120000원)"))
+                .given(budgetLedgerService).spend(projectId, documentId, amount, approverId);
+
+        assertThatThrownBy(() -> approvalService.processApproval(approverId, documentId,
+                new ApprovalProcessRequestDTO(ApprovalStatus.APPROVED, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BUDGET_INSUFFICIENT)
+                .hasMessageContaining("120000");
+
+        verify(notificationService, never()).sendApprovalCompleteNotification(any());
+    }
+
+    @Test
+    @DisplayName("최종 승인된 비용 결재를 환급하면 원장에 환급을 기록하고 문서를 취소 상태로 바꿔야 한다")
+    void refundApprovedExpense_success() {
+        Long documentId = 100L;
+        Long projectId = 7L;
+        Long adminId = 1L;
+        BigDecimal amount = new BigDecimal("500000");
+        ApprovalDocument doc = ApprovalDocument.builder()
+                .documentId(documentId)
+                .project(Project.builder().projectId(projectId).build())
+                .type(ApprovalType.EXPENSE)
+                .amount(amount)
+                .status(ApprovalStatus.APPROVED)
+                .build();
+        given(approvalDocumentRepository.findByIdForUpdateOrThrow(documentId)).willReturn(doc);
+
+        approvalService.refundApprovedExpense(adminId, documentId, "중복 청구");
+
+        verify(budgetLedgerService).refund(projectId, documentId, amount, adminId, "중복 청구");
+        assertThat(doc.getStatus()).isEqualTo(ApprovalStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("최종 승인되지 않은 결재는 환급할 수 없어야 한다")
+    void refundApprovedExpense_notApproved() {
+        Long documentId = 100L;
+        ApprovalDocument doc = ApprovalDocument.builder()
+                .documentId(documentId)
+                .project(Project.builder().projectId(7L).build())
+                .type(ApprovalType.EXPENSE)
+                .amount(new BigDecimal("500000"))
+                .status(ApprovalStatus.PENDING)
+                .build();
+        given(approvalDocumentRepository.findByIdForUpdateOrThrow(documentId)).willReturn(doc);
+
+        assertThatThrownBy(() -> approvalService.refundApprovedExpense(1L, documentId, "중복 청구"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.APPROVAL_NOT_REFUNDABLE);
+
+        verify(budgetLedgerService, never()).refund(any(), any(), any(), any(), any());
+        assertThat(doc.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("일괄 결재는 문서와 결재선을 한 번씩만 조회하고, 처리할 수 없는 문서는 사유만 담고 나머지는 처리해야 한다")
+    void processApprovals_mixedResults() {
+        Long approverId = 20L;
+        User drafter = User.builder().userId(1L).name("기안자").build();
+        User me = User.builder().userId(approverId).build();
+        User other = User.builder().userId(30L).build();
+
+        // 101: 내가 마지막 결재자 -> 최종 승인
+        ApprovalDocument finalDoc = pendingDocument(101L, drafter, 1, approverId);
+        ApprovalLine finalLine = line(1L, finalDoc, me, 1, ApprovalStatus.PENDING);
+        // 102: 내 다음 결재자가 있음 -> 차례만 넘김
+        ApprovalDocument middleDoc = pendingDocument(102L, drafter, 1, approverId);
+        ApprovalLine middleLine = line(2L, middleDoc, me, 1, ApprovalStatus.PENDING);
+        ApprovalLine nextLine = line(3L, middleDoc, other, 2, ApprovalStatus.PENDING);
+        // 103: 이미 승인하고 다음 결재자 차례 -> 처리 완료
+        ApprovalDocument doneDoc = pendingDocument(103L, drafter, 2, 30L);
+        ApprovalLine doneLine = line(4L, doneDoc, me, 1, ApprovalStatus.APPROVED);
+        ApprovalLine otherLine = line(5L, doneDoc, other, 2, ApprovalStatus.PENDING);
+
+        List<Long> documentIds = List.of(101L, 102L, 103L, 999L);
+        given(approvalDocumentRepository.findAllByIdForUpdate(documentIds))
+                .willReturn(List.of(finalDoc, middleDoc, doneDoc));
+        given(approvalLineRepository.findByDocumentIdsOrderBySequence(documentIds))
+                .willReturn(List.of(finalLine, middleLine, nextLine, doneLine, otherLine));
+
+        List<ApprovalBulkResultDTO> results = approvalService.processApprovals(approverId,
+                new ApprovalBulkProcessRequestDTO(List.of(101L, 102L, 103L, 101L, 999L), ApprovalStatus.APPROVED, "일괄 승인"));
+
+        assertThat(results).extracting(ApprovalBulkResultDTO::documentId).containsExactly(101L, 102L, 103L, 999L);
+        assertThat(results).extracting(ApprovalBulkResultDTO::success).containsExactly(true, true, false, false);
+        assertThat(results).extracting(ApprovalBulkResultDTO::errorCode)
+                .containsExactly(null, null, ErrorCode.APPROVAL_ALREADY_PROCESSED, ErrorCode.APPROVAL_NOT_FOUND_ALT);
+        assertThat(results.get(0).documentStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(results.get(1).documentStatus()).isEqualTo(ApprovalStatus.PENDING);
+
+        assertThat(middleDoc.getCurrentApproverId()).isEqualTo(30L);
+        assertThat(otherLine.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+        verify(notificationService, times(1)).sendApprovalCompleteNotification(finalDoc);
+        // 문서별 단건 조회를 하지 않아야 함
+        verify(approvalLineRepository, never()).findByDocument_DocumentIdAndSequence(any(), any());
+        verify(approvalLineRepository, never()).findByDocumentAndApproverEntity(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 최종 승인되는 비용 결재는 프로젝트별로 묶어 예산을 차감하고, 차감하지 못한 문서는 처리하지 않아야 한다")
+    void processApprovals_groupsBudgetByProject() {
+        Long approverId = 20L;
+        Long projectId = 7L;
+        User drafter = User.builder().userId(1L).name("기안자").build();
+        User me = User.builder().userId(approverId).build();
+        Project project = Project.builder().projectId(projectId).build();
+
+        ApprovalDocument fundedDoc = expenseDocument(201L, drafter, project, "300000", approverId);
+        ApprovalLine fundedLine = line(1L, fundedDoc, me, 1, ApprovalStatus.PENDING);
+        ApprovalDocument unfundedDoc = expenseDocument(202L, drafter, project, "900000", approverId);
+        ApprovalLine unfundedLine = line(2L, unfundedDoc, me, 1, ApprovalStatus.PENDING);
+
+        List<Long> documentIds = List.of(201L, 202L);
+        given(approvalDocumentRepository.findAllByIdForUpdate(documentIds)).willReturn(List.of(fundedDoc, unfundedDoc));
+        given(approvalLineRepository.findByDocumentIdsOrderBySequence(documentIds))
+                .willReturn(List.of(fundedLine, unfundedLine));
+        given(budgetLedgerService.spendAll(projectId,
+                Map.of(201L, new BigDecimal("300000"), 202L, new BigDecimal("900000")), approverId))
+                .willReturn(Set.of(201L));
+
+        List<ApprovalBulkResultDTO> results = approvalService.processApprovals(approverId,
+                new ApprovalBulkProcessRequestDTO(documentIds, ApprovalStatus.APPROVED, null));
+
+        assertThat(results).extracting(ApprovalBulkResultDTO::errorCode)
+                .containsExactly(null, ErrorCode.BUDGET_INSUFFICIENT);
+        assertThat(fundedDoc.getStatus()).isEqualTo(ApprovalStatus.APPROVED);
+        assertThat(unfundedDoc.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+        assertThat(unfundedLine.getStatus()).isEqualTo(ApprovalStatus.PENDING);
+        verify(budgetLedgerService, times(1)).spendAll(any(), any(), any());
+        verify(budgetLedgerService, never()).spend(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 반려는 반려 사유가 없으면 아무 문서도 조회하지 않고 거부해야 한다")
+    void processApprovals_rejectWithoutComment() {
+        assertThatThrownBy(() -> approvalService.processApprovals(20L,
+                new ApprovalBulkProcessRequestDTO(List.of(101L), ApprovalStatus.REJECTED, " ")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.APPROVAL_REJECT_COMMENT_REQUIRED);
+
+        verify(approvalDocumentRepository, never()).findAllByIdForUpdate(any());
+    }
+
+    private ApprovalDocument pendingDocument(Long documentId, User drafter, int currentSequence, Long currentApproverId) {
+        return ApprovalDocument.builder()
+                .documentId(documentId)
+                .drafter(drafter)
+                .type(ApprovalType.LEAVE)
+                .status(ApprovalStatus.PENDING)
+                .currentSequence(currentSequence)
+                .currentApproverId(currentApproverId)
+                .build();
+    }
+
+    private ApprovalDocument expenseDocument(Long documentId, User drafter, Project project, String amount, Long approverId) {
+        return ApprovalDocument.builder()
+                .documentId(documentId)
+                .drafter(drafter)
+                .project(project)
+                .type(ApprovalType.EXPENSE)
+                .amount(new BigDecimal(amount))
+                .status(ApprovalStatus.PENDING)
+                .currentSequence(1)
+                .currentApproverId(approverId)
+                .build();
+    }
+
+    private ApprovalLine line(Long id, ApprovalDocument document, User approver, int sequence, ApprovalStatus status) {
+        return ApprovalLine.builder()
+                .id(id).document(document).approver(approver)
+                .sequence(sequence).status(status).build();
     }
 }
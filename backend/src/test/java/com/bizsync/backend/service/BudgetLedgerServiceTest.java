@@ -0,0 +1,241 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.common.cache.EntityCacheInvalidator;
+import com.bizsync.backend.common.exception.BusinessException;
+import com.bizsync.backend.common.exception.ErrorCode;
+import com.bizsync.backend.domain.entity.BudgetEntryType;
+import com.bizsync.backend.domain.entity.BudgetLedgerEntry;
+import com.bizsync.backend.domain.entity.Project;
+import com.bizsync.backend.domain.repository.BudgetLedgerRepository;
+import com.bizsync.backend.dto.response.BudgetLedgerEntryDTO;
+import com.bizsync.backend.dto.response.BudgetLedgerPageDTO;
+import com.bizsync.backend.mapper.BudgetLedgerMapper;
+import com.bizsync.backend.mapper.ProjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetLedgerServiceTest {
+
+    @InjectMocks
+    private BudgetLedgerService budgetLedgerService;
+
+    @Mock
+    private BudgetLedgerMapper budgetLedgerMapper;
+
+    @Mock
+    private BudgetLedgerRepository budgetLedgerRepository;
+
+    @Mock
+    private ProjectMapper projectMapper;
+
+    @Mock
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    private final Long projectId = 7L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(budgetLedgerService, "compactLagSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("예산 사용에 성공하면 프로젝트 캐시를 무효화하고 결재 문서와 처리자를 담은 EXPENSE 항목을 원장에 추가한다")
+    void spend_appendsExpenseEntry() {
+        BigDecimal amount = new BigDecimal("10000");
+        given(projectMapper.spendBudget(projectId, amount)).willReturn(1);
+
+        budgetLedgerService.spend(projectId, 100L, amount, 20L);
+
+        verify(entityCacheInvalidator).invalidate(Project.class, projectId);
+        ArgumentCaptor<BudgetLedgerEntry> entry = ArgumentCaptor.forClass(BudgetLedgerEntry.class);
+        verify(budgetLedgerMapper).insertEntry(entry.capture());
+        assertThat(entry.getValue().getEntryType()).isEqualTo(BudgetEntryType.EXPENSE);
+        assertThat(entry.getValue().getAmount()).isEqualByComparingTo(amount);
+        assertThat(entry.getValue().getDocumentId()).isEqualTo(100L);
+        assertThat(entry.getValue().getCreatedBy()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 잔액을 담아 BUDGET_INSUFFICIENT 예외를 던지고 원장에 추가하지 않는다")
+    void spend_insufficient() {
+        BigDecimal amount = new BigDecimal("500000");
+        given(projectMapper.spendBudget(projectId, amount)).willReturn(0);
+        given(projectMapper.selectRemainingBudget(projectId)).willReturn(Optional.of(new BigDecimal("120000")));
+
+        assertThatThrownBy(() -> budgetLedgerService.spend(projectId, 100L, amount, 20L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BUDGET_INSUFFICIENT)
+                .hasMessageContaining("120000");
+
+        verify(budgetLedgerMapper, never()).insertEntry(any());
+    }
+
+    @Test
+    @DisplayName("묶음 사용은 합계가 잔액을 넘으면 문서 순서대로 잔액 안에서 가능한 만큼만 사용하고 원장에 한 번에 추가한다")
+    @SuppressWarnings("unchecked")
+    void spendAll_fallsBackToPerDocument() {
+        Map<Long, BigDecimal> amounts = new LinkedHashMap<>();
+        amounts.put(201L, new BigDecimal("300000"));
+        amounts.put(202L, new BigDecimal("900000"));
+        amounts.put(203L, new BigDecimal("100000"));
+        given(projectMapper.spendBudget(projectId, new BigDecimal("1300000"))).willReturn(0);
+        given(projectMapper.spendBudget(projectId, new BigDecimal("300000"))).willReturn(1);
+        given(projectMapper.spendBudget(projectId, new BigDecimal("900000"))).willReturn(0);
+        given(projectMapper.spendBudget(projectId, new BigDecimal("100000"))).willReturn(1);
+
+        Set<Long> charged = budgetLedgerService.spendAll(projectId, amounts, 20L);
+
+        assertThat(charged).containsExactly(201L, 203L);
+        ArgumentCaptor<List<BudgetLedgerEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(budgetLedgerMapper).insertEntries(entries.capture());
+        assertThat(entries.getValue()).extracting(BudgetLedgerEntry::getDocumentId).containsExactly(201L, 203L);
+    }
+
+    @Test
+    @DisplayName("환급에 성공하면 결재 문서와 사유를 담은 음수 REFUND 항목을 원장에 추가한다")
+    void refund_appendsNegativeRefundEntry() {
+        BigDecimal amount = new BigDecimal("30000");
+        given(projectMapper.refundBudget(projectId, amount)).willReturn(1);
+
+        budgetLedgerService.refund(projectId, 100L, amount, 1L, "중복 청구");
+
+        verify(entityCacheInvalidator).invalidate(Project.class, projectId);
+        ArgumentCaptor<BudgetLedgerEntry> entry = ArgumentCaptor.forClass(BudgetLedgerEntry.class);
+        verify(budgetLedgerMapper).insertEntry(entry.capture());
+        assertThat(entry.getValue().getEntryType()).isEqualTo(BudgetEntryType.REFUND);
+        assertThat(entry.getValue().getAmount()).isEqualByComparingTo("-30000");
+        assertThat(entry.getValue().getDocumentId()).isEqualTo(100L);
+        assertThat(entry.getValue().getMemo()).isEqualTo("중복 청구");
+    }
+
+    @Test
+    @DisplayName("환급 금액이 사용 예산보다 크면 BUDGET_REFUND_EXCEEDS_USED 예외를 던지고 원장에 추가하지 않는다")
+    void refund_exceedsUsed() {
+        BigDecimal amount = new BigDecimal("30000");
+        given(projectMapper.refundBudget(projectId, amount)).willReturn(0);
+        given(projectMapper.selectRemainingBudget(projectId)).willReturn(Optional.of(new BigDecimal("990000")));
+
+        assertThatThrownBy(() -> budgetLedgerService.refund(projectId, 100L, amount, 1L, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BUDGET_REFUND_EXCEEDS_USED);
+
+        verify(budgetLedgerMapper, never()).insertEntry(any());
+    }
+
+    @Test
+    @DisplayName("보정에 성공하면 변동액 그대로 ADJUSTMENT 항목을 원장에 추가한다")
+    void adjust_appendsAdjustmentEntry() {
+        BigDecimal delta = new BigDecimal("-5000");
+        given(projectMapper.adjustUsedBudget(projectId, delta)).willReturn(1);
+
+        budgetLedgerService.adjust(projectId, delta, 1L, "오입력 정정");
+
+        ArgumentCaptor<BudgetLedgerEntry> entry = ArgumentCaptor.forClass(BudgetLedgerEntry.class);
+        verify(budgetLedgerMapper).insertEntry(entry.capture());
+        assertThat(entry.getValue().getEntryType()).isEqualTo(BudgetEntryType.ADJUSTMENT);
+        assertThat(entry.getValue().getAmount()).isEqualByComparingTo(delta);
+        assertThat(entry.getValue().getDocumentId()).isNull();
+    }
+
+    @Test
+    @DisplayName("보정 결과가 0원 미만이거나 총 예산을 넘으면 BUDGET_ADJUSTMENT_OUT_OF_RANGE 예외를 던진다")
+    void adjust_outOfRange() {
+        BigDecimal delta = new BigDecimal("5000000");
+        given(projectMapper.adjustUsedBudget(projectId, delta)).willReturn(0);
+        given(projectMapper.selectRemainingBudget(projectId)).willReturn(Optional.of(new BigDecimal("100000")));
+
+        assertThatThrownBy(() -> budgetLedgerService.adjust(projectId, delta, 1L, "정정"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BUDGET_ADJUSTMENT_OUT_OF_RANGE);
+
+        verify(budgetLedgerMapper, never()).insertEntry(any());
+    }
+
+    @Test
+    @DisplayName("압축할 새 항목이 없으면 체크포인트를 갱신하지 않는다")
+    void compact_nothingToCompact() {
+        given(budgetLedgerMapper.selectCompactionBound(300L)).willReturn(50L);
+        given(budgetLedgerMapper.selectCompactedEntryId()).willReturn(50L);
+
+        budgetLedgerService.compact();
+
+        verify(budgetLedgerMapper, never()).compactCheckpoints(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 압축한 항목 다음부터 지연 시간 이전 항목까지 체크포인트에 합친다")
+    void compact_mergesTail() {
+        given(budgetLedgerMapper.selectCompactionBound(300L)).willReturn(120L);
+        given(budgetLedgerMapper.selectCompactedEntryId()).willReturn(50L);
+
+        budgetLedgerService.compact();
+
+        verify(budgetLedgerMapper).compactCheckpoints(50L, 120L);
+    }
+
+    @Test
+    @DisplayName("압축 이후 늦게 커밋된 항목이 있는 프로젝트만 체크포인트를 다시 계산한다")
+    void reconcile_rebuildsStaleCheckpoints() {
+        given(budgetLedgerMapper.selectStaleCheckpointProjectIds()).willReturn(List.of(1L, 7L));
+
+        budgetLedgerService.reconcile();
+
+        verify(budgetLedgerMapper).rebuildCheckpoint(1L);
+        verify(budgetLedgerMapper).rebuildCheckpoint(7L);
+    }
+
+    @Test
+    @DisplayName("어긋난 체크포인트가 없으면 다시 계산하지 않는다")
+    void reconcile_nothingStale() {
+        given(budgetLedgerMapper.selectStaleCheckpointProjectIds()).willReturn(List.of());
+
+        budgetLedgerService.reconcile();
+
+        verify(budgetLedgerMapper, never()).rebuildCheckpoint(any());
+    }
+
+    @Test
+    @DisplayName("원장은 size + 1건을 조회해 다음 페이지 여부와 커서를 계산한다")
+    void getLedger_keysetPage() {
+        List<BudgetLedgerEntryDTO> rows = LongStream.of(30, 29, 28, 27)
+                .mapToObj(id -> new BudgetLedgerEntryDTO(id, BudgetEntryType.EXPENSE, BigDecimal.TEN,
+                        id, null, LocalDateTime.now(), 20L))
+                .toList();
+        given(budgetLedgerRepository.findLedgerPage(eq(projectId), eq(31L), any(Pageable.class))).willReturn(rows);
+        given(budgetLedgerMapper.selectUsedBudget(projectId)).willReturn(new BigDecimal("40"));
+
+        BudgetLedgerPageDTO page = budgetLedgerService.getLedger(projectId, 31L, 3);
+
+        assertThat(page.entries()).hasSize(3);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(28L);
+        assertThat(page.usedBudget()).isEqualByComparingTo("40");
+    }
+}
@@ -0,0 +1,133 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.entity.ProjectStatus;
+import com.bizsync.backend.domain.event.ApprovalTurnChangedEvent;
+import com.bizsync.backend.domain.event.ProjectStatusChangedEvent;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
+import com.bizsync.backend.domain.repository.ApprovalDocumentRepository;
+import com.bizsync.backend.domain.repository.ProjectMemberRepository;
+import com.bizsync.backend.domain.repository.TaskRepository;
+import com.bizsync.backend.domain.repository.UserCount;
+import com.bizsync.backend.dto.response.DashboardStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardCounterServiceTest {
+
+    @InjectMocks
+    private DashboardCounterService dashboardCounterService;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApprovalDocumentRepository approvalDocumentRepository;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardCounterService, "idleMinutes", 120L);
+
+        given(projectMemberRepository.countByUser_UserIdAndProject_Status(userId, ProjectStatus.IN_PROGRESS)).willReturn(2L);
+        given(taskRepository.countByWorkerIdAndColumnTypeNot(userId, ColumnType.DONE)).willReturn(5L);
+        given(approvalDocumentRepository.countByCurrentApproverId(userId)).willReturn(1L);
+    }
+
+    @Test
+    @DisplayName("통계는 처음 조회할 때만 DB에서 집계하고 이후에는 이벤트로 증감한다")
+    void getStats_loadsOnceAndAppliesEvents() {
+        dashboardCounterService.getStats(userId);
+
+        dashboardCounterService.onTaskChanged(TaskChangedEvent.created(10L, null, new TaskChangedEvent.TaskState(userId, ColumnType.TODO, null)));
+        dashboardCounterService.onTaskChanged(TaskChangedEvent.changed(10L, null,
+                new TaskChangedEvent.TaskState(userId, ColumnType.IN_PROGRESS, null),
+                new TaskChangedEvent.TaskState(userId, ColumnType.DONE, null)));
+        dashboardCounterService.onTaskChanged(TaskChangedEvent.created(10L, null, new TaskChangedEvent.TaskState(userId, ColumnType.TODO, null)));
+        dashboardCounterService.onApprovalTurnChanged(new ApprovalTurnChangedEvent(100L, userId, 2L));
+        dashboardCounterService.onProjectStatusChanged(
+                new ProjectStatusChangedEvent(10L, ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED, List.of(userId)));
+
+        DashboardStatsDTO stats = dashboardCounterService.getStats(userId);
+
+        assertThat(stats.projectCount()).isEqualTo(1L);
+        assertThat(stats.taskCount()).isEqualTo(6L);
+        assertThat(stats.pendingApprovalCount()).isEqualTo(0L);
+        verify(taskRepository, times(1)).countByWorkerIdAndColumnTypeNot(userId, ColumnType.DONE);
+    }
+
+    @Test
+    @DisplayName("대기 중인 결재 수는 결재선 수가 아니라 현재 결재 차례가 넘어올 때만 늘어난다")
+    void onApprovalTurnChanged_countsCurrentApproverOnly() {
+        Long nextApproverId = 2L;
+        given(approvalDocumentRepository.countByCurrentApproverId(nextApproverId)).willReturn(0L);
+        dashboardCounterService.getStats(userId);
+        dashboardCounterService.getStats(nextApproverId);
+
+        // 두 번째 결재자는 기안 시점에는 차례가 아니므로 늘지 않고, 첫 결재자가 승인하면 넘어옴
+        dashboardCounterService.onApprovalTurnChanged(new ApprovalTurnChangedEvent(200L, null, userId));
+        assertThat(dashboardCounterService.getStats(nextApproverId).pendingApprovalCount()).isEqualTo(0L);
+
+        dashboardCounterService.onApprovalTurnChanged(new ApprovalTurnChangedEvent(200L, userId, nextApproverId));
+        assertThat(dashboardCounterService.getStats(userId).pendingApprovalCount()).isEqualTo(1L);
+        assertThat(dashboardCounterService.getStats(nextApproverId).pendingApprovalCount()).isEqualTo(1L);
+
+        dashboardCounterService.onApprovalTurnChanged(new ApprovalTurnChangedEvent(200L, nextApproverId, null));
+        assertThat(dashboardCounterService.getStats(nextApproverId).pendingApprovalCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("재집계 시 메모리 카운터를 DB 집계 값으로 보정한다")
+    void reconcile_resetsToDatabaseCounts() {
+        dashboardCounterService.getStats(userId);
+        dashboardCounterService.onTaskChanged(TaskChangedEvent.created(10L, null, new TaskChangedEvent.TaskState(userId, ColumnType.TODO, null)));
+
+        given(projectMemberRepository.countByUserIdsAndProjectStatus(anyCollection(), eq(ProjectStatus.IN_PROGRESS)))
+                .willReturn(List.of(userCount(userId, 3L)));
+        given(taskRepository.countByWorkerIdsAndColumnTypeNot(anyCollection(), eq(ColumnType.DONE)))
+                .willReturn(List.of(userCount(userId, 4L)));
+        given(approvalDocumentRepository.countByCurrentApproverIds(anyCollection()))
+                .willReturn(List.of());
+
+        dashboardCounterService.reconcile();
+        DashboardStatsDTO stats = dashboardCounterService.getStats(userId);
+
+        assertThat(stats.projectCount()).isEqualTo(3L);
+        assertThat(stats.taskCount()).isEqualTo(4L);
+        assertThat(stats.pendingApprovalCount()).isEqualTo(0L);
+    }
+
+    private UserCount userCount(Long userId, Long count) {
+        return new UserCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
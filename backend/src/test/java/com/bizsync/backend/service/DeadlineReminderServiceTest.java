@@ -0,0 +1,159 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
+import com.bizsync.backend.domain.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineReminderServiceTest {
+
+    @InjectMocks
+    private DeadlineReminderService deadlineReminderService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private final Long projectId = 10L;
+    private final Long taskId = 100L;
+    private final Long workerId = 1L;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deadlineReminderService, "horizonDays", 7L);
+        ReflectionTestUtils.setField(deadlineReminderService, "leadDays", 1L);
+        ReflectionTestUtils.setField(deadlineReminderService, "remindAtValue", "09:00");
+        ReflectionTestUtils.setField(deadlineReminderService, "tickMs", 10L);
+        ReflectionTestUtils.setField(deadlineReminderService, "wheelSize", 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlineReminderService.shutdownWheel();
+    }
+
+    @Test
+    @DisplayName("마감일이 바뀌면 기존 타이머를 취소하고 새 마감일로 다시 예약한다")
+    void onTaskChanged_deadlineChanged_reschedules() {
+        deadlineReminderService.initWheel();
+        LocalDate deadline = today.plusDays(5);
+        TaskRepository.TaskReminderRow reminderRow = reminderRow(today);
+        given(taskRepository.findReminderRowById(taskId)).willReturn(Optional.of(reminderRow));
+
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.created(projectId, taskId, open(deadline)));
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.changed(projectId, taskId,
+                open(deadline), open(today.plusDays(3))));
+        assertThat(deadlineReminderService.getPendingCount()).isEqualTo(1);
+
+        // 알림 시각(어제)이 이미 지난 마감일로 바꾸면 기존 타이머 대신 바로 한 번 발송
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.changed(projectId, taskId,
+                open(today.plusDays(3)), open(today)));
+
+        verify(notificationService, timeout(2000).times(1))
+                .sendDeadlineReminder(workerId, "업무", today, projectId);
+        verify(notificationService, after(300).times(1))
+                .sendDeadlineReminder(anyLong(), any(), any(), anyLong());
+        assertThat(deadlineReminderService.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("업무가 완료 컬럼으로 이동하면 타이머를 취소한다")
+    void onTaskChanged_completed_cancels() {
+        deadlineReminderService.initWheel();
+        LocalDate deadline = today.plusDays(3);
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.created(projectId, taskId, open(deadline)));
+        assertThat(deadlineReminderService.getPendingCount()).isEqualTo(1);
+
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.changed(projectId, taskId,
+                open(deadline), new TaskChangedEvent.TaskState(workerId, ColumnType.DONE, deadline)));
+
+        assertThat(deadlineReminderService.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("업무가 삭제되면 타이머를 취소하고 발송하지 않는다")
+    void onTaskChanged_deleted_cancels() {
+        deadlineReminderService.initWheel();
+        LocalDate deadline = today.plusDays(3);
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.created(projectId, taskId, open(deadline)));
+
+        deadlineReminderService.onTaskChanged(TaskChangedEvent.deleted(projectId, taskId, open(deadline)));
+
+        assertThat(deadlineReminderService.getPendingCount()).isZero();
+        verify(taskRepository, never()).findReminderRowById(any());
+    }
+
+    @Test
+    @DisplayName("적재를 여러 번 실행해도 이미 예약된 업무는 한 번만 발송한다")
+    void reload_twice_firesOnce() {
+        LocalTime remindAt = LocalTime.now().plusSeconds(1);
+        // 알림 시각이 자정을 넘으면 오늘 마감 업무가 지난 알림이 되므로 건너뜀
+        assumeTrue(remindAt.isAfter(LocalTime.now()));
+        ReflectionTestUtils.setField(deadlineReminderService, "leadDays", 0L);
+        ReflectionTestUtils.setField(deadlineReminderService, "remindAtValue", remindAt.toString());
+        deadlineReminderService.initWheel();
+
+        TaskRepository.TaskStateRow row = mock(TaskRepository.TaskStateRow.class);
+        given(row.getTaskId()).willReturn(taskId);
+        given(row.getWorkerId()).willReturn(workerId);
+        given(row.getDeadline()).willReturn(today);
+        given(taskRepository.findOpenTaskRowsByDeadlineBetween(eq(today), eq(today.plusDays(7)), eq(ColumnType.DONE)))
+                .willReturn(List.of(row));
+        TaskRepository.TaskReminderRow reminderRow = reminderRow(today);
+        given(taskRepository.findReminderRowById(taskId)).willReturn(Optional.of(reminderRow));
+
+        deadlineReminderService.reload();
+        deadlineReminderService.reload();
+        assertThat(deadlineReminderService.getPendingCount()).isEqualTo(1);
+
+        verify(notificationService, timeout(3000).times(1))
+                .sendDeadlineReminder(workerId, "업무", today, projectId);
+        verify(notificationService, after(300).times(1))
+                .sendDeadlineReminder(anyLong(), any(), any(), anyLong());
+        assertThat(deadlineReminderService.getPendingCount()).isZero();
+    }
+
+    private TaskChangedEvent.TaskState open(LocalDate deadline) {
+        return new TaskChangedEvent.TaskState(workerId, ColumnType.IN_PROGRESS, deadline);
+    }
+
+    private TaskRepository.TaskReminderRow reminderRow(LocalDate deadline) {
+        TaskRepository.TaskReminderRow row = mock(TaskRepository.TaskReminderRow.class);
+        given(row.getTitle()).willReturn("업무");
+        given(row.getProjectId()).willReturn(projectId);
+        given(row.getWorkerId()).willReturn(workerId);
+        given(row.getColumnType()).willReturn(ColumnType.IN_PROGRESS);
+        given(row.getDeadline()).willReturn(deadline);
+        return row;
+    }
+}
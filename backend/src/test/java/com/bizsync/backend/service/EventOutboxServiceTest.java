@@ -0,0 +1,89 @@
+package com.bizsync.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxServiceTest {
+
+    @InjectMocks
+    private EventOutboxService eventOutboxService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventOutboxService, "queueCapacity", 100);
+        eventOutboxService.initExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        eventOutboxService.shutdownExecutor();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 등록한 메시지는 커밋 후에 등록 순서대로 한 번씩만 보낸다")
+    void send_dispatchesAfterCommitInOrder() throws InterruptedException {
+        TransactionSynchronizationManager.initSynchronization();
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        eventOutboxService.send("/topic/projects/1", "BOARD_UPDATE");
+        eventOutboxService.execute(delivered::countDown);
+        eventOutboxService.send("/topic/projects/2", "BOARD_UPDATE");
+        eventOutboxService.send("/topic/projects/1", "BOARD_UPDATE");
+
+        verify(messagingTemplate, after(100).never()).convertAndSend(anyString(), any(Object.class));
+        assertThat(delivered.getCount()).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(messagingTemplate, timeout(1000)).convertAndSend("/topic/projects/2", (Object) "BOARD_UPDATE");
+        InOrder order = inOrder(messagingTemplate);
+        order.verify(messagingTemplate).convertAndSend("/topic/projects/1", (Object) "BOARD_UPDATE");
+        order.verify(messagingTemplate).convertAndSend("/topic/projects/2", (Object) "BOARD_UPDATE");
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 등록한 메시지는 보내지 않는다")
+    void send_discardsOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        eventOutboxService.send("/topic/projects/1", "BOARD_UPDATE");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(messagingTemplate, after(200).never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,105 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.Notification;
+import com.bizsync.backend.domain.repository.NotificationRepository;
+import com.bizsync.backend.dto.response.NotificationDTO;
+import com.bizsync.backend.mapper.NotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationInboxServiceTest {
+
+    @InjectMocks
+    private NotificationInboxService notificationInboxService;
+
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private PresenceService presenceService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final Long onlineUserId = 1L;
+    private final Long offlineUserId = 2L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationInboxService, "batchSize", 500);
+    }
+
+    @Test
+    @DisplayName("같은 문서 알림은 한 건으로 합쳐 한 번에 저장하고, 접속 중인 사용자에게만 전달한다")
+    @SuppressWarnings("unchecked")
+    void flush_coalescesAndDeliversToOnlineUsersOnly() {
+        given(presenceService.isNotificationOnline(onlineUserId)).willReturn(true);
+        given(presenceService.isNotificationOnline(offlineUserId)).willReturn(false);
+        given(notificationRepository.countByUserIdAndReadFalse(onlineUserId)).willReturn(0L);
+
+        notificationInboxService.append(onlineUserId, "APPROVAL", "1차 승인", 100L);
+        notificationInboxService.append(onlineUserId, "APPROVAL", "2차 승인", 100L);
+        notificationInboxService.append(onlineUserId, "APPROVAL", "최종 승인", 100L);
+        notificationInboxService.append(offlineUserId, "APPROVAL", "결재 요청", 100L);
+
+        notificationInboxService.flush();
+
+        ArgumentCaptor<List<Notification>> rows = ArgumentCaptor.forClass(List.class);
+        verify(notificationMapper, times(1)).insertNotifications(rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(rows.getValue().get(0).getMessage()).isEqualTo("최종 승인");
+        assertThat(rows.getValue().get(0).getMergedCount()).isEqualTo(3);
+
+        ArgumentCaptor<NotificationDTO> pushed = ArgumentCaptor.forClass(NotificationDTO.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/sub/notification/" + onlineUserId), pushed.capture());
+        assertThat(pushed.getValue().count()).isEqualTo(3);
+        verify(messagingTemplate, never()).convertAndSend(eq("/sub/notification/" + offlineUserId), any(Object.class));
+
+        // 다음 flush는 비어 있으므로 저장하지 않음
+        notificationInboxService.flush();
+        verify(notificationMapper, times(1)).insertNotifications(anyList());
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수는 처음 한 번만 DB에서 세고 이후에는 저장/읽음 처리로 증감한다")
+    void unreadCount_loadsOnceAndAppliesDeltas() {
+        given(notificationRepository.countByUserIdAndReadFalse(offlineUserId)).willReturn(4L);
+        given(presenceService.isNotificationOnline(offlineUserId)).willReturn(false);
+        given(notificationMapper.markAsRead(offlineUserId, 10L)).willReturn(1);
+
+        assertThat(notificationInboxService.getUnreadCount(offlineUserId)).isEqualTo(4L);
+
+        notificationInboxService.append(offlineUserId, "BOARD", "마감 알림", null);
+        notificationInboxService.append(offlineUserId, "BOARD", "마감 알림", null);
+        notificationInboxService.flush();
+
+        assertThat(notificationInboxService.getUnreadCount(offlineUserId)).isEqualTo(6L);
+        assertThat(notificationInboxService.markAsRead(offlineUserId, 10L)).isEqualTo(5L);
+        verify(notificationRepository, times(1)).countByUserIdAndReadFalse(offlineUserId);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,82 @@
+package com.bizsync.backend.service;
+
+import com.bizsync.backend.domain.entity.ColumnType;
+import com.bizsync.backend.domain.event.TaskChangedEvent;
+import com.bizsync.backend.mapper.ProjectStatsMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatsServiceTest {
+
+    @InjectMocks
+    private ProjectStatsService projectStatsService;
+
+    @Mock
+    private ProjectStatsMapper projectStatsMapper;
+
+    private final Long projectId = 1L;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("마감이 지난 미완료 업무를 완료 컬럼으로 옮기면 진행 중 -1, 완료 +1, 마감 초과 -1이 반영된다")
+    void onTaskChanged_moveOverdueTaskToDone() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        projectStatsService.onTaskChanged(TaskChangedEvent.changed(projectId, null,
+                new TaskChangedEvent.TaskState(10L, ColumnType.IN_PROGRESS, yesterday),
+                new TaskChangedEvent.TaskState(10L, ColumnType.DONE, yesterday)));
+
+        verify(projectStatsMapper).applyDelta(projectId, 0, -1, 1, 0, -1);
+    }
+
+    @Test
+    @DisplayName("집계 값이 그대로인 변경은 반영하지 않는다")
+    void onTaskChanged_noEffectiveChange() {
+        projectStatsService.onTaskChanged(TaskChangedEvent.changed(projectId, null,
+                new TaskChangedEvent.TaskState(10L, ColumnType.TODO, null),
+                new TaskChangedEvent.TaskState(20L, ColumnType.TODO, null)));
+
+        verifyNoInteractions(projectStatsMapper);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 여러 변경은 커밋 직전에 프로젝트당 한 번으로 합쳐 반영한다")
+    void onTaskChanged_coalescesWithinTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        for (int i = 0; i < 3; i++) {
+            projectStatsService.onTaskChanged(TaskChangedEvent.created(projectId, null,
+                    new TaskChangedEvent.TaskState(null, ColumnType.TODO, null)));
+        }
+        verify(projectStatsMapper, never()).applyDelta(eq(projectId), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(projectStatsMapper, times(1)).applyDelta(projectId, 3, 0, 0, 3, 0);
+    }
+}
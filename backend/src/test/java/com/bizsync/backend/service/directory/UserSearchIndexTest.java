@@ -0,0 +1,88 @@
+package com.bizsync.backend.service.directory;
+
+import com.bizsync.backend.dto.response.UserSummaryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private final UserSearchIndex index = new UserSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(user(1L, "홍길동", "hong@bizsync.com", "개발팀"));
+        index.put(user(2L, "김철수", "kim@bizsync.com", "영업팀"));
+        index.put(user(3L, "박닭갈", "dak@bizsync.com", "개발팀"));
+        index.put(user(4L, "길동현", "gil@bizsync.com", "인사팀"));
+    }
+
+    @Test
+    @DisplayName("한글 음절은 자모로 풀어 비교하므로 입력 중인 음절과 겹받침 앞부분도 일치해야 한다")
+    void search_matchesPartialSyllables() {
+        assertThat(ids("홍기")).containsExactly(1L);
+        assertThat(ids("닥")).isEmpty();
+        assertThat(ids("달")).containsExactly(3L);
+        assertThat(UserSearchIndex.normalize("닭 Kim")).isEqualTo("ㄷㅏㄹㄱkim");
+    }
+
+    @Test
+    @DisplayName("이름 초성, 이메일, 부서로도 검색해야 한다")
+    void search_matchesChoseongEmailAndDepartment() {
+        assertThat(ids("ㅎㄱㄷ")).containsExactly(1L);
+        assertThat(ids("kim@")).containsExactly(2L);
+        assertThat(ids("개발")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids("없는사람")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 앞부분 일치가 이름 중간 일치보다 앞에 오고, 결과는 limit건까지만 반환해야 한다")
+    void search_ranksPrefixFirstAndLimits() {
+        assertThat(ids("길동")).containsExactly(4L, 1L);
+        assertThat(index.search("bizsync", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 바뀌면 이전 값으로는 더 이상 검색되지 않아야 한다")
+    void put_replacesPreviousTerms() {
+        index.put(user(2L, "김영희", "kim@bizsync.com", "영업팀"));
+
+        assertThat(ids("철수")).isEmpty();
+        assertThat(ids("영희")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("전체 교체용 데이터를 읽은 뒤 들어온 갱신은 전체 교체 후에도 유지해야 한다")
+    void replaceAll_keepsNewerUpdates() {
+        long readVersion = index.version();
+        index.put(user(2L, "김영희", "kim@bizsync.com", "영업팀"));
+
+        index.replaceAll(List.of(
+                user(1L, "홍길동", "hong@bizsync.com", "개발팀"),
+                user(2L, "김철수", "kim@bizsync.com", "영업팀")), readVersion);
+
+        assertThat(ids("영희")).containsExactly(2L);
+        assertThat(ids("철수")).isEmpty();
+        assertThat(index.all()).extracting(UserSummaryDTO::userId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지는 커서 다음 사용자부터 사용자 ID 순으로 반환해야 한다")
+    void page_startsAfterCursor() {
+        assertThat(index.page(null, 2)).extracting(UserSummaryDTO::userId).containsExactly(1L, 2L);
+        assertThat(index.page(2L, 5)).extracting(UserSummaryDTO::userId).containsExactly(3L, 4L);
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, 10).stream().map(UserSummaryDTO::userId).toList();
+    }
+
+    private UserSummaryDTO user(Long userId, String name, String email, String department) {
+        return new UserSummaryDTO(userId, name, email, department, "MEMBER", "");
+    }
+}
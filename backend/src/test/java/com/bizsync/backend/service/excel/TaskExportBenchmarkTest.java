@@ -0,0 +1,89 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+
+/**
+ * 업무 내보내기 형식별 처리량(rows/sec)과 CPU 시간 비교
+ *
+ * <p>DB 없이 같은 행을 각 라이터에 흘려 보내 직렬화 비용만 측정합니다. 기본 test 태스크에서는 제외되며
+ * {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class TaskExportBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_ROWS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void compareExportFormats() throws IOException {
+        for (TaskExportFormat format : TaskExportFormat.values()) {
+            export(format, WARMUP_ROWS);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("%-7s %12s %12s %10s %14s%n", "format", "rows/sec", "wall(ms)", "cpu(ms)", "bytes");
+        for (TaskExportFormat format : TaskExportFormat.values()) {
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            long wallStart = System.nanoTime();
+
+            long bytes = export(format, ROWS);
+
+            long wallNanos = System.nanoTime() - wallStart;
+            long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+            System.out.printf("%-7s %12.0f %12d %10d %14d%n",
+                    format, ROWS / (wallNanos / 1e9), wallNanos / 1_000_000, cpuNanos / 1_000_000, bytes);
+        }
+    }
+
+    private long export(TaskExportFormat format, int rows) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (TaskExportWriter writer = format.createWriter(out, objectMapper)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(row(i));
+            }
+            writer.finish();
+        }
+        return out.count;
+    }
+
+    private TaskExcelRowDTO row(int i) {
+        return new TaskExcelRowDTO(
+                "진행 중",
+                "업무 " + i,
+                "user" + (i % 50) + "@bizsync.com",
+                LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                "상세 내용 " + i + ", 검토 필요");
+    }
+
+    /**
+     * 받은 바이트 수만 세는 출력 스트림 (소켓 대신 사용)
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
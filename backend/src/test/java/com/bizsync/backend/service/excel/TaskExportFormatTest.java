@@ -0,0 +1,39 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.dto.response.kanban.TaskExcelRowDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskExportFormatTest {
+
+    @Test
+    @DisplayName("Accept 헤더의 우선순위에 따라 내보내기 형식을 고르고, 맞는 형식이 없으면 XLSX를 사용한다")
+    void fromAcceptHeader() {
+        assertThat(TaskExportFormat.fromAcceptHeader(null)).isEqualTo(TaskExportFormat.XLSX);
+        assertThat(TaskExportFormat.fromAcceptHeader("application/json, text/plain, */*")).isEqualTo(TaskExportFormat.XLSX);
+        assertThat(TaskExportFormat.fromAcceptHeader("text/csv")).isEqualTo(TaskExportFormat.CSV);
+        assertThat(TaskExportFormat.fromAcceptHeader("application/x-ndjson")).isEqualTo(TaskExportFormat.NDJSON);
+        assertThat(TaskExportFormat.fromAcceptHeader("text/csv;q=0.5, application/x-ndjson")).isEqualTo(TaskExportFormat.NDJSON);
+    }
+
+    @Test
+    @DisplayName("CSV는 쉼표, 따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싸고 빈 값은 빈 칸으로 쓴다")
+    void csvWriter_quotesSpecialCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (TaskCsvWriter writer = new TaskCsvWriter(out)) {
+            writer.write(new TaskExcelRowDTO("할 일", "보고서, 초안", null, LocalDate.of(2025, 1, 31), "\"긴급\"\n확인"));
+            writer.finish();
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "columnName,title,workerEmail,deadline,content\r\n"
+                        + "할 일,\"보고서, 초안\",,2025-01-31,\"\"\"긴급\"\"\n확인\"\r\n");
+    }
+}
@@ -0,0 +1,68 @@
+package com.bizsync.backend.service.excel;
+
+import com.bizsync.backend.common.exception.ResourceNotFoundException;
+import com.bizsync.backend.domain.entity.KanbanColumn;
+import com.bizsync.backend.domain.entity.Task;
+import com.bizsync.backend.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskImportContextTest {
+
+    private final KanbanColumn todo = KanbanColumn.builder().columnId(1L).name("할 일").build();
+    private final KanbanColumn doing = KanbanColumn.builder().columnId(2L).name("진행 중").build();
+
+    @Test
+    @DisplayName("같은 컬럼의 행들은 기존 최대 순서 다음부터 서로 다른 순서를 받아야 한다")
+    void toTask_assignsSequencePerColumn() {
+        // given: 할 일 컬럼에는 이미 순서 3까지 업무가 있고, 진행 중 컬럼은 비어 있음
+        TaskImportContext context = new TaskImportContext(10L, 1L, List.of(todo, doing), Map.of(1L, 3), 500);
+
+        // when
+        Task first = context.toTask(new TaskSheetRow(2, "할 일", "업무1", null, null, null));
+        Task second = context.toTask(new TaskSheetRow(3, "할 일", "업무2", null, null, null));
+        Task third = context.toTask(new TaskSheetRow(4, "진행 중", "업무3", null, "2025-01-31", null));
+
+        // then
+        assertThat(first.getSequence()).isEqualTo(4);
+        assertThat(second.getSequence()).isEqualTo(5);
+        assertThat(third.getSequence()).isEqualTo(1);
+        assertThat(third.getDeadline()).hasToString("2025-01-31");
+    }
+
+    @Test
+    @DisplayName("담당자는 배치마다 처음 보는 이메일만 조회하고, 없는 이메일은 담당자 없이 생성한다")
+    void workers_resolvedOncePerEmail() {
+        TaskImportContext context = new TaskImportContext(10L, 1L, List.of(todo), Map.of(), 500);
+        User kim = User.builder().userId(7L).email("kim@bizsync.com").build();
+        List<TaskSheetRow> rows = List.of(
+                new TaskSheetRow(2, "할 일", "업무1", "kim@bizsync.com", null, null),
+                new TaskSheetRow(3, "할 일", "업무2", "ghost@bizsync.com", null, null)
+        );
+
+        Set<String> emails = context.unresolvedEmails(rows);
+        context.registerWorkers(emails, List.of(kim));
+
+        assertThat(emails).containsExactlyInAnyOrder("kim@bizsync.com", "ghost@bizsync.com");
+        assertThat(context.unresolvedEmails(rows)).isEmpty();
+        assertThat(context.toTask(rows.get(0)).getWorker()).isSameAs(kim);
+        assertThat(context.isUnknownWorker(rows.get(1))).isTrue();
+        assertThat(context.toTask(rows.get(1)).getWorker()).isNull();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 컬럼명은 예외가 발생한다")
+    void toTask_unknownColumn() {
+        TaskImportContext context = new TaskImportContext(10L, 1L, List.of(todo), Map.of(), 500);
+
+        assertThatThrownBy(() -> context.toTask(new TaskSheetRow(2, "없는 컬럼", "업무", null, null, null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.bizsync.backend.service.reminder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    // 버킷 8개 x 10ms = 한 바퀴 80ms
+    private final HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", 10, TimeUnit.MILLISECONDS, 8, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 지연 시간이 지난 뒤 순서대로 실행해야 한다")
+    void schedule_firesAfterDelayAcrossRounds() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        long start = System.nanoTime();
+
+        wheel.schedule(() -> {
+            fired.add("late");
+            latch.countDown();
+        }, 250, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> {
+            fired.add("early");
+            latch.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+        assertThat(wheel.pendingCount()).isEqualTo(2);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("early", "late");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(250);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 실행하지 않고 대기 수에서 빠져야 한다")
+    void cancel_removesTimeout() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout cancelled = wheel.schedule(() -> fired.add("cancelled"), 50, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> {
+            fired.add("kept");
+            latch.countDown();
+        }, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.pendingCount()).isEqualTo(1);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("kept");
+        assertThat(wheel.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bizsync.backend.support.querycount;
+
+import com.bizsync.backend.common.datasource.StatementTimingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * 실행되는 SQL 문을 {@link QueryCounter}에 기록하는 DataSource
+ *
+ * <p>{@link StatementTimingDataSource}가 알려주는 {@code execute*} 호출마다 한 번씩 기록합니다.
+ * Hibernate 통계와 달리 MyBatis 매퍼 쿼리도 함께 셀 수 있습니다.
+ *
+ * @author BizSync Team
+ */
+public class CountingDataSource extends StatementTimingDataSource {
+
+    public CountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource, (sql, elapsedNanos) -> QueryCounter.record(sql));
+    }
+}
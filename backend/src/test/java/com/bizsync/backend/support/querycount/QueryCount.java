@@ -0,0 +1,67 @@
+package com.bizsync.backend.support.querycount;
+
+import java.util.List;
+
+/**
+ * 측정 구간에서 실행된 SQL 문 집계
+ *
+ * <p>JPA(Hibernate)와 MyBatis가 실행한 문장을 모두 포함하며, 배치 실행({@code executeBatch})은 한 번으로 셉니다.
+ * 예산을 넘으면 실행된 SQL 목록을 실패 메시지에 담아 어떤 쿼리가 늘었는지 바로 볼 수 있습니다.
+ *
+ * @param selects    SELECT 문 수
+ * @param inserts    INSERT 문 수
+ * @param updates    UPDATE 문 수 (MERGE, UPSERT 포함)
+ * @param deletes    DELETE 문 수
+ * @param others     그 밖의 문장 수
+ * @param statements 실행 순서대로 기록한 SQL
+ * @author BizSync Team
+ */
+public record QueryCount(int selects, int inserts, int updates, int deletes, int others, List<String> statements) {
+
+    /**
+     * 전체 문장 수
+     */
+    public int total() {
+        return selects + inserts + updates + deletes + others;
+    }
+
+    /**
+     * 쓰기 문장 수 (INSERT + UPDATE + DELETE)
+     */
+    public int writes() {
+        return inserts + updates + deletes;
+    }
+
+    /**
+     * SELECT 문이 {@code max}회 이하인지 검증합니다.
+     */
+    public QueryCount assertSelectsAtMost(int max) {
+        return check("SELECT", selects, max);
+    }
+
+    /**
+     * 쓰기 문장이 {@code max}회 이하인지 검증합니다.
+     */
+    public QueryCount assertWritesAtMost(int max) {
+        return check("INSERT/UPDATE/DELETE", writes(), max);
+    }
+
+    /**
+     * 전체 문장이 {@code max}회 이하인지 검증합니다.
+     */
+    public QueryCount assertTotalAtMost(int max) {
+        return check("전체", total(), max);
+    }
+
+    private QueryCount check(String kind, int actual, int max) {
+        if (actual > max) {
+            StringBuilder message = new StringBuilder()
+                    .append(kind).append(" 문장 예산 초과: ").append(actual).append("회 실행 (예산 ").append(max).append("회)");
+            for (int i = 0; i < statements.size(); i++) {
+                message.append(System.lineSeparator()).append(String.format("%3d) ", i + 1)).append(statements.get(i));
+            }
+            throw new AssertionError(message.toString());
+        }
+        return this;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bizsync.backend.support.querycount;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource를 {@link CountingDataSource}로 감싸는 테스트 설정
+ *
+ * <p>{@code @Import(QueryCountConfiguration.class)}로 가져오면 JPA와 MyBatis가 모두 감싼 DataSource를 사용하므로,
+ * 테스트에서 {@link QueryCounter#measure(QueryCounter.Measured)}로 요청이나 서비스 호출의 쿼리 수를 셀 수 있습니다.
+ * 읽기 전용 복제본 라우팅을 켠 경우에도 주 DataSource({@code dataSource})만 감싸 같은 문장을 두 번 세지 않습니다.
+ *
+ * @author BizSync Team
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountConfiguration {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.bizsync.backend.support.querycount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문을 세는 카운터
+ *
+ * <p>{@link CountingDataSource}가 문장을 실행할 때마다 {@link #record(String)}를 호출하며,
+ * {@link #measure(Measured)}로 측정 중인 스레드의 문장만 셉니다.
+ * MockMvc 요청은 테스트 스레드에서 필터, 인터셉터, 커밋 후 리스너까지 실행되므로 요청 하나의 전체 쿼리가 잡히고,
+ * 아웃박스 전달이나 스케줄러처럼 다른 스레드에서 도는 작업은 섞이지 않습니다.
+ *
+ * @author BizSync Team
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 작업을 실행하는 동안 현재 스레드에서 실행된 SQL 문을 셉니다.
+     *
+     * @param action 측정할 작업
+     * @return SQL 문 집계
+     * @throws Exception 작업이 던진 예외
+     */
+    public static QueryCount measure(Measured action) throws Exception {
+        Recording previous = CURRENT.get();
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        return recording.toQueryCount();
+    }
+
+    /**
+     * 실행된 SQL 문을 기록합니다. 측정 중이 아닌 스레드에서는 무시합니다.
+     *
+     * @param sql 실행된 SQL
+     */
+    static void record(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+    }
+
+    /**
+     * 측정할 작업
+     */
+    @FunctionalInterface
+    public interface Measured {
+
+        void run() throws Exception;
+    }
+
+    private static final class Recording {
+
+        private final List<String> statements = new ArrayList<>();
+        private int selects;
+        private int inserts;
+        private int updates;
+        private int deletes;
+        private int others;
+
+        void add(String sql) {
+            String normalized = sql == null ? "" : sql.strip().replaceAll("\\s+", " ");
+            statements.add(normalized);
+            switch (keyword(normalized)) {
+                case "select", "with" -> selects++;
+                case "insert" -> inserts++;
+                case "update", "merge", "upsert" -> updates++;
+                case "delete" -> deletes++;
+                default -> others++;
+            }
+        }
+
+        QueryCount toQueryCount() {
+            return new QueryCount(selects, inserts, updates, deletes, others, List.copyOf(statements));
+        }
+
+        private static String keyword(String sql) {
+            int start = 0;
+            while (start < sql.length() && sql.charAt(start) == '(') {
+                start++;
+            }
+            int end = start;
+            while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+                end++;
+            }
+            return sql.substring(start, end).toLowerCase(Locale.ROOT);
+        }
+    }
+}
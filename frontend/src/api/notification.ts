@@ -0,0 +1,66 @@
+import client from "./client";
+import type { NotificationPage } from "../types/notification";
+
+/**
+ * 알림함 관련 API
+ *
+ * <p>알림함 조회, 안 읽은 알림 수 조회, 읽음 처리, 삭제 API를 제공합니다.
+ * 변경 API는 처리 후 안 읽은 알림 수를 반환합니다.
+ */
+export const notificationApi = {
+  /**
+   * 내 알림함을 최신순으로 조회합니다.
+   *
+   * @param {number | null} [cursor] - 이전 페이지의 nextCursor (없으면 처음부터)
+   * @param {number} [size=20] - 페이지 크기
+   * @returns {Promise<NotificationPage>} 알림 페이지
+   */
+  getNotifications: async (cursor?: number | null, size: number = 20): Promise<NotificationPage> => {
+    const response = await client.get<NotificationPage>("/notifications", {
+      params: { cursor: cursor ?? undefined, size },
+    });
+    return response.data;
+  },
+
+  /**
+   * 안 읽은 알림 수를 조회합니다.
+   *
+   * @returns {Promise<number>} 안 읽은 알림 수
+   */
+  getUnreadCount: async (): Promise<number> => {
+    const response = await client.get<number>("/notifications/unread-count");
+    return response.data;
+  },
+
+  /**
+   * 알림을 읽음 처리합니다.
+   *
+   * @param {number} notificationId - 알림 ID
+   * @returns {Promise<number>} 안 읽은 알림 수
+   */
+  markAsRead: async (notificationId: number): Promise<number> => {
+    const response = await client.patch<number>(`/notifications/${notificationId}/read`);
+    return response.data;
+  },
+
+  /**
+   * 내 알림을 모두 읽음 처리합니다.
+   *
+   * @returns {Promise<number>} 안 읽은 알림 수
+   */
+  markAllAsRead: async (): Promise<number> => {
+    const response = await client.patch<number>("/notifications/read-all");
+    return response.data;
+  },
+
+  /**
+   * 알림을 삭제합니다.
+   *
+   * @param {number} notificationId - 알림 ID
+   * @returns {Promise<number>} 안 읽은 알림 수
+   */
+  deleteNotification: async (notificationId: number): Promise<number> => {
+    const response = await client.delete<number>(`/notifications/${notificationId}`);
+    return response.data;
+  },
+};
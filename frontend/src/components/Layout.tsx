@@ -29,15 +29,16 @@ import {
   Toolbar,
   Typography,
 } from "@mui/material";
-import React, { useCallback, useState } from "react";
+import React, { useCallback, useEffect, useState } from "react";
 import { Outlet, useLocation, useNavigate } from "react-router-dom";
+import { notificationApi } from "../api/notification";
 import { useNotificationSocket } from "../hooks/useNotificationSocket";
-import type { Notification } from "../stores/notificationStore";
 import { useNotificationStore } from "../stores/notificationStore";
 import { useProjectStore } from "../stores/projectStore";
 import { useThemeStore } from "../stores/themeStore";
 import { useUserStore } from "../stores/userStore";
 import type { NavigationMenuItem } from "../types/common";
+import type { NotificationPush } from "../types/notification";
 import PasswordChangeDialog from "./PasswordChangeDialog";
 
 const DRAWER_WIDTH = 240;
@@ -54,21 +55,46 @@ const Layout = () => {
   const user = useUserStore((state) => state.user);
   const userId = user.userId;
 
-  const addNotification = useNotificationStore((state) => state.addNotification);
   const notifications = useNotificationStore((state) => state.notifications);
   const unreadCount = useNotificationStore((state) => state.unreadCount);
+  const hasMore = useNotificationStore((state) => state.hasMore);
+  const nextCursor = useNotificationStore((state) => state.nextCursor);
+  const stale = useNotificationStore((state) => state.stale);
+  const setPage = useNotificationStore((state) => state.setPage);
+  const setUnreadCount = useNotificationStore((state) => state.setUnreadCount);
+  const markStale = useNotificationStore((state) => state.markStale);
   const markAsRead = useNotificationStore((state) => state.markAsRead);
   const markAllAsRead = useNotificationStore((state) => state.markAllAsRead);
   const removeNotification = useNotificationStore((state) => state.removeNotification);
 
-  const handleNotification = useCallback((notification: Notification) => {
-    addNotification(notification);
-    setSnackbarMessage(notification.message);
+  // 접속하지 않은 동안 쌓인 알림이 있을 수 있으므로 로그인 사용자가 바뀌면 배지를 서버 값으로 맞춤
+  useEffect(() => {
+    if (!userId) return;
+    notificationApi.getUnreadCount()
+      .then(setUnreadCount)
+      .catch((error) => console.error("안 읽은 알림 수 조회 실패:", error));
+  }, [userId, setUnreadCount]);
+
+  const handleNotification = useCallback((notification: NotificationPush) => {
+    setUnreadCount(notification.unreadCount);
+    markStale();
+    setSnackbarMessage(
+      notification.count > 1 ? `${notification.message} (외 ${notification.count - 1}건)` : notification.message
+    );
     setSnackbarOpen(true);
-  }, [addNotification]);
+  }, [setUnreadCount, markStale]);
 
   useNotificationSocket(userId, handleNotification);
 
+  const loadNotifications = async (append: boolean) => {
+    try {
+      const page = await notificationApi.getNotifications(append ? nextCursor : null);
+      setPage(page, append);
+    } catch (error) {
+      console.error("알림함 조회 실패:", error);
+    }
+  };
+
   const menuItems: NavigationMenuItem[] = [
     { text: "내 대시보드", icon: <DashboardIcon />, path: "/dashboard" },
     { text: "프로젝트 관리", icon: <FolderIcon />, path: "/projects" },
@@ -119,6 +145,36 @@ const Layout = () => {
 
   const handleNotificationClick = (event: React.MouseEvent<HTMLElement>) => {
     setNotificationAnchor(event.currentTarget);
+    if (stale) {
+      loadNotifications(false);
+    }
+  };
+
+  const handleMarkAsRead = async (notificationId: number) => {
+    try {
+      setUnreadCount(await notificationApi.markAsRead(notificationId));
+      markAsRead(notificationId);
+    } catch (error) {
+      console.error("알림 읽음 처리 실패:", error);
+    }
+  };
+
+  const handleMarkAllAsRead = async () => {
+    try {
+      await notificationApi.markAllAsRead();
+      markAllAsRead();
+    } catch (error) {
+      console.error("알림 전체 읽음 처리 실패:", error);
+    }
+  };
+
+  const handleRemoveNotification = async (notificationId: number) => {
+    try {
+      setUnreadCount(await notificationApi.deleteNotification(notificationId));
+      removeNotification(notificationId);
+    } catch (error) {
+      console.error("알림 삭제 실패:", error);
+    }
   };
 
   const handleProfileClick = (event: React.MouseEvent<HTMLElement>) => {
@@ -208,7 +264,7 @@ const Layout = () => {
                     startIcon={<DoneAllIcon />}
                     onClick={(e) => {
                       e.stopPropagation();
-                      markAllAsRead();
+                      handleMarkAllAsRead();
                     }}
                     sx={{ textTransform: "none" }}
                   >
@@ -226,10 +282,10 @@ const Layout = () => {
               ) : (
                 notifications.map((notification) => (
                   <MenuItem
-                    key={notification.id || notification.timestamp}
+                    key={notification.notificationId}
                     onClick={() => {
-                      if (notification.id) {
-                        markAsRead(notification.id);
+                      if (!notification.read) {
+                        handleMarkAsRead(notification.notificationId);
                       }
                       handleMenuClose();
                       if (notification.type === "APPROVAL") {
@@ -255,6 +311,7 @@ const Layout = () => {
                           {notification.type === "APPROVAL" && "🔔 "}
                           {notification.type === "BOARD" && "📋 "}
                           {notification.message}
+                          {notification.count > 1 && ` (외 ${notification.count - 1}건)`}
                         </Typography>
                         {notification.createdAt && (
                           <Typography variant="caption" color="text.secondary">
@@ -266,9 +323,7 @@ const Layout = () => {
                         size="small"
                         onClick={(e) => {
                           e.stopPropagation();
-                          if (notification.id) {
-                            removeNotification(notification.id);
-                          }
+                          handleRemoveNotification(notification.notificationId);
                         }}
                         sx={{ ml: 1, alignSelf: "flex-start" }}
                       >
@@ -278,6 +333,20 @@ const Layout = () => {
                   </MenuItem>
                 ))
               )}
+              {hasMore && (
+                <Box sx={{ display: "flex", justifyContent: "center", py: 1 }}>
+                  <Button
+                    size="small"
+                    onClick={(e) => {
+                      e.stopPropagation();
+                      loadNotifications(true);
+                    }}
+                    sx={{ textTransform: "none" }}
+                  >
+                    더 보기
+                  </Button>
+                </Box>
+              )}
             </Box>
           </Menu>
 
@@ -1,6 +1,6 @@
 import { useEffect, useRef, useState } from "react";
 import { Client } from "@stomp/stompjs";
-import type { Notification } from "../stores/notificationStore";
+import type { NotificationPush } from "../types/notification";
 
 /**
  * [알림 WebSocket Hook]
@@ -10,7 +10,7 @@ import type { Notification } from "../stores/notificationStore";
  */
 export const useNotificationSocket = (
   userId: number | null,
-  onNotification: (notification: Notification) => void,
+  onNotification: (notification: NotificationPush) => void,
 ) => {
   const [connected, setConnected] = useState(false);
   const client = useRef<Client | null>(null);
@@ -49,7 +49,7 @@ export const useNotificationSocket = (
         client.current?.subscribe(`/sub/notification/${userId}`, (message) => {
           if (message.body) {
             try {
-              const notification: Notification = JSON.parse(message.body);
+              const notification: NotificationPush = JSON.parse(message.body);
               console.log("Notification received:", notification);
               onNotification(notification);
             } catch (error) {
@@ -21,6 +21,8 @@ import {
   CartesianGrid,
   Cell,
   Legend,
+  Line,
+  LineChart,
   Pie,
   PieChart,
   ResponsiveContainer,
@@ -30,12 +32,13 @@ import {
 } from "recharts";
 import client from "../api/client";
 import { useUserStore } from "../stores/userStore";
-import type { AdminDashboardStatistics } from "../types/admin";
+import type { AdminDashboardStatistics, AdminMetricSeries } from "../types/admin";
 
 const AdminDashboardPage = () => {
   // 상태 관리 섹션
   const user = useUserStore((state) => state.user);
   const [statistics, setStatistics] = useState<AdminDashboardStatistics | null>(null);
+  const [metrics, setMetrics] = useState<AdminMetricSeries | null>(null);
   const [loading, setLoading] = useState(true);
 
   // 데이터 로드 섹션
@@ -49,8 +52,12 @@ const AdminDashboardPage = () => {
   const fetchStatistics = async () => {
     try {
       setLoading(true);
-      const response = await client.get("/admin/dashboard");
+      const [response, metricsResponse] = await Promise.all([
+        client.get("/admin/dashboard"),
+        client.get("/admin/dashboard/metrics"),
+      ]);
       setStatistics(response.data);
+      setMetrics(metricsResponse.data);
     } catch (error) {
       console.error("관리자 대시보드 데이터 로드 실패:", error);
     } finally {
@@ -77,6 +84,16 @@ const AdminDashboardPage = () => {
   }
 
   // 차트 데이터 준비 섹션
+  const trendData = metrics
+    ? metrics.dates.map((date, index) => ({
+      date: date.slice(5),
+      activeUsers: metrics.activeUsers[index],
+      inProgressProjects: metrics.inProgressProjects[index],
+      totalTasks: metrics.totalTasks[index],
+      newApprovals: metrics.newApprovals[index],
+    }))
+    : [];
+
   const userStatusData = statistics
     ? [
       { name: "활성", value: statistics.activeUsers, color: "#4caf50" },
@@ -143,6 +160,11 @@ const AdminDashboardPage = () => {
         <Typography variant="h4" fontWeight="bold" gutterBottom>
           관리자 대시보드
         </Typography>
+        {statistics && (
+          <Typography variant="body2" color="textSecondary">
+            통계 기준 시각: {new Date(statistics.refreshedAt).toLocaleString("ko-KR")}
+          </Typography>
+        )}
       </Box>
 
       {statistics && (
@@ -368,6 +390,34 @@ const AdminDashboardPage = () => {
             </Grid>
           </Grid>
 
+          {/* 일별 추이 라인 차트 섹션 */}
+          <Card sx={{ mb: 4 }}>
+            <CardContent>
+              <Typography variant="h6" gutterBottom fontWeight="bold">
+                최근 30일 추이
+              </Typography>
+              {trendData.length > 0 ? (
+                <ResponsiveContainer width="100%" height={300}>
+                  <LineChart data={trendData}>
+                    <CartesianGrid strokeDasharray="3 3" />
+                    <XAxis dataKey="date" />
+                    <YAxis />
+                    <Tooltip />
+                    <Legend />
+                    <Line type="monotone" dataKey="activeUsers" name="활성 사용자" stroke="#4caf50" dot={false} />
+                    <Line type="monotone" dataKey="inProgressProjects" name="진행중 프로젝트" stroke="#2196f3" dot={false} />
+                    <Line type="monotone" dataKey="totalTasks" name="전체 업무" stroke="#ff9800" dot={false} />
+                    <Line type="monotone" dataKey="newApprovals" name="일별 결재 기안" stroke="#9c27b0" dot={false} />
+                  </LineChart>
+                </ResponsiveContainer>
+              ) : (
+                <Box display="flex" justifyContent="center" alignItems="center" height={300}>
+                  <Typography color="textSecondary">데이터가 없습니다.</Typography>
+                </Box>
+              )}
+            </CardContent>
+          </Card>
+
           {/* 상세 통계 카드 섹션 */}
           <Grid container spacing={3}>
             <Grid size={{ xs: 12, md: 6 }}>
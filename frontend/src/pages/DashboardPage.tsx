@@ -74,15 +74,11 @@ const DashboardPage = () => {
         }
 
         try {
+          // 서버에서 마감일 순으로 정렬된 첫 페이지를 받음
           const tasksResponse = await client.get("/dashboard/my-tasks");
           if (tasksResponse.data) {
-            const tasks = tasksResponse.data;
-            const sortedTasks = tasks.sort((a: MyTask, b: MyTask) => {
-              if (a.daysLeft === null) return 1;
-              if (b.daysLeft === null) return -1;
-              return a.daysLeft - b.daysLeft;
-            });
-            setMyTasks(sortedTasks);
+            const tasks: MyTask[] = tasksResponse.data.tasks ?? [];
+            setMyTasks(tasks);
           }
         } catch (taskError) {
           console.warn("내 업무 목록 로드 실패:", taskError);
@@ -377,6 +377,14 @@ const KanbanBoardPage = () => {
                 return (total - used).toLocaleString();
               })()}원
             </Typography>
+            <Typography variant="body2" color="text.secondary">
+              {(() => {
+                const done = boardData.doneTasks ?? 0;
+                const total = (boardData.todoTasks ?? 0) + (boardData.inProgressTasks ?? 0) + done;
+                const progress = total > 0 ? Math.round((done / total) * 100) : 0;
+                return `진행률 : ${done}/${total} (${progress}%) · 마감 초과 ${boardData.overdueTasks ?? 0} · 미배정 ${boardData.unassignedTasks ?? 0}`;
+              })()}
+            </Typography>
           </Box>
         </Paper>
 
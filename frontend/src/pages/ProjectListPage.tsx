@@ -8,6 +8,7 @@ import {
   CardContent,
   Chip,
   Container,
+  LinearProgress,
   Typography,
 } from "@mui/material";
 import Grid from "@mui/material/Grid";
@@ -29,6 +30,11 @@ interface Project {
   status: ProjectStatus;
   totalBudget?: number;
   usedBudget?: number;
+  todoTasks: number;
+  inProgressTasks: number;
+  doneTasks: number;
+  unassignedTasks: number;
+  overdueTasks: number;
 }
 
 /**
@@ -161,6 +167,31 @@ const ProjectListPage = () => {
                     사용 예산 : {project.usedBudget != null ? Number(project.usedBudget).toLocaleString() : "0"}원
                   </Typography>
                 </Box>
+                {/* 업무 진행률 (project_stats 요약 값) */}
+                <Box sx={{ mt: 1.5 }}>
+                  {(() => {
+                    const totalTasks = project.todoTasks + project.inProgressTasks + project.doneTasks;
+                    const progress = totalTasks > 0 ? Math.round((project.doneTasks / totalTasks) * 100) : 0;
+                    return (
+                      <>
+                        <Box display="flex" justifyContent="space-between">
+                          <Typography variant="body2" color="text.secondary">
+                            진행률 : {project.doneTasks}/{totalTasks}
+                          </Typography>
+                          <Typography variant="body2" color="text.secondary">
+                            {progress}%
+                          </Typography>
+                        </Box>
+                        <LinearProgress variant="determinate" value={progress} sx={{ mt: 0.5, borderRadius: 1 }} />
+                        {(project.overdueTasks > 0 || project.unassignedTasks > 0) && (
+                          <Typography variant="caption" color="warning.main" sx={{ display: "block", mt: 0.5 }}>
+                            마감 초과 {project.overdueTasks} · 미배정 {project.unassignedTasks}
+                          </Typography>
+                        )}
+                      </>
+                    );
+                  })()}
+                </Box>
               </CardContent>
               <CardActions>
                 <Button
@@ -1,99 +1,75 @@
 import { create } from "zustand";
-import { persist } from "zustand/middleware";
+import type { NotificationItem, NotificationPage } from "../types/notification";
 
-// 알림 타입 (WebSocket에서 받는 형식 + 클라이언트 상태)
-export interface Notification {
-  type: string; // 알림 유형 (예: APPROVAL, TASK, SYSTEM)
-  message: string; // 알림 내용
-  targetId?: number; // 클릭 시 이동할 ID (백엔드에서 선택적으로 제공)
-  createdAt?: string; // 백엔드에서 받은 생성 시간
-  id?: string; // 클라이언트에서 생성하는 임시 ID (store에서 추가)
-  timestamp?: number; // 클라이언트에서 받은 시간 (ms, store에서 추가)
-  read?: boolean; // 읽음 여부 (store에서 추가)
-}
-
-// Notification Store 인터페이스
+// Notification Store 인터페이스 (알림함은 서버가 원본, store는 화면에 보여줄 페이지만 보관)
 interface NotificationStore {
-  notifications: Notification[];
+  notifications: NotificationItem[];
   unreadCount: number;
-  addNotification: (notification: Notification) => void;
-  markAsRead: (id: string) => void;
+  hasMore: boolean;
+  nextCursor: number | null;
+  stale: boolean; // 새 알림이 도착해 목록을 다시 불러와야 하는지 여부
+  setPage: (page: NotificationPage, append: boolean) => void;
+  setUnreadCount: (unreadCount: number) => void;
+  markStale: () => void;
+  markAsRead: (notificationId: number) => void;
   markAllAsRead: () => void;
-  removeNotification: (id: string) => void;
+  removeNotification: (notificationId: number) => void;
   clearAll: () => void;
-  setNotifications: (notifications: Notification[]) => void;
-  // TODO: 백엔드 API 연동 필요
-  // fetchNotifications: () => Promise<void>;
-  // markAsReadOnServer: (id: string) => Promise<void>;
-  // removeNotificationOnServer: (id: string) => Promise<void>;
 }
 
-// 초기 상태
-const initialNotifications: Notification[] = [];
-
 // Notification Store 생성
-export const useNotificationStore = create<NotificationStore>()(
-  persist(
-    (set) => ({
-      notifications: initialNotifications,
-      unreadCount: 0,
+export const useNotificationStore = create<NotificationStore>()((set) => ({
+  notifications: [],
+  unreadCount: 0,
+  hasMore: false,
+  nextCursor: null,
+  stale: true,
+
+  // 알림함 페이지 반영 (append면 다음 페이지를 뒤에 붙임)
+  setPage: (page, append) => {
+    set((state) => ({
+      notifications: append ? [...state.notifications, ...page.notifications] : page.notifications,
+      hasMore: page.hasMore,
+      nextCursor: page.nextCursor,
+      unreadCount: page.unreadCount,
+      stale: false,
+    }));
+  },
 
-      // 알림 추가 (WebSocket에서 받은 알림)
-      addNotification: (notification) => {
-        const newNotification: Notification = {
-          ...notification,
-          id: notification.id || `temp-${Date.now()}-${Math.random()}`,
-          timestamp: Date.now(),
-          read: false,
-        };
-        
-        set((state) => ({
-          notifications: [newNotification, ...state.notifications],
-          unreadCount: state.unreadCount + 1,
-        }));
-      },
+  setUnreadCount: (unreadCount) => {
+    set({ unreadCount });
+  },
 
-      // 읽음 처리
-      markAsRead: (id) => {
-        set((state) => {
-          const updated = state.notifications.map((notif) =>
-            notif.id === id ? { ...notif, read: true } : notif
-          );
-          const unreadCount = updated.filter((notif) => !notif.read).length;
-          return { notifications: updated, unreadCount };
-        });
-      },
+  markStale: () => {
+    set({ stale: true });
+  },
 
-      // 전체 읽음 처리
-      markAllAsRead: () => {
-        set((state) => ({
-          notifications: state.notifications.map((notif) => ({ ...notif, read: true })),
-          unreadCount: 0,
-        }));
-      },
+  // 읽음 처리 (서버 처리 후 화면 반영)
+  markAsRead: (notificationId) => {
+    set((state) => ({
+      notifications: state.notifications.map((notif) =>
+        notif.notificationId === notificationId ? { ...notif, read: true } : notif
+      ),
+    }));
+  },
 
-      // 알림 삭제
-      removeNotification: (id) => {
-        set((state) => {
-          const updated = state.notifications.filter((notif) => notif.id !== id);
-          const unreadCount = updated.filter((notif) => !notif.read).length;
-          return { notifications: updated, unreadCount };
-        });
-      },
+  // 전체 읽음 처리
+  markAllAsRead: () => {
+    set((state) => ({
+      notifications: state.notifications.map((notif) => ({ ...notif, read: true })),
+      unreadCount: 0,
+    }));
+  },
 
-      // 전체 삭제
-      clearAll: () => {
-        set({ notifications: [], unreadCount: 0 });
-      },
+  // 알림 삭제
+  removeNotification: (notificationId) => {
+    set((state) => ({
+      notifications: state.notifications.filter((notif) => notif.notificationId !== notificationId),
+    }));
+  },
 
-      // 알림 목록 설정 (백엔드 API에서 받은 데이터로 초기화)
-      setNotifications: (notifications) => {
-        const unreadCount = notifications.filter((notif) => !notif.read).length;
-        set({ notifications, unreadCount });
-      },
-    }),
-    {
-      name: "notification-storage",
-    }
-  )
-);
+  // 전체 초기화 (로그아웃)
+  clearAll: () => {
+    set({ notifications: [], unreadCount: 0, hasMore: false, nextCursor: null, stale: true });
+  },
+}));
@@ -24,6 +24,7 @@ export interface AdminUserStatistics {
   adminUsers: number;
   managerUsers: number;
   memberUsers: number;
+  refreshedAt: string;
 }
 
 export interface AdminDashboardStatistics {
@@ -50,4 +51,23 @@ export interface AdminDashboardStatistics {
   generalManagerUsers: number;
   directorUsers: number;
   executiveUsers: number;
+  refreshedAt: string;
+}
+
+export interface AdminMetricSeries {
+  from: string;
+  to: string;
+  dates: string[];
+  totalUsers: number[];
+  activeUsers: number[];
+  pendingUsers: number[];
+  totalProjects: number[];
+  planningProjects: number[];
+  inProgressProjects: number[];
+  completedProjects: number[];
+  onHoldProjects: number[];
+  cancelledProjects: number[];
+  totalTasks: number[];
+  totalApprovals: number[];
+  newApprovals: number[];
 }
@@ -28,6 +28,11 @@ export interface BoardData {
   usedBudget?: number;
   startDate?: string;
   endDate?: string;
+  todoTasks?: number; // 진행 현황 요약
+  inProgressTasks?: number;
+  doneTasks?: number;
+  unassignedTasks?: number;
+  overdueTasks?: number;
 }
 
 export interface Project {
@@ -0,0 +1,36 @@
+// src/types/notification.ts
+
+/**
+ * WebSocket(/sub/notification/{userId})으로 받는 실시간 알림
+ */
+export interface NotificationPush {
+  type: string; // 알림 유형 (예: APPROVAL, BOARD, SYSTEM)
+  message: string; // 알림 내용
+  targetId?: number | null; // 클릭 시 이동할 ID (문서 ID, 프로젝트 ID)
+  count: number; // 합쳐진 알림 수
+  unreadCount: number; // 안 읽은 알림 수 (배지 표시용)
+  createdAt: string;
+}
+
+/**
+ * 알림함 항목
+ */
+export interface NotificationItem {
+  notificationId: number;
+  type: string;
+  message: string;
+  targetId?: number | null;
+  count: number; // 합쳐진 알림 수 (1이면 단건)
+  read: boolean;
+  createdAt: string;
+}
+
+/**
+ * 알림함 페이지 (최신순 커서 기반 페이지네이션)
+ */
+export interface NotificationPage {
+  notifications: NotificationItem[];
+  hasMore: boolean;
+  nextCursor: number | null;
+  unreadCount: number;
+}